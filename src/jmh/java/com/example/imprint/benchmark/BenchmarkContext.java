@@ -0,0 +1,170 @@
+package com.example.imprint.benchmark;
+
+import com.example.imprint.ImprintApplication;
+import com.example.imprint.service.post.search.PostSearchIndexSynchronizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 스프링 컨텍스트 (인메모리 H2) 와 데이터 적재
+// - JPA 를 거치지 않고 JDBC 배치로 넣어서 100만 건도 빠르게 준비한다.
+// - 게시물의 절반은 1번 게시판(인기 게시판)에 몰아서 넣는다.
+public final class BenchmarkContext {
+
+    public static final int USERS = 1_000;
+    public static final int BOARDS = 20;
+    public static final long HOT_BOARD_ID = 1L;
+    public static final String RECEIVER_EMAIL = "bench-user-1@imprint.com";
+    public static final String ADMIN_EMAIL = "bench-admin@imprint.com";
+
+    public static final String[] KEYWORDS = {"자동차", "여행", "맛집", "개발", "spring", "캠핑", "게임", "육아"};
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(int posts) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ImprintApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:imprint-bench-" + posts + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.sql.init.mode=never",
+                        "spring.h2.console.enabled=false",
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "imprint.monitoring.sql.enabled=false")
+                .run();
+
+        seed(context.getBean(JdbcTemplate.class), posts);
+
+        // 시작 시점에는 데이터가 없었으므로 적재 후 검색 색인을 다시 만든다
+        context.getBean(PostSearchIndexSynchronizer.class).rebuild();
+
+        return context;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int posts) {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().minusSeconds(posts);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base);
+            users.add(new Object[]{"bench-user-" + i + "@imprint.com", "password", "bench" + i, "사용자" + i, 0, "ACTIVE", createdAt, createdAt});
+        }
+        insertUsers(jdbcTemplate, users);
+
+        List<Object[]> boards = new ArrayList<>();
+        for (int i = 1; i <= BOARDS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base);
+            boards.add(new Object[]{"벤치마크 게시판 " + i, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO boards (name, created_at, updated_at) VALUES (?, ?, ?)", boards);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < posts; i++) {
+            long boardId = (i % 2 == 0) ? HOT_BOARD_ID : 2 + random.nextInt(BOARDS - 1);
+            long writerId = 1 + random.nextInt(USERS);
+            String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+
+            batch.add(new Object[]{boardId, writerId, keyword + " 이야기 " + i,
+                    "오늘의 " + keyword + " 관련 게시물 본문입니다. 번호 " + i, createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE) {
+                insertPosts(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        insertPosts(jdbcTemplate, batch);
+        batch.clear();
+
+        // 쪽지는 게시물 수의 1/10 을 무작위 사용자 사이에 보낸다
+        for (int i = 0; i < posts / 10; i++) {
+            long senderId = 1 + random.nextInt(USERS);
+            long receiverId = 1 + random.nextInt(USERS);
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+
+            batch.add(new Object[]{"벤치마크 쪽지 " + i, senderId, receiverId, createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE) {
+                insertMessages(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        insertMessages(jdbcTemplate, batch);
+    }
+
+    // 한 사용자(RECEIVER_EMAIL, 1번)의 받은/보낸 쪽지함에 각각 messages 건을 넣는다
+    public static void seedMailbox(ConfigurableApplicationContext context, int messages) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Random random = new Random(7);
+        LocalDateTime base = LocalDateTime.now().minusSeconds(messages);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < messages; i++) {
+            long otherId = 2 + random.nextInt(USERS - 1);
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+
+            batch.add(new Object[]{"받은 쪽지 " + i, otherId, 1L, createdAt, createdAt});
+            batch.add(new Object[]{"보낸 쪽지 " + i, 1L, otherId, createdAt, createdAt});
+
+            if (batch.size() >= BATCH_SIZE) {
+                insertMessages(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        insertMessages(jdbcTemplate, batch);
+    }
+
+    // 회원을 total 명까지 늘리고 관리자(ADMIN_EMAIL) 한 명을 추가한다
+    public static void seedUsers(ConfigurableApplicationContext context, int total) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = USERS + 1; i <= total; i++) {
+            batch.add(new Object[]{"bench-user-" + i + "@imprint.com", "password", "bench" + i, "사용자" + i, 0, "ACTIVE", createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE) {
+                insertUsers(jdbcTemplate, batch);
+                batch.clear();
+            }
+        }
+        batch.add(new Object[]{ADMIN_EMAIL, "password", "bench-admin", "관리자", 2, "ACTIVE", createdAt, createdAt});
+        insertUsers(jdbcTemplate, batch);
+    }
+
+    private static void insertUsers(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO users (email, password, nickname, name, role, status, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static void insertPosts(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO posts (board_id, writer_id, title, content, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static void insertMessages(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO messages (content, sender_id, receiver_id, is_read, " +
+                    "deleted_by_sender, deleted_by_receiver, is_stored_by_sender, is_stored_by_receiver, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, FALSE, FALSE, FALSE, FALSE, FALSE, ?, ?)", rows);
+        }
+    }
+}
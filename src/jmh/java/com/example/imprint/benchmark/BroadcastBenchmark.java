@@ -0,0 +1,112 @@
+package com.example.imprint.benchmark;
+
+import com.example.imprint.domain.message.MessageCursorResponseDto;
+import com.example.imprint.service.message.MessageService;
+import com.example.imprint.service.message.broadcast.BroadcastService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 전체 공지: 공지 한 건 저장(fan-out-on-read)과 회원마다 쪽지 한 건씩 넣는 방식(fan-out-on-write) 비교
+// - broadcastSend 는 BroadcastService.send (회원 수와 상관없이 INSERT 한 번)
+// - fanOutPerRecipient 는 회원 수만큼 messages 행을 JDBC 배치로 넣는 경우 (JPA 보다 빠른, 가장 유리한 조건)
+// - inboxFirstPage 는 공지가 섞인 받은 쪽지함 첫 페이지 조회
+// 실행: ./gradlew jmh -PjmhIncludes=BroadcastBenchmark
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BroadcastBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final String FAN_OUT_CONTENT = "회원별 공지";
+
+    @Param({"100000", "1000000"})
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private BroadcastService broadcastService;
+    private MessageService messageService;
+    private JdbcTemplate jdbcTemplate;
+
+    private long adminId;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(10_000);
+        BenchmarkContext.seedUsers(context, users);
+
+        broadcastService = context.getBean(BroadcastService.class);
+        messageService = context.getBean(MessageService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, BenchmarkContext.ADMIN_EMAIL);
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE id <> ? ORDER BY id", Long.class, adminId);
+    }
+
+    // 회원별로 넣은 쪽지는 반복마다 지워서 다음 반복이 같은 크기의 테이블에서 시작하게 한다
+    @TearDown(Level.Iteration)
+    public void cleanUpFanOut() {
+        jdbcTemplate.update("DELETE FROM messages WHERE content = ?", FAN_OUT_CONTENT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Long broadcastSend() {
+        return broadcastService.send(BenchmarkContext.ADMIN_EMAIL, "벤치마크 전체 공지");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public int fanOutPerRecipient() {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (Long userId : userIds) {
+            batch.add(new Object[]{FAN_OUT_CONTENT, adminId, userId, createdAt, createdAt});
+
+            if (batch.size() == BATCH_SIZE) {
+                inserted += insertMessages(batch);
+                batch.clear();
+            }
+        }
+        return inserted + insertMessages(batch);
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    public MessageCursorResponseDto inboxFirstPage() {
+        return messageService.getReceivedMessages(BenchmarkContext.RECEIVER_EMAIL, null, 20);
+    }
+
+    private int insertMessages(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO messages (content, sender_id, receiver_id, is_read, " +
+                "deleted_by_sender, deleted_by_receiver, is_stored_by_sender, is_stored_by_receiver, created_at, updated_at) " +
+                "VALUES (?, ?, ?, FALSE, FALSE, FALSE, FALSE, FALSE, ?, ?)", rows);
+        return rows.size();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.imprint.benchmark;
+
+import com.example.imprint.service.ingest.BulkIngestService;
+import com.example.imprint.service.post.search.PostSearchIndexSynchronizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 게시물/댓글 대량 적재 100만 건 처리량 (초당 건수)
+// - NDJSON 파일을 미리 만들어 두고 BulkIngestService 로 스트리밍해서 넣는다. (시퀀스 id + JDBC 배치 + 묶음별 커밋)
+// - @OperationsPerInvocation 으로 호출 한 번을 ROWS 건으로 나눠서 건당 시간(us/op)을 낸다. 초당 건수 = 1,000,000 / 점수
+//   (적재 로그에도 묶음 수, 걸린 시간, 초당 건수가 남는다)
+// - 반복마다 넣은 행을 지우고 검색 색인을 다시 만들어서 같은 크기의 테이블에서 시작한다.
+// 실행: ./gradlew jmh -PjmhIncludes=IngestBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IngestBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final String TITLE_PREFIX = "적재 게시물 ";
+    private static final String COMMENT_PREFIX = "적재 댓글 ";
+
+    private ConfigurableApplicationContext context;
+    private BulkIngestService bulkIngestService;
+    private JdbcTemplate jdbcTemplate;
+
+    private Path postsFile;
+    private Path commentsFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start(10_000);
+        bulkIngestService = context.getBean(BulkIngestService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        long[] postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        Random random = new Random(42);
+        postsFile = Files.createTempFile("imprint-ingest-posts", ".ndjson");
+        commentsFile = Files.createTempFile("imprint-ingest-comments", ".ndjson");
+
+        try (BufferedWriter posts = Files.newBufferedWriter(postsFile, StandardCharsets.UTF_8);
+             BufferedWriter comments = Files.newBufferedWriter(commentsFile, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < ROWS; i++) {
+                long boardId = 1 + random.nextInt(BenchmarkContext.BOARDS);
+                long writerId = 1 + random.nextInt(BenchmarkContext.USERS);
+                String keyword = BenchmarkContext.KEYWORDS[random.nextInt(BenchmarkContext.KEYWORDS.length)];
+
+                posts.write("{\"boardId\":" + boardId + ",\"writerId\":" + writerId
+                        + ",\"title\":\"" + TITLE_PREFIX + i + "\",\"content\":\"예전 포럼의 " + keyword + " 게시물 " + i + "\"}");
+                posts.newLine();
+
+                comments.write("{\"postId\":" + postIds[random.nextInt(postIds.length)] + ",\"writerId\":" + writerId
+                        + ",\"content\":\"" + COMMENT_PREFIX + i + "\"}");
+                comments.newLine();
+            }
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM comments WHERE content LIKE ?", COMMENT_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM posts WHERE title LIKE ?", TITLE_PREFIX + "%");
+        context.getBean(PostSearchIndexSynchronizer.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(postsFile);
+        Files.deleteIfExists(commentsFile);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BulkIngestService.Report ingestPosts() throws IOException {
+        try (InputStream input = Files.newInputStream(postsFile)) {
+            return bulkIngestService.ingestPosts(input);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public BulkIngestService.Report ingestComments() throws IOException {
+        try (InputStream input = Files.newInputStream(commentsFile)) {
+            return bulkIngestService.ingestComments(input);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.imprint.benchmark;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.page.PaginationDto;
+import com.example.imprint.domain.post.PostDto;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.post.PostMapper;
+import com.example.imprint.domain.user.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+// 스프링 컨텍스트 없이 매퍼/페이지네이션 계산만 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapperBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public long totalElements;
+
+    private PostEntity post;
+    private Pageable firstPage;
+    private Pageable deepPage;
+
+    @Setup
+    public void setUp() {
+        UserEntity writer = UserEntity.builder()
+                .email("bench@imprint.com")
+                .password("password")
+                .nickname("bench")
+                .build();
+
+        post = PostEntity.builder()
+                .board(new BoardEntity("벤치마크 게시판"))
+                .writer(writer)
+                .title("벤치마크 제목")
+                .content("벤치마크 본문")
+                .build();
+
+        firstPage = PageRequest.of(0, 20);
+        deepPage = PageRequest.of((int) (totalElements / 20) - 1, 20);
+    }
+
+    @Benchmark
+    public PostDto.Response postMapper() {
+        return PostMapper.fromEntityToDto(post);
+    }
+
+    @Benchmark
+    public PaginationDto paginationFirstPage() {
+        return PaginationDto.of(firstPage, totalElements);
+    }
+
+    @Benchmark
+    public PaginationDto paginationDeepPage() {
+        return PaginationDto.of(deepPage, totalElements);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.imprint.benchmark;
+
+import com.example.imprint.domain.message.MessageCursorResponseDto;
+import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.service.message.MessageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 쪽지함 조회: 예전 전체 목록 조회와 커서 조회 비교 (사용자 한 명의 받은/보낸 쪽지함에 각각 messages 건)
+// - fullList* 는 예전 /message/list, /message/sent 경로 (삭제 안 된 쪽지를 전부 읽어서 DTO 로 변환)
+// - cursor*FirstPage 는 첫 페이지, cursor*DeepPage 는 목록 중간쯤의 커서로 이어서 조회
+// 실행: ./gradlew jmh -PjmhIncludes=MessageBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MessageBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000"})
+    public int messages;
+
+    private ConfigurableApplicationContext context;
+    private MessageService messageService;
+    private MessageRepository messageRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    private String receivedDeepCursor;
+    private String sentDeepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(10_000);
+        BenchmarkContext.seedMailbox(context, messages);
+
+        messageService = context.getBean(MessageService.class);
+        messageRepository = context.getBean(MessageRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+
+        receivedDeepCursor = walk(true, messages / 2 / PAGE_SIZE);
+        sentDeepCursor = walk(false, messages / 2 / PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<MessageResponseDto> fullListReceived() {
+        return readOnlyTransaction.execute(status -> messageRepository
+                .findAllByReceiverEmailAndDeletedByReceiverFalseOrderByCreatedAtDesc(BenchmarkContext.RECEIVER_EMAIL)
+                .stream()
+                .map(MessageResponseDto::from)
+                .toList());
+    }
+
+    @Benchmark
+    public List<MessageResponseDto> fullListSent() {
+        return readOnlyTransaction.execute(status -> messageRepository
+                .findAllBySenderEmailAndDeletedBySenderFalseOrderByCreatedAtDesc(BenchmarkContext.RECEIVER_EMAIL)
+                .stream()
+                .map(MessageResponseDto::from)
+                .toList());
+    }
+
+    @Benchmark
+    public MessageCursorResponseDto cursorReceivedFirstPage() {
+        return messageService.getReceivedMessages(BenchmarkContext.RECEIVER_EMAIL, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public MessageCursorResponseDto cursorReceivedDeepPage() {
+        return messageService.getReceivedMessages(BenchmarkContext.RECEIVER_EMAIL, receivedDeepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public MessageCursorResponseDto cursorSentFirstPage() {
+        return messageService.getSentMessages(BenchmarkContext.RECEIVER_EMAIL, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public MessageCursorResponseDto cursorSentDeepPage() {
+        return messageService.getSentMessages(BenchmarkContext.RECEIVER_EMAIL, sentDeepCursor, PAGE_SIZE);
+    }
+
+    // 첫 페이지부터 pages 만큼 넘겨서 중간쯤의 다음 커서를 구한다
+    private String walk(boolean received, int pages) {
+        String cursor = null;
+        for (int i = 0; i < pages; i++) {
+            MessageCursorResponseDto page = received
+                    ? messageService.getReceivedMessages(BenchmarkContext.RECEIVER_EMAIL, cursor, PAGE_SIZE)
+                    : messageService.getSentMessages(BenchmarkContext.RECEIVER_EMAIL, cursor, PAGE_SIZE);
+            cursor = page.nextCursor();
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.imprint.benchmark;
+
+import com.example.imprint.domain.message.MessageCursorResponseDto;
+import com.example.imprint.domain.post.PostDto;
+import com.example.imprint.service.message.MessageService;
+import com.example.imprint.service.post.PostService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+// 적재된 인메모리 H2 위에서 서비스 조회 경로를 측정
+// - 처리량과 지연 분포(SampleTime: p50/p90/p99)를 함께 본다.
+// - 인기 게시판(1번)에 게시물의 절반이 몰려 있으므로 마지막 페이지가 가장 깊은 오프셋이다.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private MessageService messageService;
+
+    private Pageable firstPage;
+    private Pageable deepPage;
+    private int keywordIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(posts);
+        postService = context.getBean(PostService.class);
+        messageService = context.getBean(MessageService.class);
+
+        firstPage = PageRequest.of(0, PAGE_SIZE);
+        deepPage = PageRequest.of(posts / 2 / PAGE_SIZE - 1, PAGE_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PostDto.Response> postListFirstPage() {
+        return postService.getPostList(BenchmarkContext.HOT_BOARD_ID, firstPage);
+    }
+
+    @Benchmark
+    public Page<PostDto.Response> postListDeepPage() {
+        return postService.getPostList(BenchmarkContext.HOT_BOARD_ID, deepPage);
+    }
+
+    @Benchmark
+    public PostDto.cursorResponse postListCursorFirstPage() {
+        return postService.getPostList(BenchmarkContext.HOT_BOARD_ID, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void searchPosts(Blackhole blackhole) {
+        String keyword = BenchmarkContext.KEYWORDS[keywordIndex++ % BenchmarkContext.KEYWORDS.length];
+        blackhole.consume(postService.searchPosts(keyword, 1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public MessageCursorResponseDto receivedMessages() {
+        return messageService.getReceivedMessages(BenchmarkContext.RECEIVER_EMAIL, null, PAGE_SIZE);
+    }
+}
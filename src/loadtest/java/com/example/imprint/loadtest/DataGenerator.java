@@ -0,0 +1,190 @@
+package com.example.imprint.loadtest;
+
+import com.example.imprint.ImprintApplication;
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.message.report.ReportEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.repository.board.BoardRepository;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.report.ReportRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+// 부하 테스트용 커뮤니티 데이터 생성기
+// - 리포지토리를 통해 게시판/회원/게시물/댓글/쪽지/신고를 넣는다. (엔티티 매핑, 감사 필드가 실제와 같게 채워짐)
+// - 앞쪽 게시판/회원일수록 더 많이 선택되도록 치우치게 뽑는다. (인기 게시판, 헤비 유저)
+// - 회원은 loadtest-user-{n}@imprint.com / LoadDriver.PASSWORD 로 로그인할 수 있다.
+//
+// 실행: ./gradlew seedData -Pargs="--posts=100000 --users=2000"
+// 앱과 같은 DB(application.yml)에 넣으므로 앱은 생성이 끝난 뒤 (재)시작해야 검색 색인/카운터가 새 데이터를 반영한다.
+@Slf4j
+public class DataGenerator {
+
+    static final String EMAIL_FORMAT = "loadtest-user-%d@imprint.com";
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    // 클수록 앞쪽 항목에 더 몰린다 (1 이면 균등)
+    private static final double SKEW = 3.0;
+
+    private static final String[] WORDS = {
+            "자동차", "여행", "맛집", "개발", "spring", "캠핑", "게임", "육아", "주식", "운동",
+            "영화", "음악", "고양이", "강아지", "요리", "자전거", "사진", "독서", "커피", "등산"
+    };
+
+    private static final String[] REPORT_CATEGORIES = {"SPAM", "ABUSE", "ADVERTISEMENT", "ETC"};
+
+    private final LoadTestOptions options;
+    private final Random random;
+
+    private final UserRepository userRepository;
+    private final BoardRepository boardRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MessageRepository messageRepository;
+    private final ReportRepository reportRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> boardIds = new ArrayList<>();
+    private final List<Long> postIds = new ArrayList<>();
+
+    DataGenerator(LoadTestOptions options, ConfigurableApplicationContext context) {
+        this.options = options;
+        this.random = new Random(options.getLong("seed", 42));
+
+        this.userRepository = context.getBean(UserRepository.class);
+        this.boardRepository = context.getBean(BoardRepository.class);
+        this.postRepository = context.getBean(PostRepository.class);
+        this.commentRepository = context.getBean(CommentRepository.class);
+        this.messageRepository = context.getBean(MessageRepository.class);
+        this.reportRepository = context.getBean(ReportRepository.class);
+        this.entityManager = context.getBean(EntityManager.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    public static void main(String[] args) {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ImprintApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "spring.jpa.properties.hibernate.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.jdbc=OFF",
+                        "imprint.monitoring.sql.enabled=false")
+                .run()) {
+            new DataGenerator(options, context).generate();
+        }
+    }
+
+    void generate() {
+        int users = options.getInt("users", 2_000);
+        int boards = options.getInt("boards", 20);
+        int posts = options.getInt("posts", 100_000);
+        int comments = options.getInt("comments", posts * 3);
+        int messages = options.getInt("messages", posts / 2);
+        int reports = options.getInt("reports", users / 2);
+
+        if (userRepository.findByEmail(EMAIL_FORMAT.formatted(1)).isPresent()) {
+            throw new IllegalStateException("이미 부하 테스트 데이터가 있습니다. 빈 DB 에서 실행해주세요.");
+        }
+
+        long startedAt = System.currentTimeMillis();
+
+        // 비밀번호 해시는 비싸므로 한 번만 계산해서 모든 회원이 같이 쓴다
+        String password = new BCryptPasswordEncoder().encode(LoadDriver.PASSWORD);
+
+        insert("users", users, userIds, i -> userRepository.save(UserEntity.builder()
+                .email(EMAIL_FORMAT.formatted(i + 1))
+                .password(password)
+                .nickname("lt" + (i + 1))
+                .name("부하테스트" + (i + 1))
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build()).getId());
+
+        insert("boards", boards, boardIds, i -> boardRepository.save(
+                new BoardEntity("부하테스트 게시판 " + (i + 1))).getId());
+
+        insert("posts", posts, postIds, i -> {
+            String keyword = word();
+            return postRepository.save(PostEntity.builder()
+                    .board(boardRepository.getReferenceById(skewed(boardIds)))
+                    .writer(userRepository.getReferenceById(skewed(userIds)))
+                    .title(keyword + " 이야기 " + (i + 1))
+                    .content("오늘의 " + keyword + " " + word() + " " + word() + " 관련 글입니다.")
+                    .build()).getId();
+        });
+
+        // 댓글은 게시물에 고르게 달고, 작성자만 치우치게 뽑는다
+        insert("comments", comments, null, i -> commentRepository.save(CommentEntity.builder()
+                .post(postRepository.getReferenceById(postIds.get(random.nextInt(postIds.size()))))
+                .writer(userRepository.getReferenceById(skewed(userIds)))
+                .content(word() + " 댓글 " + (i + 1))
+                .build()).getId());
+
+        insert("messages", messages, null, i -> messageRepository.save(MessageEntity.builder()
+                .sender(userRepository.getReferenceById(skewed(userIds)))
+                .receiver(userRepository.getReferenceById(skewed(userIds)))
+                .content(word() + " 쪽지 " + (i + 1))
+                .build()).getId());
+
+        insert("reports", reports, null, i -> reportRepository.save(ReportEntity.builder()
+                .targetUserId(skewed(userIds))
+                .reportCategory(REPORT_CATEGORIES[random.nextInt(REPORT_CATEGORIES.length)])
+                .content(word() + " 관련 신고 " + (i + 1))
+                .reporter(userRepository.getReferenceById(userIds.get(random.nextInt(userIds.size()))))
+                .build()).getId());
+
+        log.info("데이터 생성 완료 ({}ms)", System.currentTimeMillis() - startedAt);
+    }
+
+    // CHUNK_SIZE 단위로 트랜잭션을 나눠 저장하고 영속성 컨텍스트를 비운다
+    private void insert(String name, int count, List<Long> ids, IntFunction<Long> saver) {
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, count);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    Long id = saver.apply(i);
+                    if (ids != null) {
+                        ids.add(id);
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        log.info("{} {}건 생성", name, count);
+    }
+
+    private Long skewed(List<Long> ids) {
+        return ids.get((int) (ids.size() * Math.pow(random.nextDouble(), SKEW)));
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
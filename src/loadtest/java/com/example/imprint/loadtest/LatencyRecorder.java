@@ -0,0 +1,50 @@
+package com.example.imprint.loadtest;
+
+import java.util.Arrays;
+
+// 엔드포인트 하나의 응답 시간(ns)을 모두 보관했다가 백분위수를 계산
+final class LatencyRecorder {
+
+    record Summary(
+            int count,
+            int errors,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis) {}
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    synchronized void record(long elapsedNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+
+        samples[count++] = elapsedNanos;
+
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize() {
+        if (count == 0) {
+            return new Summary(0, 0, 0, 0, 0, 0);
+        }
+
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        return new Summary(count, errors,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    // nearest-rank 방식
+    private static double percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
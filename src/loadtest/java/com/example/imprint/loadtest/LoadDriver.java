@@ -0,0 +1,245 @@
+package com.example.imprint.loadtest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 실행 중인 앱에 요청을 섞어 보내고 엔드포인트별 지연(p50/p95/p99)과 처리량을 출력하는 부하 생성기
+// - 가상 사용자마다 DataGenerator 가 만든 회원으로 로그인하고 세션 쿠키를 유지한다. (계정당 세션 1개 제한)
+// - 요청 비율은 --mix 로 조정한다. 예) --mix=posts:60,search:20,messages:15,comment:5
+// - 워밍업 구간의 요청은 집계하지 않는다.
+//
+// 실행: ./gradlew loadTest -Pargs="--base-url=http://localhost:8080 --users=50 --duration=PT1M"
+public class LoadDriver {
+
+    static final String PASSWORD = "loadtest1234";
+
+    private static final String DEFAULT_MIX = "posts:60,search:20,messages:15,comment:5";
+
+    private static final String[] KEYWORDS = {"자동차", "여행", "맛집", "개발", "spring", "캠핑", "게임", "육아"};
+
+    // 게시판 선택 치우침 (DataGenerator 와 같은 값: 앞쪽 게시판이 인기 게시판)
+    private static final double SKEW = 3.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<String, Integer> mix;
+
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+    private List<Long> boardIds;
+    private Map<Long, List<Long>> postIdsByBoard;
+
+    LoadDriver(LoadTestOptions options) {
+        this.baseUrl = options.get("base-url", "http://localhost:8080");
+        this.users = options.getInt("users", 50);
+        this.warmup = Duration.parse(options.get("warmup", "PT10S"));
+        this.duration = Duration.parse(options.get("duration", "PT1M"));
+        this.mix = parseMix(options.get("mix", DEFAULT_MIX));
+
+        mix.keySet().forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(LoadTestOptions.parse(args)).run();
+    }
+
+    void run() throws Exception {
+        discoverTargets();
+
+        long warmupEndsAt = System.nanoTime() + warmup.toNanos();
+        long endsAt = warmupEndsAt + duration.toNanos();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            int userNo = i;
+            workers.add(Thread.ofVirtual().name("load-user-" + userNo).start(() -> {
+                try {
+                    runUser(userNo, warmupEndsAt, endsAt);
+                } catch (Exception e) {
+                    System.err.println("[load-user-" + userNo + "] 중단: " + e.getMessage());
+                }
+            }));
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        report();
+    }
+
+    // 목록 API 로 게시판/게시물 id 를 모아 둔다 (댓글 작성 대상)
+    private void discoverTargets() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+
+        JsonNode boards = getJson(client, "/boards?size=100").path("data").path("boardList");
+        boardIds = new ArrayList<>();
+        boards.forEach(board -> boardIds.add(board.path("id").asLong()));
+        boardIds.sort(null);
+
+        if (boardIds.isEmpty()) {
+            throw new IllegalStateException("게시판이 없습니다. 먼저 seedData 를 실행해주세요.");
+        }
+
+        postIdsByBoard = new LinkedHashMap<>();
+        for (Long boardId : boardIds) {
+            List<Long> postIds = new ArrayList<>();
+            getJson(client, "/boards/" + boardId + "/posts?size=50").path("data").path("postList")
+                    .forEach(post -> postIds.add(post.path("id").asLong()));
+            postIdsByBoard.put(boardId, postIds);
+        }
+    }
+
+    private void runUser(int userNo, long warmupEndsAt, long endsAt) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        login(client, DataGenerator.EMAIL_FORMAT.formatted(userNo));
+
+        try {
+            while (System.nanoTime() < endsAt) {
+                String endpoint = pickEndpoint();
+                HttpRequest request = buildRequest(endpoint);
+
+                long startedAt = System.nanoTime();
+                int status;
+                try {
+                    status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (Exception e) {
+                    status = -1;
+                }
+                long elapsed = System.nanoTime() - startedAt;
+
+                if (startedAt >= warmupEndsAt) {
+                    recorders.get(endpoint).record(elapsed, status >= 200 && status < 300);
+                }
+            }
+        } finally {
+            // 계정당 세션이 1개로 제한되므로 다음 실행을 위해 로그아웃한다
+            client.send(HttpRequest.newBuilder(uri("/account/logout")).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private void login(HttpClient client, String email) throws Exception {
+        String form = "username=" + URLEncoder.encode(email, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/account/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("로그인 실패 (" + email + "): " + response.body());
+        }
+    }
+
+    private HttpRequest buildRequest(String endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long boardId = boardIds.get((int) (boardIds.size() * Math.pow(random.nextDouble(), SKEW)));
+
+        return switch (endpoint) {
+            case "posts" -> {
+                // 대부분은 첫 몇 페이지, 가끔 깊은 페이지를 본다
+                int page = random.nextInt(10) == 0 ? 1 + random.nextInt(500) : 1 + random.nextInt(3);
+                yield HttpRequest.newBuilder(uri("/boards/" + boardId + "/posts?size=20&page=" + page)).GET().build();
+            }
+            case "search" -> {
+                String keyword = URLEncoder.encode(KEYWORDS[random.nextInt(KEYWORDS.length)], StandardCharsets.UTF_8);
+                yield HttpRequest.newBuilder(uri("/search?size=20&keyword=" + keyword)).GET().build();
+            }
+            case "messages" -> HttpRequest.newBuilder(uri("/message/list")).GET().build();
+            case "comment" -> {
+                List<Long> postIds = postIdsByBoard.get(boardId);
+                Long postId = postIds.isEmpty() ? 0L : postIds.get(random.nextInt(postIds.size()));
+                yield HttpRequest.newBuilder(uri("/boards/" + boardId + "/posts/" + postId + "/comments"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"부하 테스트 댓글\"}"))
+                        .build();
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 엔드포인트입니다: " + endpoint);
+        };
+    }
+
+    private String pickEndpoint() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(total);
+
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+
+        throw new IllegalStateException("요청 비율 설정이 올바르지 않습니다.");
+    }
+
+    private void report() {
+        double seconds = duration.toMillis() / 1000.0;
+
+        System.out.printf("%n%-10s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        recorders.forEach((endpoint, recorder) -> {
+            LatencyRecorder.Summary summary = recorder.summarize();
+            System.out.printf("%-10s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, summary.count(), summary.errors(), summary.count() / seconds,
+                    summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis());
+        });
+    }
+
+    private JsonNode getJson(HttpClient client, String path) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("--mix 는 endpoint:weight 목록이어야 합니다: " + value);
+            }
+
+            int weight = Integer.parseInt(pair[1]);
+            if (weight > 0) {
+                mix.put(pair[0], weight);
+            }
+        }
+
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix 에 요청 비율이 하나 이상 있어야 합니다.");
+        }
+
+        return mix;
+    }
+}
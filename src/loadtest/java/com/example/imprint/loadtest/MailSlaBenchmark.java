@@ -0,0 +1,114 @@
+package com.example.imprint.loadtest;
+
+import com.example.imprint.ImprintApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 메일 서버가 느릴 때 다른 요청이 SLA 안에 처리되는지를 플랫폼 스레드/가상 스레드 모드로 비교
+// - 느린 가짜 SMTP 서버를 띄우고, 인증 메일 요청(/api/mail/send)을 한꺼번에 보내 요청 스레드를 묶어 둔다.
+// - 그 사이에 게시판 목록(/boards) 요청을 동시에 보내서 SLA 안에 끝난 개수와 지연을 잰다.
+//
+// 실행: ./gradlew mailSlaBenchmark -Pargs="--mail-requests=300 --probe-requests=200 --smtp-delay=PT3S --sla=PT1S"
+public class MailSlaBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        int mailRequests = options.getInt("mail-requests", 300);
+        int probeRequests = options.getInt("probe-requests", 200);
+        Duration smtpDelay = Duration.parse(options.get("smtp-delay", "PT3S"));
+        Duration sla = Duration.parse(options.get("sla", "PT1S"));
+
+        try (FakeSmtpServer smtp = new FakeSmtpServer(smtpDelay)) {
+            System.out.printf("%n%-9s %12s %10s %14s %10s %10s%n",
+                    "mode", "mail ok", "probes", "within SLA", "p50(ms)", "p99(ms)");
+
+            for (String mode : options.get("modes", "platform,virtual").split(",")) {
+                run(mode.trim(), smtp.port(), mailRequests, probeRequests, sla);
+            }
+        }
+    }
+
+    private static void run(String mode, int smtpPort, int mailRequests, int probeRequests, Duration sla) throws Exception {
+        try (ConfigurableApplicationContext context = start(mode, smtpPort)) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+            AtomicInteger mailSucceeded = new AtomicInteger();
+            LatencyRecorder probes = new LatencyRecorder();
+            List<Thread> threads = new ArrayList<>();
+
+            for (int i = 0; i < mailRequests; i++) {
+                String email = "sla-" + mode + "-" + i + "@imprint.com";
+                threads.add(Thread.ofVirtual().start(() -> {
+                    if (send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/api/mail/send?email=" + email))
+                            .POST(HttpRequest.BodyPublishers.noBody())) == 200) {
+                        mailSucceeded.incrementAndGet();
+                    }
+                }));
+            }
+
+            // 메일 요청이 요청 스레드를 차지할 때까지 잠시 기다렸다가 일반 요청을 보낸다
+            Thread.sleep(500);
+
+            for (int i = 0; i < probeRequests; i++) {
+                threads.add(Thread.ofVirtual().start(() -> {
+                    long startedAt = System.nanoTime();
+                    int status = send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/boards")).GET());
+                    long elapsed = System.nanoTime() - startedAt;
+
+                    probes.record(elapsed, status == 200 && elapsed <= sla.toNanos());
+                }));
+            }
+
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            LatencyRecorder.Summary summary = probes.summarize();
+            System.out.printf("%-9s %12s %10d %14s %10.1f %10.1f%n",
+                    mode, mailSucceeded.get() + "/" + mailRequests, summary.count(),
+                    (summary.count() - summary.errors()) + "/" + summary.count(),
+                    summary.p50Millis(), summary.p99Millis());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode, int smtpPort) {
+        return new SpringApplicationBuilder(ImprintApplication.class)
+                .properties(
+                        "spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                        "spring.datasource.url=jdbc:h2:mem:imprint-mail-sla-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.properties.hibernate.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.sql.init.mode=never",
+                        "spring.mail.host=localhost",
+                        "spring.mail.port=" + smtpPort,
+                        "spring.mail.properties.mail.smtp.auth=false",
+                        "spring.mail.properties.mail.smtp.starttls.enable=false",
+                        "spring.mail.properties.mail.smtp.starttls.required=false",
+                        "spring.main.banner-mode=off",
+                        "server.port=0",
+                        "logging.level.root=WARN",
+                        "imprint.monitoring.sql.enabled=false")
+                .run();
+    }
+
+    private static int send(HttpClient client, HttpRequest.Builder request) {
+        try {
+            return client.send(request.timeout(Duration.ofSeconds(60)).build(), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+}
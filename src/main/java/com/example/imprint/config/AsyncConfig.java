@@ -0,0 +1,10 @@
+package com.example.imprint.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+@Configuration
+// @Async 활성화 (spring.threads.virtual.enabled 가 켜져 있으면 기본 실행기가 가상 스레드를 사용)
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,10 @@
+package com.example.imprint.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+// 주기적인 백그라운드 작업(@Scheduled) 활성화
+@EnableScheduling
+public class SchedulingConfig {
+}
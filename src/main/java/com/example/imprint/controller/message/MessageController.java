@@ -1,23 +1,31 @@
 package com.example.imprint.controller.message;
 
 import com.example.imprint.domain.ApiResponseDto;
+import com.example.imprint.domain.message.MessageBulkRequestDto;
+import com.example.imprint.domain.message.MessageCursorResponseDto;
 import com.example.imprint.domain.message.MessageRequestDto;
 import com.example.imprint.domain.message.MessageResponseDto;
 import com.example.imprint.security.user.CustomUserDetails;
 import com.example.imprint.service.message.MessageService;
+import com.example.imprint.service.message.broadcast.BroadcastService;
+import com.example.imprint.service.message.push.MessagePushRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/message")
 @RequiredArgsConstructor
 public class MessageController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MessageService messageService;
+    private final MessagePushRegistry messagePushRegistry;
+    private final BroadcastService broadcastService;
 
     // 쪽지 보내기
     @PostMapping("/send")
@@ -29,24 +37,97 @@ public class MessageController {
         return ResponseEntity.ok(ApiResponseDto.success(null, "쪽지가 성공적으로 전송되었습니다."));
     }
 
-    // 받은 쪽지함 리스트 조회
+    // 받은 쪽지함 리스트 조회 (최신순 커서 조회)
     @GetMapping("/list")
-    public ResponseEntity<ApiResponseDto<List<MessageResponseDto>>> getMessageList(
+    public ResponseEntity<ApiResponseDto<MessageCursorResponseDto>> getMessageList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        List<MessageResponseDto> messages = messageService.getReceivedMessages(currentUser.getUsername());
+        validateSize(size);
+
+        MessageCursorResponseDto messages = messageService.getReceivedMessages(currentUser.getUsername(), cursor, size);
         return ResponseEntity.ok(ApiResponseDto.success(messages, "받은 쪽지 목록을 조회했습니다."));
     }
 
-    // 보낸 쪽지함 리스트 조회 (추가 권장)
+    // 보낸 쪽지함 리스트 조회 (최신순 커서 조회)
     @GetMapping("/sent")
-    public ResponseEntity<ApiResponseDto<List<MessageResponseDto>>> getSentMessageList(
+    public ResponseEntity<ApiResponseDto<MessageCursorResponseDto>> getSentMessageList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal CustomUserDetails currentUser) {
 
-        List<MessageResponseDto> messages = messageService.getSentMessages(currentUser.getUsername());
+        validateSize(size);
+
+        MessageCursorResponseDto messages = messageService.getSentMessages(currentUser.getUsername(), cursor, size);
         return ResponseEntity.ok(ApiResponseDto.success(messages, "보낸 쪽지 목록을 조회했습니다."));
     }
 
+    // 받은 쪽지 일괄 읽음 (ids 또는 olderThan)
+    @PostMapping("/received/read")
+    public ResponseEntity<ApiResponseDto<Integer>> markReadBulk(
+            @RequestBody MessageBulkRequestDto requestDto,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        int updated = messageService.markReadBulk(currentUser.getUsername(), requestDto);
+        return ResponseEntity.ok(ApiResponseDto.success(updated, updated + "개의 쪽지를 읽음 처리했습니다."));
+    }
+
+    // 받은 쪽지 일괄 삭제 (ids 또는 olderThan, readOnly 면 읽은 쪽지만)
+    @PostMapping("/received/delete")
+    public ResponseEntity<ApiResponseDto<Integer>> deleteReceivedBulk(
+            @RequestBody MessageBulkRequestDto requestDto,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        int updated = messageService.deleteByReceiverBulk(currentUser.getUsername(), requestDto);
+        return ResponseEntity.ok(ApiResponseDto.success(updated, updated + "개의 받은 쪽지를 삭제했습니다."));
+    }
+
+    // 보낸 쪽지 일괄 삭제
+    @PostMapping("/sent/delete")
+    public ResponseEntity<ApiResponseDto<Integer>> deleteSentBulk(
+            @RequestBody MessageBulkRequestDto requestDto,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        int updated = messageService.deleteBySenderBulk(currentUser.getUsername(), requestDto);
+        return ResponseEntity.ok(ApiResponseDto.success(updated, updated + "개의 보낸 쪽지를 삭제했습니다."));
+    }
+
+    // 받은 쪽지 일괄 보관 / 보관 해제 (stored: false)
+    @PostMapping("/received/archive")
+    public ResponseEntity<ApiResponseDto<Integer>> archiveReceivedBulk(
+            @RequestBody MessageBulkRequestDto requestDto,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        int updated = messageService.storeByReceiverBulk(currentUser.getUsername(), requestDto);
+        return ResponseEntity.ok(ApiResponseDto.success(updated, updated + "개의 받은 쪽지 보관 상태를 변경했습니다."));
+    }
+
+    // 보낸 쪽지 일괄 보관 / 보관 해제 (stored: false)
+    @PostMapping("/sent/archive")
+    public ResponseEntity<ApiResponseDto<Integer>> archiveSentBulk(
+            @RequestBody MessageBulkRequestDto requestDto,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        int updated = messageService.storeBySenderBulk(currentUser.getUsername(), requestDto);
+        return ResponseEntity.ok(ApiResponseDto.success(updated, updated + "개의 보낸 쪽지 보관 상태를 변경했습니다."));
+    }
+
+    // 안 읽은 쪽지 수 (알림 배지 폴링용)
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponseDto<Long>> getUnreadCount(
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        long count = messageService.getUnreadCount(currentUser.getUsername());
+        return ResponseEntity.ok(ApiResponseDto.success(count, "안 읽은 쪽지 수를 조회했습니다."));
+    }
+
+    // 새 쪽지 알림 구독 (SSE, "message" 이벤트로 쪽지 id 와 보낸 사람 닉네임 전달)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails currentUser) {
+        return messagePushRegistry.subscribe(currentUser.getUsername());
+    }
+
     // 쪽지 단건 읽기
     @GetMapping("/read/{id}")
     public ResponseEntity<ApiResponseDto<MessageResponseDto>> readMessage(
@@ -57,6 +138,26 @@ public class MessageController {
         return ResponseEntity.ok(ApiResponseDto.success(message, "쪽지 상세 내용을 조회했습니다."));
     }
 
+    // 전체 공지 읽기
+    @GetMapping("/broadcast/{id}")
+    public ResponseEntity<ApiResponseDto<MessageResponseDto>> readBroadcast(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        MessageResponseDto message = broadcastService.read(id, currentUser.getUsername());
+        return ResponseEntity.ok(ApiResponseDto.success(message, "쪽지 상세 내용을 조회했습니다."));
+    }
+
+    // 전체 공지 삭제 (내 받은 쪽지함에서만)
+    @DeleteMapping("/broadcast/{id}")
+    public ResponseEntity<ApiResponseDto<Void>> deleteBroadcast(
+            @PathVariable Long id,
+            @AuthenticationPrincipal CustomUserDetails currentUser) {
+
+        broadcastService.delete(id, currentUser.getUsername());
+        return ResponseEntity.ok(ApiResponseDto.success(null, "받은 쪽지가 삭제되었습니다."));
+    }
+
     // 보낸 쪽지 삭제
     @DeleteMapping("/sent/{id}")
     public ResponseEntity<ApiResponseDto<Void>> deleteSentMessage(
@@ -76,4 +177,10 @@ public class MessageController {
         messageService.deleteByReceiver(id, currentUser.getUsername());
         return ResponseEntity.ok(ApiResponseDto.success(null, "받은 쪽지가 삭제되었습니다."));
     }
+
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+    }
 }
\ No newline at end of file
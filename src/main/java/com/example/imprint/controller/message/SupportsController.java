@@ -1,7 +1,10 @@
 package com.example.imprint.controller.message;
 
 import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketCursorResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketStatus;
 import com.example.imprint.domain.message.support.SupportsRequestDto;
+import com.example.imprint.security.user.CustomUserDetails;
 import com.example.imprint.service.message.SupportsService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -13,7 +16,6 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 // 문의함 컨트롤러 (Support Controller)
@@ -23,6 +25,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SupportsController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final SupportsService supportsService;
 
     //사용자가 관리자에게 문의를 전송합니다.
@@ -57,6 +61,7 @@ public class SupportsController {
             MessageResponseDto response = supportsService.sendAdminReply(
                     adminUserId,
                     request.getReceiverUserId(),
+                    request.getTicketId(),
                     request.getContent()
             );
 
@@ -73,22 +78,26 @@ public class SupportsController {
         }
     }
 
-    //사용자가 본인이 보낸 문의 목록을 조회합니다.
+    //사용자가 본인이 보낸 문의 목록을 조회합니다. (최근 활동순 커서 조회)
     @GetMapping("/my-messages")
-    public ResponseEntity<List<MessageResponseDto>> getMyMessages(
-            @AuthenticationPrincipal Long userId) {
+    public ResponseEntity<SupportTicketCursorResponseDto> getMyMessages(
+            @AuthenticationPrincipal CustomUserDetails currentUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
+        Long userId = currentUser.getUser().getId();
         log.info("[GET /api/support/my-messages] 내 문의 조회 요청 - 사용자 ID: {}", userId);
+        validateSize(size);
 
         try {
-            List<MessageResponseDto> messages = supportsService.getMySupportMessages(userId);
+            SupportTicketCursorResponseDto tickets = supportsService.getMySupportMessages(userId, cursor, size);
 
             log.info("[GET /api/support/my-messages] 내 문의 조회 성공 - 조회 수: {}",
-                    messages.size());
+                    tickets.tickets().size());
 
             return ResponseEntity
                     .status(HttpStatus.OK)
-                    .body(messages);
+                    .body(tickets);
 
         } catch (IllegalArgumentException e) {
             log.error("[GET /api/support/my-messages] 내 문의 조회 실패: {}", e.getMessage());
@@ -96,19 +105,24 @@ public class SupportsController {
         }
     }
 
-    // 관리자가 전체 문의 목록을 조회합니다.
+    // 관리자가 전체 문의 목록을 조회합니다. (status 로 상태별 조회, 최근 활동순 커서 조회)
     @GetMapping("/all-messages")
-    public ResponseEntity<List<MessageResponseDto>> getAllMessages() {
+    public ResponseEntity<SupportTicketCursorResponseDto> getAllMessages(
+            @RequestParam(required = false) SupportTicketStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        validateSize(size);
+
         try {
-            List<MessageResponseDto> messages =
-                    supportsService.getAllSupportMessages();
+            SupportTicketCursorResponseDto tickets =
+                    supportsService.getAllSupportMessages(status, cursor, size);
 
             log.info("[GET /api/support/all-messages] 전체 문의 조회 성공 - 조회 수: {}",
-                    messages.size());
+                    tickets.tickets().size());
 
             return ResponseEntity
                     .status(HttpStatus.OK)
-                    .body(messages);
+                    .body(tickets);
 
         } catch (IllegalArgumentException e) {
             log.error("[GET /api/support/all-messages] 전체 문의 조회 실패: {}",
@@ -117,6 +131,18 @@ public class SupportsController {
         }
     }
 
+    // 관리자가 문의를 처리 완료로 변경합니다.
+    @PatchMapping("/tickets/{ticketId}/close")
+    public ResponseEntity<Void> closeTicket(@PathVariable @NotNull Long ticketId) {
+        supportsService.closeTicket(ticketId);
+
+        log.info("[PATCH /api/support/tickets/{}/close] 문의 처리 완료", ticketId);
+
+        return ResponseEntity
+                .status(HttpStatus.NO_CONTENT)
+                .build();
+    }
+
     // 메시지를 읽음 상태로 변경합니다.
     @GetMapping("/{messageId}/read")
     public ResponseEntity<Map<String, String>> markAsRead(
@@ -181,5 +207,14 @@ public class SupportsController {
         // 답변 내용
         @NotNull(message = "답변 내용은 필수입니다")
         private String content;
+
+        // 답변할 문의 ID (없으면 해당 사용자의 가장 최근 답변 대기 문의)
+        private Long ticketId;
+    }
+
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
     }
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import java.nio.file.AccessDeniedException;
 @RequestMapping("/boards/{boardId}/posts")
 @RequiredArgsConstructor
 public class PostController {
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final PostService postService;
 
     @PostMapping
@@ -52,6 +54,24 @@ public class PostController {
         );
     }
 
+    // 커서 기반 목록 조회 (깊은 페이지에서도 offset 스캔과 count 쿼리가 없음)
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponseDto<PostDto.cursorResponse>> findAllByCursor(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new IllegalArgumentException("size 는 1 ~ " + MAX_CURSOR_SIZE + " 사이여야 합니다.");
+        }
+
+        PostDto.cursorResponse response = postService.getPostList(boardId, cursor, size);
+
+        return ResponseEntity.ok(
+                ApiResponseDto.success(response, "게시물 목록을 성공적으로 조회하였습니다.")
+        );
+    }
+
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponseDto<PostDto.Response>> findById(
             @PathVariable Long boardId,
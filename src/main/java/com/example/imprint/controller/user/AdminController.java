@@ -1,9 +1,13 @@
 package com.example.imprint.controller.user;
 
 import com.example.imprint.domain.ApiResponseDto;
+import com.example.imprint.domain.admin.DailyStatsResponseDto;
 import com.example.imprint.domain.admin.DashboardResponseDto;
 import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.broadcast.BroadcastRequestDto;
 import com.example.imprint.domain.message.report.ReportResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketCursorResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketStatus;
 import com.example.imprint.domain.page.CriteriaDto;
 import com.example.imprint.domain.page.PaginationDto;
 import com.example.imprint.domain.user.UserEntity;
@@ -14,17 +18,22 @@ import com.example.imprint.security.user.CustomUserDetails;
 import com.example.imprint.service.admin.DashboardService;
 import com.example.imprint.service.admin.AdminService;
 import com.example.imprint.service.message.MessageService;
+import com.example.imprint.service.message.SupportsService;
+import com.example.imprint.service.message.broadcast.BroadcastService;
 import com.example.imprint.service.message.report.ReportService;
+import com.example.imprint.service.post.cache.PostDetailCache;
 import lombok.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -38,6 +47,9 @@ public class AdminController {
     private final DashboardService DashboardService;
     private final MessageService messageService;
     private final ReportService reportService;
+    private final PostDetailCache postDetailCache;
+    private final BroadcastService broadcastService;
+    private final SupportsService supportsService;
 
     // 대시보드 메인 오버뷰 데이터 조회
     @GetMapping("/overview")
@@ -46,6 +58,23 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponseDto.success(overview));
     }
 
+    // 일별 통계 조회 (그래프용, 기본 최근 30일)
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponseDto<List<DailyStatsResponseDto>>> getDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+
+        return ResponseEntity.ok(ApiResponseDto.success(DashboardService.getHistory(start, end)));
+    }
+
+    // 게시물 상세 캐시 적중률/제거 통계 조회
+    @GetMapping("/cache/post-detail")
+    public ResponseEntity<ApiResponseDto<PostDetailCache.Stats>> getPostDetailCacheStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(postDetailCache.stats()));
+    }
+
     // 유저 상태 수정 ( ACTIVE ↔ BANNED )
     @PatchMapping("/users/{userId}/status")
     public ResponseEntity<ApiResponseDto<Void>> updateUserStatus(
@@ -56,10 +85,17 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponseDto.success("사용자의 상태가 성공적으로 변경되었습니다."));
     }
 
-    // 관리자에게 온 문의 목록 조회
+    // 관리자에게 온 문의 목록 조회 (status 로 상태별 조회, 최근 활동순 커서 조회)
     @GetMapping("/supports")
-    public ResponseEntity<ApiResponseDto<List<MessageResponseDto>>> getAllSupports() {
-        List<MessageResponseDto> supports = messageService.getAdminSupports();
+    public ResponseEntity<ApiResponseDto<SupportTicketCursorResponseDto>> getAllSupports(
+            @RequestParam(required = false) SupportTicketStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("size 는 1 ~ 100 사이여야 합니다.");
+        }
+
+        SupportTicketCursorResponseDto supports = supportsService.getAllSupportMessages(status, cursor, size);
         return ResponseEntity.ok(ApiResponseDto.success(supports));
     }
 
@@ -74,6 +110,16 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponseDto.success(detail));
     }
 
+    // 전체 공지 보내기 (회원 수와 상관없이 한 건만 저장)
+    @PostMapping("/broadcasts")
+    public ResponseEntity<ApiResponseDto<Long>> sendBroadcast(
+            @RequestBody BroadcastRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long broadcastId = broadcastService.send(userDetails.getUsername(), request.getContent());
+        return ResponseEntity.ok(ApiResponseDto.success(broadcastId, "전체 공지를 보냈습니다."));
+    }
+
     // 관리자에게 온 신고 목록 조회
     @GetMapping("/reports")
     public ResponseEntity<ApiResponseDto<List<ReportResponseDto>>> getAllReports() {
@@ -0,0 +1,50 @@
+package com.example.imprint.controller.user;
+
+import com.example.imprint.service.export.BoardExportService;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+// 관리자만 해당 url로 접근 가능
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    // 0 이하면 서블릿 컨테이너가 비동기 요청을 끊지 않는다
+    private static final long NO_TIMEOUT = -1L;
+
+    private final BoardExportService boardExportService;
+
+    // 게시판 전체 내보내기 (게시판 / 게시물 / 댓글을 NDJSON 한 줄에 하나씩, gzip=true 면 압축)
+    // 응답 출력 스트림에 바로 쓰므로 게시판 크기와 상관없이 메모리를 일정하게 쓴다
+    // 수 GB 를 쓰는 동안 끊기면 안 되므로 이 요청만 비동기 제한 시간을 두지 않는다 (나머지는 spring.mvc.async 기본값)
+    @GetMapping("/boards/{boardId}")
+    public WebAsyncTask<Void> exportBoard(
+            @PathVariable Long boardId,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        String fileName = boardExportService.fileName(boardId, gzip);
+
+        response.setContentType((gzip ? GZIP : NDJSON).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        return new WebAsyncTask<>(NO_TIMEOUT, () -> {
+            ServletOutputStream output = response.getOutputStream();
+            boardExportService.export(boardId, output, gzip);
+            output.flush();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.imprint.controller.user;
+
+import com.example.imprint.domain.ApiResponseDto;
+import com.example.imprint.service.ingest.BulkIngestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/ingest")
+@RequiredArgsConstructor
+// 관리자만 해당 url로 접근 가능
+@PreAuthorize("hasRole('ADMIN')")
+public class IngestController {
+
+    private final BulkIngestService bulkIngestService;
+
+    // 진행 중인 적재 (현재까지 건수 / 초당 건수)
+    @GetMapping
+    public ResponseEntity<ApiResponseDto<List<BulkIngestService.Report>>> running() {
+        return ResponseEntity.ok(ApiResponseDto.success(bulkIngestService.running()));
+    }
+
+    // 회원 대량 가져오기 (NDJSON: {"email":"...","passwordHash":"$2a$10$...","nickname":"...","name":"..."} 한 줄에 하나,
+    // text/csv 면 첫 행이 email,passwordHash,nickname,name 인 CSV)
+    @PostMapping(value = "/users", consumes = {"application/x-ndjson", "application/json", "text/plain", "text/csv"})
+    public ResponseEntity<ApiResponseDto<BulkIngestService.Report>> ingestUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        BulkIngestService.Report report = bulkIngestService.ingestUsers(body, format(contentType));
+        return ResponseEntity.ok(ApiResponseDto.success(report,
+                "회원 " + report.rows() + "명을 가져왔습니다. (중복 " + report.skipped() + "명 건너뜀)"));
+    }
+
+    // 게시물 대량 적재 (NDJSON: {"boardId":1,"writerId":1,"title":"...","content":"..."} 한 줄에 하나,
+    // 작성자는 writerId 대신 writerEmail 로 줄 수 있음, text/csv 면 첫 행이 열 이름인 CSV)
+    @PostMapping(value = "/posts", consumes = {"application/x-ndjson", "application/json", "text/plain", "text/csv"})
+    public ResponseEntity<ApiResponseDto<BulkIngestService.Report>> ingestPosts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        BulkIngestService.Report report = bulkIngestService.ingestPosts(body, format(contentType));
+        return ResponseEntity.ok(ApiResponseDto.success(report, "게시물 " + report.rows() + "건을 적재했습니다."));
+    }
+
+    // 댓글 대량 적재 (NDJSON: {"postId":1,"writerId":1,"content":"..."} 한 줄에 하나, text/csv 면 CSV)
+    @PostMapping(value = "/comments", consumes = {"application/x-ndjson", "application/json", "text/plain", "text/csv"})
+    public ResponseEntity<ApiResponseDto<BulkIngestService.Report>> ingestComments(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        BulkIngestService.Report report = bulkIngestService.ingestComments(body, format(contentType));
+        return ResponseEntity.ok(ApiResponseDto.success(report, "댓글 " + report.rows() + "건을 적재했습니다."));
+    }
+
+    private static BulkIngestService.Format format(String contentType) {
+        return contentType.startsWith("text/csv") ? BulkIngestService.Format.CSV : BulkIngestService.Format.NDJSON;
+    }
+}
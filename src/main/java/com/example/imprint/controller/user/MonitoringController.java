@@ -0,0 +1,70 @@
+package com.example.imprint.controller.user;
+
+import com.example.imprint.domain.ApiResponseDto;
+import com.example.imprint.monitoring.IndexCoverageChecker;
+import com.example.imprint.monitoring.SqlMonitoringRegistry;
+import com.example.imprint.service.retention.RetentionEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/monitoring")
+@RequiredArgsConstructor
+// 관리자만 해당 url로 접근 가능
+@PreAuthorize("hasRole('ADMIN')")
+public class MonitoringController {
+
+    private final SqlMonitoringRegistry sqlMonitoringRegistry;
+    private final RetentionEngine retentionEngine;
+    private final IndexCoverageChecker indexCoverageChecker;
+
+    // 엔드포인트별 요청당 SQL 수 / DB 시간 / 가장 느린 SQL 조회
+    @GetMapping("/sql")
+    public ResponseEntity<ApiResponseDto<List<SqlMonitoringRegistry.EndpointSnapshot>>> getSqlStats() {
+        return ResponseEntity.ok(ApiResponseDto.success(sqlMonitoringRegistry.snapshot()));
+    }
+
+    // 집계 초기화
+    @DeleteMapping("/sql")
+    public ResponseEntity<ApiResponseDto<Void>> resetSqlStats() {
+        sqlMonitoringRegistry.reset();
+        return ResponseEntity.ok(ApiResponseDto.success("SQL 통계를 초기화했습니다."));
+    }
+
+    // 마지막 보관 기한 정리 결과 (정책별 정리한 행 수 / 걸린 시간)
+    @GetMapping("/retention")
+    public ResponseEntity<ApiResponseDto<List<RetentionEngine.Report>>> getRetentionReports() {
+        return ResponseEntity.ok(ApiResponseDto.success(retentionEngine.lastReports()));
+    }
+
+    // 보관 기한 정리 즉시 실행 (백그라운드에서 실행, 결과는 GET /retention 으로 확인)
+    @PostMapping("/retention")
+    public ResponseEntity<ApiResponseDto<Void>> runRetention() {
+        if (!retentionEngine.start()) {
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body(ApiResponseDto.fail("보관 기한 정리가 이미 실행 중입니다. 결과는 GET /api/admin/monitoring/retention 으로 확인하세요."));
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDto.success("보관 기한 정리를 시작했습니다. 결과는 GET /api/admin/monitoring/retention 으로 확인하세요."));
+    }
+
+    // 인덱스 없이 조회될 수 있는 리포지토리 조회 조건 (시작할 때 확인한 결과)
+    @GetMapping("/indexes")
+    public ResponseEntity<ApiResponseDto<List<IndexCoverageChecker.Finding>>> getIndexFindings() {
+        return ResponseEntity.ok(ApiResponseDto.success(indexCoverageChecker.lastFindings()));
+    }
+
+    // 인덱스 확인 다시 실행 (마이그레이션 적용 후 확인용)
+    @PostMapping("/indexes")
+    public ResponseEntity<ApiResponseDto<List<IndexCoverageChecker.Finding>>> checkIndexes() {
+        return ResponseEntity.ok(ApiResponseDto.success(indexCoverageChecker.check(), "인덱스 확인을 실행했습니다."));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.imprint.domain.admin;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 관리자 대시보드 일별 통계 (하루에 한 행)
+// - *Count 중 signup/post/comment/report/support 는 그날 생긴 개수
+// - total/active/banned 회원 수와 pending 신고/문의 수는 그날 기준 현재값
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "daily_stats")
+public class DailyStatsEntity {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long signupCount;
+
+    @Column(nullable = false)
+    private long postCount;
+
+    @Column(nullable = false)
+    private long commentCount;
+
+    @Column(nullable = false)
+    private long reportCount;
+
+    @Column(nullable = false)
+    private long supportCount;
+
+    @Column(nullable = false)
+    private long totalUserCount;
+
+    @Column(nullable = false)
+    private long activeUserCount;
+
+    @Column(nullable = false)
+    private long bannedUserCount;
+
+    @Column(nullable = false)
+    private long pendingReportCount;
+
+    @Column(nullable = false)
+    private long pendingSupportCount;
+
+    @Builder
+    public DailyStatsEntity(LocalDate statDate, long signupCount, long postCount, long commentCount,
+                            long reportCount, long supportCount, long totalUserCount, long activeUserCount,
+                            long bannedUserCount, long pendingReportCount, long pendingSupportCount) {
+        this.statDate = statDate;
+        this.signupCount = signupCount;
+        this.postCount = postCount;
+        this.commentCount = commentCount;
+        this.reportCount = reportCount;
+        this.supportCount = supportCount;
+        this.totalUserCount = totalUserCount;
+        this.activeUserCount = activeUserCount;
+        this.bannedUserCount = bannedUserCount;
+        this.pendingReportCount = pendingReportCount;
+        this.pendingSupportCount = pendingSupportCount;
+    }
+}
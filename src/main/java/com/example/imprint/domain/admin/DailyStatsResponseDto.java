@@ -0,0 +1,33 @@
+package com.example.imprint.domain.admin;
+
+import java.time.LocalDate;
+
+// 일별 통계 (그래프용 시계열)
+public record DailyStatsResponseDto(
+        LocalDate date,
+        long signupCount,
+        long postCount,
+        long commentCount,
+        long reportCount,
+        long supportCount,
+        long totalUserCount,
+        long activeUserCount,
+        long bannedUserCount,
+        long pendingReportCount,
+        long pendingSupportCount) {
+
+    public static DailyStatsResponseDto from(DailyStatsEntity stats) {
+        return new DailyStatsResponseDto(
+                stats.getStatDate(),
+                stats.getSignupCount(),
+                stats.getPostCount(),
+                stats.getCommentCount(),
+                stats.getReportCount(),
+                stats.getSupportCount(),
+                stats.getTotalUserCount(),
+                stats.getActiveUserCount(),
+                stats.getBannedUserCount(),
+                stats.getPendingReportCount(),
+                stats.getPendingSupportCount());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.imprint.domain.admin;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 시스템 전체 설정 (한 행, id = 1, V4 마이그레이션이 만든다)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "system_settings")
+public class SystemSettingsEntity {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long totalStorageLimit;
+
+    // 첫 가입자에게 관리자 권한을 이미 줬는지
+    @Column(nullable = false)
+    private boolean adminBootstrapped;
+
+    private LocalDateTime updatedAt;
+}
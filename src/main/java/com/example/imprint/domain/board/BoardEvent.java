@@ -0,0 +1,10 @@
+package com.example.imprint.domain.board;
+
+import java.util.List;
+
+// 게시판 변경 이벤트 (게시판 삭제 시 함께 삭제되는 게시물 id 포함)
+public class BoardEvent {
+    public record Deleted(
+            Long boardId,
+            List<Long> postIds) {}
+}
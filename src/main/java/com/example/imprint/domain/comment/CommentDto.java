@@ -19,6 +19,12 @@ public class CommentDto {
 
     public record IdResponse(Long id) {}
 
+    // 대량 적재 입력 (NDJSON 한 줄 또는 CSV 한 행)
+    public record Ingest(
+            Long postId,
+            Long writerId,
+            String content) {}
+
     public record PagedResponse(
             List<Response> commentList,
             PaginationDto pagination) {}
@@ -0,0 +1,17 @@
+package com.example.imprint.domain.comment;
+
+import java.util.List;
+
+// 댓글 변경 이벤트 (커밋 이후 댓글 수 집계 등 부가 기능에서 구독)
+public class CommentEvent {
+    public record Created(
+            Long commentId,
+            Long postId) {}
+
+    public record Deleted(
+            Long commentId,
+            Long postId) {}
+
+    // 대량 적재로 한 묶음이 커밋됨 (댓글마다 Created 를 따로 발행하지 않음)
+    public record Ingested(List<Created> comments) {}
+}
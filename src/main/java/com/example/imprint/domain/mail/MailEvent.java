@@ -0,0 +1,7 @@
+package com.example.imprint.domain.mail;
+
+// 발송 대기열 이벤트 (커밋 이후 발송 작업을 바로 깨우는 데 사용)
+public class MailEvent {
+    public record Enqueued(
+            Long outboxId) {}
+}
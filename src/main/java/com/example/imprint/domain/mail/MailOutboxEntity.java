@@ -0,0 +1,78 @@
+package com.example.imprint.domain.mail;
+
+import com.example.imprint.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발송할 메일 대기열 (요청 트랜잭션과 함께 커밋되고, MailOutboxWorker 가 꺼내서 발송)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+public class MailOutboxEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    @Builder
+    public MailOutboxEntity(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = MailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    // 발송한 메일의 본문은 지운다 (인증 코드 등이 보관 기한 동안 DB 에 남지 않도록)
+    public void markSent(LocalDateTime sentAt) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+        this.body = "";
+    }
+
+    // retryAt 이 null 이면 더 이상 재시도하지 않는다
+    public void markFailed(String error, LocalDateTime retryAt) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+
+        if (retryAt == null) {
+            this.status = MailOutboxStatus.FAILED;
+        } else {
+            this.status = MailOutboxStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.imprint.domain.mail;
+
+public enum MailOutboxStatus {
+    PENDING,    // 발송 대기 (재시도 대기 포함)
+    SENDING,    // 발송 작업이 가져감 (nextAttemptAt 까지 끝나지 않으면 다시 대기로 취급)
+    SENT,       // 발송 완료
+    FAILED      // 최대 재시도 횟수 초과
+}
@@ -0,0 +1,20 @@
+package com.example.imprint.domain.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 쪽지 일괄 처리 요청 (읽음/삭제/보관)
+// - ids 가 있으면 해당 쪽지만, 없으면 olderThan 이전에 보낸 쪽지 전체가 대상
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageBulkRequestDto {
+    private List<Long> ids;             // 대상 쪽지 id 목록
+    private LocalDateTime olderThan;    // 이 시각 이전에 보낸 쪽지
+    private boolean readOnly;           // 읽은 쪽지만 (삭제/보관)
+    private Boolean stored;             // 보관 여부 (보관 요청, 기본 true)
+}
@@ -0,0 +1,9 @@
+package com.example.imprint.domain.message;
+
+import java.util.List;
+
+// 쪽지함 커서 조회 응답 (nextCursor: 더 오래된 쪽지, prevCursor: 더 최근 쪽지)
+public record MessageCursorResponseDto(
+        List<MessageResponseDto> messageList,
+        String nextCursor,
+        String prevCursor) {}
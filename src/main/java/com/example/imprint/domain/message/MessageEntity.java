@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "MESSAGES")
+@Table(name = "MESSAGES", indexes = {
+        // 받은 쪽지함 최신순 커서 조회용
+        @Index(name = "idx_messages_receiver_deleted_created_at", columnList = "receiver_id, deleted_by_receiver, created_at"),
+        // 보낸 쪽지함 최신순 커서 조회용
+        @Index(name = "idx_messages_sender_deleted_created_at", columnList = "sender_id, deleted_by_sender, created_at")
+})
 // 상속 으로 보낸(createdAt)시간 조회
 public class MessageEntity extends BaseTimeEntity {
 
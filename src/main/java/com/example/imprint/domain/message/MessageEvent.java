@@ -0,0 +1,29 @@
+package com.example.imprint.domain.message;
+
+// 쪽지 변경 이벤트 (커밋 이후 안 읽은 쪽지 수 집계 등 부가 기능에서 구독)
+public class MessageEvent {
+    public record Sent(
+            Long messageId,
+            String receiverEmail,
+            String senderNickname) {
+
+        public static Sent from(MessageEntity entity) {
+            return new Sent(entity.getId(), entity.getReceiver().getEmail(), entity.getSender().getNickname());
+        }
+    }
+
+    // 받은 사람이 안 읽은 쪽지를 처음 읽었을 때
+    public record Read(
+            Long messageId,
+            String receiverEmail) {}
+
+    // 받은 사람이 쪽지를 삭제했을 때 (unread: 삭제 전까지 안 읽은 쪽지였는지)
+    public record DeletedByReceiver(
+            Long messageId,
+            String receiverEmail,
+            boolean unread) {}
+
+    // 받은 쪽지함을 일괄 처리했을 때 (일괄 읽음/삭제, 안 읽은 수를 다시 세야 함)
+    public record ReceivedBulkChanged(
+            String receiverEmail) {}
+}
@@ -0,0 +1,11 @@
+package com.example.imprint.domain.message;
+
+// 새 쪽지 알림 (SSE "message" 이벤트 본문)
+public record MessageNotificationDto(
+        Long messageId,
+        String senderNickname) {
+
+    public static MessageNotificationDto from(MessageEvent.Sent event) {
+        return new MessageNotificationDto(event.messageId(), event.senderNickname());
+    }
+}
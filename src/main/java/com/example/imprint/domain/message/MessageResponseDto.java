@@ -20,6 +20,7 @@ public class MessageResponseDto {
     private boolean isRead;
     private LocalDateTime createdAt;
     private LocalDateTime readAt;
+    private boolean broadcast;       // 전체 공지 여부 (읽기/삭제는 /message/broadcast/{id})
 
     // Entity를 DTO로 변환하는 정적 메서드
     public static MessageResponseDto from(MessageEntity entity) {
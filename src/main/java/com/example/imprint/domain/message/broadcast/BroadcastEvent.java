@@ -0,0 +1,19 @@
+package com.example.imprint.domain.message.broadcast;
+
+// 전체 공지 변경 이벤트 (커밋 이후 안 읽은 쪽지 수 집계, 알림 전송에서 구독)
+public class BroadcastEvent {
+    public record Sent(
+            Long broadcastId,
+            String senderNickname) {}
+
+    // 사용자가 공지를 처음 읽었을 때
+    public record Read(
+            Long broadcastId,
+            String userEmail) {}
+
+    // 사용자가 공지를 지웠을 때 (unread: 지우기 전까지 안 읽은 공지였는지)
+    public record Deleted(
+            Long broadcastId,
+            String userEmail,
+            boolean unread) {}
+}
@@ -0,0 +1,40 @@
+package com.example.imprint.domain.message.broadcast;
+
+import com.example.imprint.domain.BaseTimeEntity;
+import com.example.imprint.domain.user.UserEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 전체 공지 쪽지 (받는 사람마다 쪽지를 만들지 않고 한 번만 저장)
+// - 사용자별 읽음/삭제 상태는 읽거나 지운 사용자만 BroadcastReceiptEntity 로 남긴다.
+// - 받은 쪽지함을 조회할 때 개인 쪽지와 합쳐서 보여준다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "broadcast_messages", indexes = {
+        // 받은 쪽지함 최신순 커서 조회용
+        @Index(name = "idx_broadcast_messages_created_at", columnList = "created_at")
+})
+public class BroadcastMessageEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, columnDefinition = "TEXT", length = 1000)
+    private String content;
+
+    // 보낸 관리자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "SENDER_ID", nullable = false)
+    private UserEntity sender;
+
+    @Builder
+    public BroadcastMessageEntity(String content, UserEntity sender) {
+        this.content = content;
+        this.sender = sender;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.imprint.domain.message.broadcast;
+
+import com.example.imprint.domain.BaseTimeEntity;
+import com.example.imprint.domain.user.UserEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 전체 공지에 대한 사용자별 읽음/삭제 상태 (읽거나 지운 사용자만 행이 생김)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "broadcast_receipts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_broadcast_receipts_user_broadcast", columnNames = {"user_id", "broadcast_id"})
+})
+public class BroadcastReceiptEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "BROADCAST_ID", nullable = false)
+    private BroadcastMessageEntity broadcast;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "USER_ID", nullable = false)
+    private UserEntity user;
+
+    private LocalDateTime readAt;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    public BroadcastReceiptEntity(BroadcastMessageEntity broadcast, UserEntity user) {
+        this.broadcast = broadcast;
+        this.user = user;
+    }
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+
+    public void read() {
+        if (readAt == null) {
+            readAt = LocalDateTime.now();
+        }
+    }
+
+    public void delete() {
+        this.deleted = true;
+    }
+}
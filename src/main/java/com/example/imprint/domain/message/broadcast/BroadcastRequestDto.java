@@ -0,0 +1,12 @@
+package com.example.imprint.domain.message.broadcast;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastRequestDto {
+    private String content; // 공지 내용
+}
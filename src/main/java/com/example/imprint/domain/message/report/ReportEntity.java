@@ -9,7 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "reports")
+@Table(name = "reports", indexes = {
+        // 미확인 신고 수
+        @Index(name = "idx_reports_is_read", columnList = "is_read"),
+        // 오늘 접수된 신고 수 (countByCreatedAtAfter)
+        @Index(name = "idx_reports_created_at", columnList = "created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReportEntity extends BaseTimeEntity {
@@ -0,0 +1,11 @@
+package com.example.imprint.domain.message.report;
+
+// 신고 변경 이벤트 (커밋 이후 대시보드 통계에서 구독)
+public class ReportEvent {
+    public record Submitted(
+            Long reportId) {}
+
+    // 관리자가 처음 확인함
+    public record Read(
+            Long reportId) {}
+}
@@ -0,0 +1,8 @@
+package com.example.imprint.domain.message.support;
+
+import java.util.List;
+
+// 문의 목록 커서 조회 응답 (최근 활동순, nextCursor: 더 오래된 문의)
+public record SupportTicketCursorResponseDto(
+        List<SupportTicketResponseDto> tickets,
+        String nextCursor) {}
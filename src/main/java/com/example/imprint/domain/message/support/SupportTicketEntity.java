@@ -0,0 +1,86 @@
+package com.example.imprint.domain.message.support;
+
+import com.example.imprint.domain.BaseTimeEntity;
+import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.user.UserEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 문의 한 건 (관리자에게 보낸 문의 쪽지마다 하나)
+// - 관리자 문의함과 내 문의 목록은 쪽지/회원 테이블을 뒤지지 않고 이 테이블만 인덱스 순서대로 읽는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "support_tickets", indexes = {
+        @Index(name = "idx_support_tickets_admin_last_activity", columnList = "deleted_by_admin, last_activity_at, id"),
+        @Index(name = "idx_support_tickets_status_last_activity", columnList = "status, deleted_by_admin, last_activity_at, id"),
+        @Index(name = "idx_support_tickets_requester_last_activity", columnList = "requester_id, deleted_by_requester, last_activity_at, id"),
+        @Index(name = "idx_support_tickets_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_support_tickets_message", columnNames = "message_id")
+})
+public class SupportTicketEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "REQUESTER_ID", nullable = false)
+    private UserEntity requester;
+
+    // 문의 내용이 담긴 쪽지
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "MESSAGE_ID", nullable = false)
+    private MessageEntity message;
+
+    // 답변한 관리자 (답변 전에는 null)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ASSIGNEE_ID")
+    private UserEntity assignee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SupportTicketStatus status;
+
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    @Column(name = "deleted_by_requester", nullable = false)
+    private boolean deletedByRequester;
+
+    @Column(name = "deleted_by_admin", nullable = false)
+    private boolean deletedByAdmin;
+
+    @Builder
+    public SupportTicketEntity(UserEntity requester, MessageEntity message) {
+        this.requester = requester;
+        this.message = message;
+        this.status = SupportTicketStatus.OPEN;
+        this.lastActivityAt = LocalDateTime.now();
+    }
+
+    public void answer(UserEntity admin) {
+        this.assignee = admin;
+        this.status = SupportTicketStatus.ANSWERED;
+        this.lastActivityAt = LocalDateTime.now();
+    }
+
+    public void close() {
+        this.status = SupportTicketStatus.CLOSED;
+        this.lastActivityAt = LocalDateTime.now();
+    }
+
+    public void deleteByRequester() {
+        this.deletedByRequester = true;
+    }
+
+    public void deleteByAdmin() {
+        this.deletedByAdmin = true;
+    }
+}
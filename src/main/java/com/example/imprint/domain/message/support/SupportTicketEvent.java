@@ -0,0 +1,11 @@
+package com.example.imprint.domain.message.support;
+
+// 문의 상태 변경 이벤트 (커밋 이후 대시보드 통계에서 구독)
+public class SupportTicketEvent {
+    public record Opened(
+            Long ticketId) {}
+
+    // 답변 대기(OPEN)에서 답변/처리 완료로 바뀜
+    public record Resolved(
+            Long ticketId) {}
+}
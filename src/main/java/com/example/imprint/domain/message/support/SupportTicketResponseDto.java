@@ -0,0 +1,30 @@
+package com.example.imprint.domain.message.support;
+
+import java.time.LocalDateTime;
+
+public record SupportTicketResponseDto(
+        Long id,
+        Long messageId,
+        String content,
+        Long requesterId,
+        String requesterNickname,
+        SupportTicketStatus status,
+        String assigneeNickname,
+        boolean read,
+        LocalDateTime createdAt,
+        LocalDateTime lastActivityAt) {
+
+    public static SupportTicketResponseDto from(SupportTicketEntity ticket) {
+        return new SupportTicketResponseDto(
+                ticket.getId(),
+                ticket.getMessage().getId(),
+                ticket.getMessage().getContent(),
+                ticket.getRequester().getId(),
+                ticket.getRequester().getNickname(),
+                ticket.getStatus(),
+                ticket.getAssignee() == null ? null : ticket.getAssignee().getNickname(),
+                ticket.getMessage().isRead(),
+                ticket.getCreatedAt(),
+                ticket.getLastActivityAt());
+    }
+}
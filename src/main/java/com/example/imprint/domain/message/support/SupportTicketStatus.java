@@ -0,0 +1,7 @@
+package com.example.imprint.domain.message.support;
+
+public enum SupportTicketStatus {
+    OPEN,       // 답변 대기
+    ANSWERED,   // 관리자가 답변함
+    CLOSED      // 처리 완료
+}
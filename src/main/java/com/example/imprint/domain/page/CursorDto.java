@@ -0,0 +1,63 @@
+package com.example.imprint.domain.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 커서 기반(keyset) 페이지네이션용 커서
+// - (createdAt, id) 위치와 이동 방향을 담아 클라이언트에는 불투명한 문자열로 전달한다.
+// - 여러 테이블을 합친 목록은 source 로 위치의 출처를 구분한다. (없으면 null)
+public record CursorDto(
+        Direction direction,
+        LocalDateTime createdAt,
+        Long id,
+        String source) {
+
+    public enum Direction {
+        // 더 오래된 항목 (다음 페이지)
+        NEXT,
+        // 더 최근 항목 (이전 페이지)
+        PREV
+    }
+
+    private static final String DELIMITER = "|";
+
+    public static CursorDto next(LocalDateTime createdAt, Long id) {
+        return new CursorDto(Direction.NEXT, createdAt, id, null);
+    }
+
+    public static CursorDto prev(LocalDateTime createdAt, Long id) {
+        return new CursorDto(Direction.PREV, createdAt, id, null);
+    }
+
+    public static CursorDto next(LocalDateTime createdAt, Long id, String source) {
+        return new CursorDto(Direction.NEXT, createdAt, id, source);
+    }
+
+    public static CursorDto prev(LocalDateTime createdAt, Long id, String source) {
+        return new CursorDto(Direction.PREV, createdAt, id, source);
+    }
+
+    public String encode() {
+        String raw = direction.name() + DELIMITER + createdAt + DELIMITER + id
+                + (source == null ? "" : DELIMITER + source);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorDto decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+
+            if (parts.length != 3 && parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+
+            return new CursorDto(Direction.valueOf(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]),
+                    parts.length == 4 ? parts[3] : null);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -25,7 +25,22 @@ public class PostDto {
 
     public record IdResponse(Long id) {}
 
+    // 대량 적재 입력 (NDJSON 한 줄 또는 CSV 한 행)
+    // 작성자는 writerId 또는 writerEmail 중 하나 (예전 서비스에서 옮긴 회원은 이메일로 찾는다)
+    public record Ingest(
+            Long boardId,
+            Long writerId,
+            String writerEmail,
+            String title,
+            String content) {}
+
     public record pagedResponse(
             List<Response> postList,
             PaginationDto pagination) {}
+
+    // 커서 기반 목록 응답 (다음/이전 커서가 없으면 null)
+    public record cursorResponse(
+            List<Response> postList,
+            String nextCursor,
+            String prevCursor) {}
 }
@@ -18,10 +18,17 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 게시판별 최신순 커서 조회용 (board_id, created_at, id)
+        @Index(name = "idx_posts_board_created_at_id", columnList = "board_id, created_at, id"),
+        // 오늘 작성된 게시물 수 (countByCreatedAtAfter)
+        @Index(name = "idx_posts_created_at", columnList = "created_at")
+})
 public class PostEntity extends BaseTimeEntity {
+    // 대량 적재 시 INSERT 를 JDBC 배치로 묶을 수 있도록 시퀀스에서 50개씩 받아 온다 (V3 마이그레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_seq")
+    @SequenceGenerator(name = "posts_seq", sequenceName = "posts_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
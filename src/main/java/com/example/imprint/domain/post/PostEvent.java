@@ -0,0 +1,58 @@
+package com.example.imprint.domain.post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 게시물 변경 이벤트 (커밋 이후 검색 색인 등 부가 기능에서 구독)
+public class PostEvent {
+    public record Created(
+            Long postId,
+            Long boardId,
+            Long writerId,
+            String writerNickname,
+            String title,
+            String content,
+            LocalDateTime createdAt) {
+
+        public static Created from(PostEntity entity) {
+            return new Created(
+                    entity.getId(),
+                    entity.getBoard().getId(),
+                    entity.getWriter().getId(),
+                    entity.getWriter().getNickname(),
+                    entity.getTitle(),
+                    entity.getContent(),
+                    entity.getCreatedAt()
+            );
+        }
+    }
+
+    public record Updated(
+            Long postId,
+            Long boardId,
+            Long writerId,
+            String writerNickname,
+            String title,
+            String content,
+            LocalDateTime createdAt) {
+
+        public static Updated from(PostEntity entity) {
+            return new Updated(
+                    entity.getId(),
+                    entity.getBoard().getId(),
+                    entity.getWriter().getId(),
+                    entity.getWriter().getNickname(),
+                    entity.getTitle(),
+                    entity.getContent(),
+                    entity.getCreatedAt()
+            );
+        }
+    }
+
+    public record Deleted(
+            Long postId,
+            Long boardId) {}
+
+    // 대량 적재로 한 묶음이 커밋됨 (게시물마다 Created 를 따로 발행하지 않음)
+    public record Ingested(List<Created> posts) {}
+}
@@ -9,6 +9,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "email_verification", indexes = {
+        // 이메일별 최근 인증번호 조회
+        @Index(name = "idx_email_verification_email_created_at", columnList = "email, created_at"),
+        // 만료 인증 정보 정리
+        @Index(name = "idx_email_verification_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EmailVerification extends BaseTimeEntity {
@@ -11,7 +11,17 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "USERS")
+@Table(name = "USERS", indexes = {
+        // 오늘 가입자 수 (countByCreatedAtAfter)
+        @Index(name = "idx_users_created_at", columnList = "created_at"),
+        // 상태별 회원 수
+        @Index(name = "idx_users_status", columnList = "status"),
+        // 관리자 조회 (findByRole)
+        @Index(name = "idx_users_role", columnList = "role"),
+        // 비밀번호 재설정 토큰 조회 / 만료 토큰 정리
+        @Index(name = "idx_users_reset_token", columnList = "reset_token"),
+        @Index(name = "idx_users_token_expiry", columnList = "token_expiry")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
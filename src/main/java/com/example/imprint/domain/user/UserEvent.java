@@ -0,0 +1,20 @@
+package com.example.imprint.domain.user;
+
+// 사용자 변경 이벤트
+public class UserEvent {
+    public record Registered(
+            Long userId) {}
+
+    // 대량 가져오기로 한 묶음이 커밋됨 (가져온 회원은 모두 ACTIVE, 회원마다 Registered 를 따로 발행하지 않음)
+    public record Ingested(
+            int count) {}
+
+    public record StatusChanged(
+            Long userId,
+            UserStatus from,
+            UserStatus to) {}
+
+    public record NicknameChanged(
+            Long userId,
+            String nickname) {}
+}
@@ -0,0 +1,9 @@
+package com.example.imprint.domain.user;
+
+// 회원 대량 가져오기 한 행 (NDJSON 한 줄 또는 CSV 한 행)
+// 비밀번호는 예전 서비스에서 BCrypt 로 만든 해시를 그대로 받는다 (평문은 받지 않음)
+public record UserIngestDto(
+        String email,
+        String passwordHash,
+        String nickname,
+        String name) {}
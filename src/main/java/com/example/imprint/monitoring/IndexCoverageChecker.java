@@ -0,0 +1,419 @@
+package com.example.imprint.monitoring;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 리포지토리 조회 조건과 DB 인덱스 비교
+// - 시작할 때 리포지토리 조회 메서드(메서드 이름 조회, @Query JPQL)의 WHERE 조건 컬럼을 테이블별로 모은다.
+// - 테이블별 조건 컬럼 중 어느 것도 인덱스(기본 키, 유니크 포함)의 첫 번째 컬럼이 아니면 전체 스캔이 될 수 있으므로 경고 로그로 남긴다.
+// - ORDER BY 가 있는 JPQL (키셋/커서 조회) 은 첫 번째 컬럼만으로는 부족하다. 조건 컬럼들로 시작하고 바로 뒤에
+//   ORDER BY 컬럼이 같은 순서로 이어지는 인덱스가 있어야 정렬 없이 인덱스 순서대로 읽으므로, 없으면 경고한다.
+//   (예: WHERE board_id = ? ORDER BY created_at, id 는 (board_id, created_at, id) 가 필요하고 FK 인덱스 (board_id) 로는 부족)
+// - native 쿼리는 확인하지 않는다. 마지막 결과는 관리자 모니터링 API 로 볼 수 있다.
+@Slf4j
+@Component
+public class IndexCoverageChecker {
+
+    // FROM / JOIN / UPDATE 엔티티 별칭 (FROM MessageEntity m)
+    private static final Pattern ENTITY_ALIAS = Pattern.compile(
+            "\\b(?:FROM|JOIN|UPDATE)\\s+(\\w+)(?=\\s+(?:AS\\s+)?(\\w+))", Pattern.CASE_INSENSITIVE);
+
+    // 연관관계 조인 별칭 (JOIN m.receiver r, 별칭은 다음 JOIN 과 겹치지 않도록 미리보기로 읽는다)
+    private static final Pattern JOIN_ALIAS = Pattern.compile(
+            "\\bJOIN\\s+(?:FETCH\\s+)?(\\w+)\\.(\\w+)(?=\\s+(?:AS\\s+)?(\\w+))", Pattern.CASE_INSENSITIVE);
+
+    // 조건 안의 속성 경로 (m.receiver.id)
+    private static final Pattern PROPERTY_PATH = Pattern.compile("\\b([A-Za-z_]\\w*)((?:\\.[A-Za-z_]\\w*)+)");
+
+    private static final Pattern WHERE = Pattern.compile("\\bWHERE\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CLAUSE_END = Pattern.compile("\\b(?:ORDER|GROUP)\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Set<String> KEYWORDS = Set.of("JOIN", "LEFT", "INNER", "OUTER", "FETCH", "WHERE", "ON", "SET",
+            "ORDER", "GROUP", "AND", "OR");
+
+    private final ListableBeanFactory beanFactory;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final Set<String> ignored;
+
+    private volatile List<Finding> lastFindings = List.of();
+
+    // 인덱스 없이 조회될 수 있는 조건 (query: "PostRepository.countByCreatedAtAfter")
+    // orderBy: 키셋 조회라서 조건 뒤에 이어져야 하는 정렬 컬럼 (정렬이 없으면 빈 목록)
+    public record Finding(String query, String table, Set<String> columns, List<String> orderBy) {}
+
+    public IndexCoverageChecker(ListableBeanFactory beanFactory,
+                                DataSource dataSource,
+                                @Value("${imprint.monitoring.index.enabled:true}") boolean enabled,
+                                @Value("${imprint.monitoring.index.ignored:}") List<String> ignored) {
+        this.beanFactory = beanFactory;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.ignored = Set.copyOf(ignored);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<Finding> findings = check();
+            if (findings.isEmpty()) {
+                log.info("리포지토리 조회 조건 인덱스 확인: 모든 조건에 인덱스가 있습니다.");
+            }
+            for (Finding finding : findings) {
+                if (finding.orderBy().isEmpty()) {
+                    log.warn("인덱스 없이 조회될 수 있는 조건: {} ({}: {})", finding.query(), finding.table(), finding.columns());
+                } else {
+                    log.warn("정렬까지 맞는 인덱스 없이 조회될 수 있는 키셋 조회: {} ({}: {} ORDER BY {})",
+                            finding.query(), finding.table(), finding.columns(), finding.orderBy());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("리포지토리 조회 조건 인덱스 확인 실패", e);
+        }
+    }
+
+    public List<Finding> lastFindings() {
+        return lastFindings;
+    }
+
+    public List<Finding> check() {
+        Repositories repositories = new Repositories(beanFactory);
+
+        Map<String, Class<?>> entities = new HashMap<>();
+        for (Class<?> domainType : repositories) {
+            entities.put(domainType.getSimpleName(), domainType);
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            IndexCatalog catalog = new IndexCatalog(connection);
+
+            for (Class<?> domainType : repositories) {
+                RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+                String repositoryName = information.getRepositoryInterface().getSimpleName();
+
+                for (Method method : information.getQueryMethods()) {
+                    String query = repositoryName + "." + method.getName();
+                    if (ignored.contains(query)) {
+                        continue;
+                    }
+
+                    Map<String, List<String>> orderColumns = orderColumns(method, entities);
+                    predicateColumns(method, domainType, entities).forEach((table, columns) -> {
+                        List<String> orderBy = orderColumns.getOrDefault(table, List.of());
+                        boolean covered = orderBy.isEmpty()
+                                ? columns.stream().anyMatch(catalog.leadingColumns(table)::contains)
+                                : catalog.indexes(table).stream().anyMatch(index -> servesOrder(index, columns, orderBy));
+                        if (!covered) {
+                            findings.add(new Finding(query, table, columns, orderBy));
+                        }
+                    });
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("인덱스 정보를 읽지 못했습니다.", e);
+        }
+
+        lastFindings = List.copyOf(findings);
+        return lastFindings;
+    }
+
+    // 조회 메서드의 조건 컬럼 (테이블 -> 컬럼, 모두 대문자)
+    static Map<String, Set<String>> predicateColumns(Method method, Class<?> domainType, Map<String, Class<?>> entities) {
+        Map<String, Set<String>> columns = new LinkedHashMap<>();
+
+        Query query = method.getAnnotation(Query.class);
+        if (query == null) {
+            try {
+                for (Part part : new PartTree(method.getName(), domainType).getParts()) {
+                    addPath(columns, domainType, part.getProperty().toDotPath());
+                }
+            } catch (RuntimeException e) {
+                // 메서드 이름으로 만든 조회가 아니면 (findSliceBy 등 조건 없는 조회 포함) 건너뛴다
+            }
+            return columns;
+        }
+
+        if (query.nativeQuery()) {
+            return columns;
+        }
+
+        String jpql = query.value();
+        Matcher where = WHERE.matcher(jpql);
+        if (!where.find()) {
+            return columns;
+        }
+
+        Map<String, Class<?>> aliases = new HashMap<>();
+        Map<String, String> joinPaths = new HashMap<>();
+        readAliases(jpql, entities, aliases, joinPaths);
+
+        String condition = jpql.substring(where.start());
+        Matcher clauseEnd = CLAUSE_END.matcher(condition);
+        if (clauseEnd.find()) {
+            condition = condition.substring(0, clauseEnd.start());
+        }
+
+        Matcher path = PROPERTY_PATH.matcher(condition);
+        while (path.find()) {
+            String alias = path.group(1);
+            Class<?> entity = aliases.get(alias);
+            if (entity == null) {
+                continue;
+            }
+
+            addPath(columns, entity, path.group(2).substring(1));
+
+            String joinPath = joinPaths.get(alias);
+            if (joinPath != null) {
+                int dot = joinPath.indexOf('.');
+                addPath(columns, aliases.get(joinPath.substring(0, dot)), joinPath.substring(dot + 1));
+            }
+        }
+
+        return columns;
+    }
+
+    // 키셋 조회의 ORDER BY 컬럼 (테이블 -> 정렬 순서대로 컬럼, 모두 대문자), JPQL 만 본다
+    static Map<String, List<String>> orderColumns(Method method, Map<String, Class<?>> entities) {
+        Map<String, List<String>> columns = new LinkedHashMap<>();
+
+        Query query = method.getAnnotation(Query.class);
+        if (query == null || query.nativeQuery()) {
+            return columns;
+        }
+
+        String jpql = query.value();
+        Matcher orderBy = ORDER_BY.matcher(jpql);
+        if (!orderBy.find()) {
+            return columns;
+        }
+
+        Map<String, Class<?>> aliases = new HashMap<>();
+        readAliases(jpql, entities, aliases, new HashMap<>());
+
+        for (String item : jpql.substring(orderBy.end()).split(",")) {
+            Matcher path = PROPERTY_PATH.matcher(item);
+            if (!path.find() || aliases.get(path.group(1)) == null) {
+                continue;
+            }
+
+            Map<String, Set<String>> column = new LinkedHashMap<>();
+            addPath(column, aliases.get(path.group(1)), path.group(2).substring(1));
+            column.forEach((table, names) -> columns.computeIfAbsent(table, key -> new ArrayList<>()).addAll(names));
+        }
+
+        return columns;
+    }
+
+    // 인덱스가 키셋 조회를 정렬 없이 처리할 수 있는지
+    // 인덱스 앞쪽 0개 이상이 조건 컬럼이고, 바로 뒤에 ORDER BY 컬럼이 같은 순서로 이어져야 한다
+    static boolean servesOrder(List<String> index, Set<String> predicate, List<String> orderBy) {
+        for (int prefix = 0; prefix + orderBy.size() <= index.size(); prefix++) {
+            if (prefix > 0 && !predicate.contains(index.get(prefix - 1))) {
+                return false;
+            }
+            if (index.subList(prefix, prefix + orderBy.size()).equals(orderBy)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // FROM/JOIN 별칭 -> 엔티티, 연관관계 조인 별칭 -> 조인 경로 (m.receiver)
+    private static void readAliases(String jpql, Map<String, Class<?>> entities,
+                                    Map<String, Class<?>> aliases, Map<String, String> joinPaths) {
+        Matcher entityAlias = ENTITY_ALIAS.matcher(jpql);
+        while (entityAlias.find()) {
+            Class<?> entity = entities.get(entityAlias.group(1));
+            if (entity != null && !KEYWORDS.contains(entityAlias.group(2).toUpperCase(Locale.ROOT))) {
+                aliases.put(entityAlias.group(2), entity);
+            }
+        }
+
+        // 연관관계 조인 별칭은 대상 엔티티로 보고, 조건에 쓰였을 때만 조인 컬럼(FK)도 조건으로 본다
+        Matcher joinAlias = JOIN_ALIAS.matcher(jpql);
+        while (joinAlias.find()) {
+            Class<?> owner = aliases.get(joinAlias.group(1));
+            Field field = owner == null ? null : findField(owner, joinAlias.group(2));
+            String alias = joinAlias.group(3);
+            if (field != null && isToOne(field) && !KEYWORDS.contains(alias.toUpperCase(Locale.ROOT))) {
+                aliases.put(alias, field.getType());
+                joinPaths.put(alias, joinAlias.group(1) + "." + joinAlias.group(2));
+            }
+        }
+    }
+
+    // 속성 경로를 컬럼으로 바꾼다 (receiver.email -> MESSAGES.RECEIVER_ID, USERS.EMAIL)
+    private static void addPath(Map<String, Set<String>> columns, Class<?> entity, String dotPath) {
+        int dot = dotPath.indexOf('.');
+        String property = dot < 0 ? dotPath : dotPath.substring(0, dot);
+
+        Field field = findField(entity, property);
+        if (field == null || field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class)) {
+            return;
+        }
+
+        columns.computeIfAbsent(tableName(entity), key -> new TreeSet<>()).add(columnName(field));
+
+        // 대상의 id 는 조인 컬럼 값과 같으므로 대상 테이블까지 가지 않는다 (board.id -> POSTS.BOARD_ID)
+        if (dot >= 0 && isToOne(field)) {
+            String rest = dotPath.substring(dot + 1);
+            Field target = findField(field.getType(), rest);
+            if (target == null || !target.isAnnotationPresent(Id.class)) {
+                addPath(columns, field.getType(), rest);
+            }
+        }
+    }
+
+    private static Field findField(Class<?> type, String name) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스 (BaseTimeEntity) 에서 찾는다
+            }
+        }
+        return null;
+    }
+
+    private static boolean isToOne(Field field) {
+        return field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class);
+    }
+
+    private static String tableName(Class<?> entity) {
+        Table table = entity.getAnnotation(Table.class);
+        String name = table != null && !table.name().isEmpty() ? table.name() : snakeCase(entity.getSimpleName());
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    private static String columnName(Field field) {
+        String name;
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        Column column = field.getAnnotation(Column.class);
+
+        if (isToOne(field)) {
+            name = joinColumn != null && !joinColumn.name().isEmpty() ? joinColumn.name() : snakeCase(field.getName()) + "_id";
+        } else {
+            name = column != null && !column.name().isEmpty() ? column.name() : snakeCase(field.getName());
+        }
+        return name.toUpperCase(Locale.ROOT);
+    }
+
+    // Spring Boot 기본 네이밍 전략과 같은 규칙 (createdAt -> created_at)
+    private static String snakeCase(String name) {
+        StringBuilder builder = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(name.charAt(i - 1))) {
+                builder.append('_');
+            }
+            builder.append(Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
+
+    // 테이블별 인덱스 컬럼 목록 (JDBC 메타데이터, 테이블마다 한 번만 읽음)
+    private static final class IndexCatalog {
+
+        private final Connection connection;
+        private final DatabaseMetaData metaData;
+        private final Map<String, List<List<String>>> indexes = new HashMap<>();
+
+        private IndexCatalog(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.metaData = connection.getMetaData();
+        }
+
+        // 인덱스마다 컬럼을 순서대로 (기본 키 인덱스 포함, 보조 인덱스 끝에는 기본 키 컬럼을 붙임)
+        List<List<String>> indexes(String table) {
+            return indexes.computeIfAbsent(table, this::read);
+        }
+
+        Set<String> leadingColumns(String table) {
+            Set<String> columns = new TreeSet<>();
+            indexes(table).forEach(index -> columns.add(index.getFirst()));
+            return columns;
+        }
+
+        private List<List<String>> read(String table) {
+            Map<String, TreeMap<Short, String>> byName = new LinkedHashMap<>();
+            try {
+                String schema = connection.getSchema();
+                String name = metaData.storesLowerCaseIdentifiers() ? table.toLowerCase(Locale.ROOT) : table;
+
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), schema, name, false, true)) {
+                    while (indexes.next()) {
+                        if (indexes.getString("INDEX_NAME") != null && indexes.getString("COLUMN_NAME") != null) {
+                            byName.computeIfAbsent(indexes.getString("INDEX_NAME"), key -> new TreeMap<>())
+                                    .put(indexes.getShort("ORDINAL_POSITION"), indexes.getString("COLUMN_NAME").toUpperCase(Locale.ROOT));
+                        }
+                    }
+                }
+
+                try (ResultSet primaryKeys = metaData.getPrimaryKeys(connection.getCatalog(), schema, name)) {
+                    while (primaryKeys.next()) {
+                        byName.computeIfAbsent("PRIMARY KEY", key -> new TreeMap<>())
+                                .put(primaryKeys.getShort("KEY_SEQ"), primaryKeys.getString("COLUMN_NAME").toUpperCase(Locale.ROOT));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("인덱스 정보를 읽지 못했습니다. (테이블: " + table + ")", e);
+            }
+
+            // 보조 인덱스는 행을 찾기 위해 기본 키를 끝에 달고 있으므로 (H2, InnoDB) 정렬 비교에서는 뒤에 붙여서 본다
+            List<String> primaryKey = byName.containsKey("PRIMARY KEY")
+                    ? List.copyOf(byName.get("PRIMARY KEY").values())
+                    : List.of();
+
+            List<List<String>> result = new ArrayList<>();
+            byName.forEach((index, columns) -> {
+                List<String> ordered = new ArrayList<>(columns.values());
+                primaryKey.stream().filter(column -> !ordered.contains(column)).forEach(ordered::add);
+                result.add(List.copyOf(ordered));
+            });
+            return result;
+        }
+    }
+}
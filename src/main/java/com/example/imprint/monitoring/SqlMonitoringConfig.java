@@ -0,0 +1,17 @@
+package com.example.imprint.monitoring;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+// 요청별 SQL 실행 수/시간 계측 (DataSource 프록시 + 서블릿 필터)
+@EnableConfigurationProperties(SqlMonitoringProperties.class)
+public class SqlMonitoringConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static 으로 등록
+    @Bean
+    public static SqlMonitoringDataSourcePostProcessor sqlMonitoringDataSourcePostProcessor() {
+        return new SqlMonitoringDataSourcePostProcessor();
+    }
+}
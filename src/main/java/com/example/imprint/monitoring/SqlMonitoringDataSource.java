@@ -0,0 +1,79 @@
+package com.example.imprint.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+// 실제 DataSource 를 감싸서 Statement 실행 시간을 SqlRequestContext 에 기록
+// - 요청 컨텍스트가 열려 있지 않으면 (배치/스케줄러 등) 시간 측정 없이 그대로 실행한다.
+public class SqlMonitoringDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlMonitoringDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+
+                    // prepareStatement/prepareCall 은 SQL 을, createStatement 는 실행 시점의 SQL 을 기록
+                    if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        String sql = (args != null && args.length > 0 && args[0] instanceof String s) ? s : null;
+                        return wrapStatement(statement, method.getReturnType(), sql);
+                    }
+
+                    return result;
+                });
+    }
+
+    private Object wrapStatement(Statement statement, Class<?> statementType, String preparedSql) {
+        return Proxy.newProxyInstance(
+                statementType.getClassLoader(),
+                new Class<?>[]{statementType},
+                (proxy, method, args) -> {
+                    if (!EXECUTE_METHODS.contains(method.getName()) || !SqlRequestContext.isActive()) {
+                        return invoke(statement, method, args);
+                    }
+
+                    String sql = (args != null && args.length > 0 && args[0] instanceof String s) ? s : preparedSql;
+                    long startedAt = System.nanoTime();
+
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        SqlRequestContext.record(sql, System.nanoTime() - startedAt);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
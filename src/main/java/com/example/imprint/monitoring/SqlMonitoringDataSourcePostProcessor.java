@@ -0,0 +1,18 @@
+package com.example.imprint.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+// 애플리케이션의 DataSource 빈을 SqlMonitoringDataSource 로 감싼다
+public class SqlMonitoringDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof SqlMonitoringDataSource)) {
+            return new SqlMonitoringDataSource(dataSource);
+        }
+
+        return bean;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.imprint.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청마다 SQL 기록을 열고, 끝나면 매핑된 컨트롤러 경로 패턴 기준으로 집계
+// - 보안 필터에서 실행되는 SQL 까지 포함하도록 가장 바깥에서 실행한다.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    private final SqlMonitoringProperties properties;
+    private final SqlMonitoringRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlRequestContext.begin();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.Recording recording = SqlRequestContext.end();
+
+            // 컨트롤러에 매핑되지 않은 요청(정적 리소스 등)은 집계하지 않는다
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern
+                    && recording != null) {
+                registry.record(request.getMethod() + " " + pattern, recording);
+            }
+        }
+    }
+}
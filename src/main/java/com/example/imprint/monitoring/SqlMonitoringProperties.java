@@ -0,0 +1,28 @@
+package com.example.imprint.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청당 SQL 실행 수 예산 설정 (imprint.monitoring.sql.*)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "imprint.monitoring.sql")
+public class SqlMonitoringProperties {
+
+    // 요청별 SQL 기록 여부
+    private boolean enabled = true;
+
+    // 엔드포인트별 예산이 없을 때 적용할 요청당 최대 SQL 수
+    private int defaultBudget = 20;
+
+    // 엔드포인트별 요청당 최대 SQL 수 (키: "GET /boards/{boardId}/posts")
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    public int budgetOf(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.imprint.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 컨트롤러 매핑(예: "GET /boards/{boardId}/posts")별 SQL 실행 통계
+// - 요청 수, 요청당 SQL 수(평균/최대), DB 시간(평균/최대), 가장 느린 SQL, 예산 초과 횟수를 집계한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlMonitoringRegistry {
+
+    private final SqlMonitoringProperties properties;
+
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public record EndpointSnapshot(
+            String endpoint,
+            long requests,
+            double avgStatements,
+            int maxStatements,
+            double avgDbMillis,
+            double maxDbMillis,
+            String slowestSql,
+            double slowestSqlMillis,
+            int budget,
+            long overBudgetRequests) {}
+
+    private static final class EndpointStats {
+        private long requests;
+        private long totalStatements;
+        private int maxStatements;
+        private long totalNanos;
+        private long maxNanos;
+        private String slowestSql;
+        private long slowestSqlNanos;
+        private long overBudgetRequests;
+    }
+
+    public void record(String endpoint, SqlRequestContext.Recording recording) {
+        int budget = properties.budgetOf(endpoint);
+        EndpointStats stats = statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats());
+
+        synchronized (stats) {
+            stats.requests++;
+            stats.totalStatements += recording.getStatementCount();
+            stats.maxStatements = Math.max(stats.maxStatements, recording.getStatementCount());
+            stats.totalNanos += recording.getTotalNanos();
+            stats.maxNanos = Math.max(stats.maxNanos, recording.getTotalNanos());
+
+            if (recording.getSlowestNanos() > stats.slowestSqlNanos) {
+                stats.slowestSqlNanos = recording.getSlowestNanos();
+                stats.slowestSql = recording.getSlowestSql();
+            }
+
+            if (recording.getStatementCount() > budget) {
+                stats.overBudgetRequests++;
+            }
+        }
+
+        if (recording.getStatementCount() > budget) {
+            log.warn("SQL 실행 수가 예산을 초과했습니다. ({} : {}개 / 예산 {}개)",
+                    endpoint, recording.getStatementCount(), budget);
+        }
+    }
+
+    // SQL 실행 수가 많은 엔드포인트부터
+    public List<EndpointSnapshot> snapshot() {
+        return statsByEndpoint.entrySet().stream()
+                .map(entry -> toSnapshot(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(EndpointSnapshot::maxStatements).reversed())
+                .toList();
+    }
+
+    public EndpointSnapshot snapshot(String endpoint) {
+        EndpointStats stats = statsByEndpoint.get(endpoint);
+        return stats == null ? null : toSnapshot(endpoint, stats);
+    }
+
+    public void reset() {
+        statsByEndpoint.clear();
+    }
+
+    // 테스트용: 예산을 초과한 요청이 하나라도 있으면 실패
+    public void assertWithinBudget() {
+        List<EndpointSnapshot> violations = snapshot().stream()
+                .filter(snapshot -> snapshot.overBudgetRequests() > 0)
+                .toList();
+
+        if (!violations.isEmpty()) {
+            StringBuilder message = new StringBuilder("SQL 실행 수 예산을 초과한 엔드포인트가 있습니다.");
+            violations.forEach(violation -> message.append(String.format("%n - %s : 최대 %d개 / 예산 %d개 (초과 %d회)",
+                    violation.endpoint(), violation.maxStatements(), violation.budget(), violation.overBudgetRequests())));
+
+            throw new IllegalStateException(message.toString());
+        }
+    }
+
+    private EndpointSnapshot toSnapshot(String endpoint, EndpointStats stats) {
+        synchronized (stats) {
+            long requests = Math.max(stats.requests, 1);
+
+            return new EndpointSnapshot(
+                    endpoint,
+                    stats.requests,
+                    (double) stats.totalStatements / requests,
+                    stats.maxStatements,
+                    toMillis(stats.totalNanos) / requests,
+                    toMillis(stats.maxNanos),
+                    stats.slowestSql,
+                    toMillis(stats.slowestSqlNanos),
+                    properties.budgetOf(endpoint),
+                    stats.overBudgetRequests
+            );
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.imprint.monitoring;
+
+// 현재 요청(스레드)에서 실행된 SQL 통계를 모으는 ThreadLocal 저장소
+// - SqlMonitoringFilter 가 요청 시작/종료 시 열고 닫으며, 그 사이의 JDBC 실행은 SqlMonitoringDataSource 가 기록한다.
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private SqlRequestContext() {
+    }
+
+    public static final class Recording {
+        private int statementCount;
+        private long totalNanos;
+        private long slowestNanos;
+        private String slowestSql;
+
+        private void record(String sql, long nanos) {
+            statementCount++;
+            totalNanos += nanos;
+
+            if (nanos > slowestNanos) {
+                slowestNanos = nanos;
+                slowestSql = sql;
+            }
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getSlowestNanos() {
+            return slowestNanos;
+        }
+
+        public String getSlowestSql() {
+            return slowestSql;
+        }
+    }
+
+    public static void begin() {
+        CURRENT.set(new Recording());
+    }
+
+    public static Recording end() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql, long nanos) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.record(sql, nanos);
+        }
+    }
+}
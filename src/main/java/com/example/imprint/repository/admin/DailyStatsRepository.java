@@ -0,0 +1,41 @@
+package com.example.imprint.repository.admin;
+
+import com.example.imprint.domain.admin.DailyStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyStatsRepository extends JpaRepository<DailyStatsEntity, LocalDate> {
+
+    List<DailyStatsEntity> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+
+    // 모아 둔 증감분을 한 번에 더한다 (행을 읽지 않고 UPDATE 한 번)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyStatsEntity s SET " +
+            "s.signupCount = s.signupCount + :signups, " +
+            "s.postCount = s.postCount + :posts, " +
+            "s.commentCount = s.commentCount + :comments, " +
+            "s.reportCount = s.reportCount + :reports, " +
+            "s.supportCount = s.supportCount + :supports, " +
+            "s.totalUserCount = s.totalUserCount + :totalUsers, " +
+            "s.activeUserCount = s.activeUserCount + :activeUsers, " +
+            "s.bannedUserCount = s.bannedUserCount + :bannedUsers, " +
+            "s.pendingReportCount = s.pendingReportCount + :pendingReports, " +
+            "s.pendingSupportCount = s.pendingSupportCount + :pendingSupports " +
+            "WHERE s.statDate = :date")
+    int addCounts(@Param("date") LocalDate date,
+                  @Param("signups") long signups,
+                  @Param("posts") long posts,
+                  @Param("comments") long comments,
+                  @Param("reports") long reports,
+                  @Param("supports") long supports,
+                  @Param("totalUsers") long totalUsers,
+                  @Param("activeUsers") long activeUsers,
+                  @Param("bannedUsers") long bannedUsers,
+                  @Param("pendingReports") long pendingReports,
+                  @Param("pendingSupports") long pendingSupports);
+}
@@ -0,0 +1,16 @@
+package com.example.imprint.repository.admin;
+
+import com.example.imprint.domain.admin.SystemSettingsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface SystemSettingsRepository extends JpaRepository<SystemSettingsEntity, Integer> {
+
+    // 첫 관리자 부여를 한 번만 차지한다 (false -> true 로 바꾼 트랜잭션만 1을 받음)
+    // 동시에 가입하면 뒤 트랜잭션은 행 잠금을 기다렸다가 바뀐 값을 보고 0을 받는다
+    @Modifying
+    @Query("UPDATE SystemSettingsEntity s SET s.adminBootstrapped = true " +
+            "WHERE s.id = " + SystemSettingsEntity.ID + " AND s.adminBootstrapped = false")
+    int claimAdminBootstrap();
+}
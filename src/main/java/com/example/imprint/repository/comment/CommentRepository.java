@@ -1,15 +1,48 @@
 package com.example.imprint.repository.comment;
 
+import com.example.imprint.domain.comment.CommentDto;
 import com.example.imprint.domain.comment.CommentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     Page<CommentEntity> findByPostId(Long postId, Pageable pageable);
 
+    // 목록 조회는 응답 DTO 로 바로 projection (연관 엔티티 지연 로딩 없이 한 번의 쿼리)
+    // 페이지 내용만 조회 (전체 개수는 EntityCounter 에서 가져옴)
+    @Query("SELECT new com.example.imprint.domain.comment.CommentDto$Response(" +
+            "c.id, c.post.id, c.writer.id, c.content, c.createdAt, c.updatedAt) " +
+            "FROM CommentEntity c " +
+            "WHERE c.post.id = :postId")
+    Slice<CommentDto.Response> findResponseSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    long countByPostId(Long postId);
+
+    // 게시물별 댓글 수 [postId, count]
+    @Query("SELECT c.post.id, COUNT(c) FROM CommentEntity c WHERE c.post.id IN :postIds GROUP BY c.post.id")
+    List<Object[]> countGroupByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
     // 하루에 작성된 댓글 수
     long countByCreatedAtAfter(LocalDateTime startOfDay);
+
+    // 내보내기용: 게시판에 속한 게시물들의 댓글을 (게시물 id, 댓글 id) 순으로 앞으로만 읽는다
+    // 트랜잭션 안에서 쓰고 반드시 닫아야 한다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM CommentEntity c WHERE c.post.board.id = :boardId ORDER BY c.post.id ASC, c.id ASC")
+    Stream<CommentEntity> streamByBoardId(@Param("boardId") Long boardId);
 }
@@ -0,0 +1,47 @@
+package com.example.imprint.repository.mail;
+
+import com.example.imprint.domain.mail.MailOutboxEntity;
+import com.example.imprint.domain.mail.MailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long> {
+
+    // 발송할 차례가 된 메일 (재시도 대기 중이거나 발송 작업이 끝내지 못하고 기한이 지난 것 포함)
+    @Query("SELECT m.id FROM MailOutboxEntity m " +
+            "WHERE m.status IN :statuses AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt, m.id")
+    List<Long> findDueIds(@Param("statuses") Collection<MailOutboxStatus> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 발송 작업이 가져감: 아직 발송할 차례인 경우에만 SENDING 으로 바꾼다 (다른 발송 작업이 먼저 가져갔으면 0)
+    // leaseUntil 까지 결과가 기록되지 않으면 다른 발송 작업이 다시 가져갈 수 있다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MailOutboxEntity m " +
+            "SET m.status = com.example.imprint.domain.mail.MailOutboxStatus.SENDING, " +
+            "m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+            "WHERE m.id = :id AND m.status IN :statuses AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id,
+              @Param("statuses") Collection<MailOutboxStatus> statuses,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 보관 기한 정리용: afterId 이후의 발송 완료/포기된 지 오래된 메일 id (키셋 순회)
+    @Query("SELECT m.id FROM MailOutboxEntity m WHERE m.status IN :statuses AND m.updatedAt < :before AND m.id > :afterId ORDER BY m.id")
+    List<Long> findFinishedIds(@Param("statuses") Collection<MailOutboxStatus> statuses,
+                               @Param("before") LocalDateTime before,
+                               @Param("afterId") Long afterId,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MailOutboxEntity m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -2,27 +2,178 @@ package com.example.imprint.repository.message;
 
 import com.example.imprint.domain.message.MessageEntity;
 import com.example.imprint.domain.user.UserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface MessageRepository extends JpaRepository<MessageEntity, Long> {
 
     // 받은 쪽지함: 수신자가 나이고, 수신자가 삭제하지 않은 쪽지들만 조회
+    // 목록 변환 시 닉네임을 읽으므로 보낸/받는 사람을 함께 가져온다 (N+1 방지)
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     List<MessageEntity> findAllByReceiverAndDeletedByReceiverFalseOrderByCreatedAtDesc(UserEntity receiver);
 
     // 보낸 쪽지함: 발신자가 나이고, 발신자가 삭제하지 않은 쪽지들만 조회
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     List<MessageEntity> findAllBySenderAndDeletedBySenderFalseOrderByCreatedAtDesc(UserEntity sender);
 
+    // 로그인 이메일로 바로 조회 (사용자 조회 쿼리 없이 한 번의 쿼리)
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    List<MessageEntity> findAllByReceiverEmailAndDeletedByReceiverFalseOrderByCreatedAtDesc(String email);
+
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    List<MessageEntity> findAllBySenderEmailAndDeletedBySenderFalseOrderByCreatedAtDesc(String email);
+
+    // 받은 쪽지함 커서 조회: 최신 쪽지부터 (receiver_id, deleted_by_receiver, created_at 인덱스 사용)
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender JOIN FETCH m.receiver r " +
+            "WHERE r.email = :email AND m.deletedByReceiver = false " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageEntity> findLatestReceived(@Param("email") String email, Pageable pageable);
+
+    // 받은 쪽지함 커서 조회: (createdAt, id) 보다 오래된 쪽지 (다음 페이지)
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender JOIN FETCH m.receiver r " +
+            "WHERE r.email = :email AND m.deletedByReceiver = false " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageEntity> findOlderReceived(@Param("email") String email,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 받은 쪽지함 커서 조회: (createdAt, id) 보다 최근 쪽지 (이전 페이지, 오래된 순으로 반환)
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender JOIN FETCH m.receiver r " +
+            "WHERE r.email = :email AND m.deletedByReceiver = false " +
+            "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) " +
+            "ORDER BY m.createdAt ASC, m.id ASC")
+    List<MessageEntity> findNewerReceived(@Param("email") String email,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 보낸 쪽지함 커서 조회: 최신 쪽지부터 (sender_id, deleted_by_sender, created_at 인덱스 사용)
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender s JOIN FETCH m.receiver " +
+            "WHERE s.email = :email AND m.deletedBySender = false " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageEntity> findLatestSent(@Param("email") String email, Pageable pageable);
+
+    // 보낸 쪽지함 커서 조회: (createdAt, id) 보다 오래된 쪽지 (다음 페이지)
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender s JOIN FETCH m.receiver " +
+            "WHERE s.email = :email AND m.deletedBySender = false " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MessageEntity> findOlderSent(@Param("email") String email,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    // 보낸 쪽지함 커서 조회: (createdAt, id) 보다 최근 쪽지 (이전 페이지, 오래된 순으로 반환)
+    @Query("SELECT m FROM MessageEntity m JOIN FETCH m.sender s JOIN FETCH m.receiver " +
+            "WHERE s.email = :email AND m.deletedBySender = false " +
+            "AND (m.createdAt > :createdAt OR (m.createdAt = :createdAt AND m.id > :id)) " +
+            "ORDER BY m.createdAt ASC, m.id ASC")
+    List<MessageEntity> findNewerSent(@Param("email") String email,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    // 일괄 처리: 소유자(이메일)와 대상 조건을 WHERE 절에 넣어 UPDATE 한 번으로 처리
+    // - allIds 가 true 면 ids 는 무시하고 olderThan 이전 쪽지 전체가 대상
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.isRead = true, m.readAt = :now " +
+            "WHERE m.receiver.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedByReceiver = false AND m.isRead = false " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan")
+    int markReadByReceiver(@Param("email") String email,
+                           @Param("allIds") boolean allIds,
+                           @Param("ids") Collection<Long> ids,
+                           @Param("olderThan") LocalDateTime olderThan,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.deletedByReceiver = true, m.updatedAt = LOCAL DATETIME " +
+            "WHERE m.receiver.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedByReceiver = false " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan " +
+            "AND (:readOnly = false OR m.isRead = true)")
+    int deleteByReceiverBulk(@Param("email") String email,
+                             @Param("allIds") boolean allIds,
+                             @Param("ids") Collection<Long> ids,
+                             @Param("olderThan") LocalDateTime olderThan,
+                             @Param("readOnly") boolean readOnly);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.deletedBySender = true, m.updatedAt = LOCAL DATETIME " +
+            "WHERE m.sender.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedBySender = false " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan " +
+            "AND (:readOnly = false OR m.isRead = true)")
+    int deleteBySenderBulk(@Param("email") String email,
+                           @Param("allIds") boolean allIds,
+                           @Param("ids") Collection<Long> ids,
+                           @Param("olderThan") LocalDateTime olderThan,
+                           @Param("readOnly") boolean readOnly);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.isStoredByReceiver = :stored " +
+            "WHERE m.receiver.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedByReceiver = false AND m.isStoredByReceiver <> :stored " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan " +
+            "AND (:readOnly = false OR m.isRead = true)")
+    int storeByReceiverBulk(@Param("email") String email,
+                            @Param("allIds") boolean allIds,
+                            @Param("ids") Collection<Long> ids,
+                            @Param("olderThan") LocalDateTime olderThan,
+                            @Param("readOnly") boolean readOnly,
+                            @Param("stored") boolean stored);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MessageEntity m SET m.isStoredBySender = :stored " +
+            "WHERE m.sender.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedBySender = false AND m.isStoredBySender <> :stored " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan " +
+            "AND (:readOnly = false OR m.isRead = true)")
+    int storeBySenderBulk(@Param("email") String email,
+                          @Param("allIds") boolean allIds,
+                          @Param("ids") Collection<Long> ids,
+                          @Param("olderThan") LocalDateTime olderThan,
+                          @Param("readOnly") boolean readOnly,
+                          @Param("stored") boolean stored);
+
     // 안 읽은 쪽지 개수 확인 (알림용)
     long countByReceiverAndIsReadFalseAndDeletedByReceiverFalse(UserEntity receiver);
 
-    // 수신자의 권한이 ADMIN인 메시지들을 최신순으로 조회
-    @Query("SELECT m FROM MessageEntity m JOIN m.receiver u WHERE u.role = com.example.imprint.domain.user.UserRole.ADMIN ORDER BY m.createdAt DESC")
-    List<MessageEntity> findAdminSupports();
+    long countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(String email);
+
+    // 안 읽은 쪽지 수 캐시 보정용: 받은 사람(이메일)별 안 읽은 쪽지 수
+    @Query("SELECT r.email, COUNT(m) FROM MessageEntity m JOIN m.receiver r " +
+            "WHERE r.email IN :emails AND m.isRead = false AND m.deletedByReceiver = false " +
+            "GROUP BY r.email")
+    List<Object[]> countUnreadGroupByReceiverEmailIn(@Param("emails") Collection<String> emails);
 
     // 관리자가 아직 읽지 않은(미처리) 메시지 카운트
     @Query("SELECT COUNT(m) FROM MessageEntity m JOIN m.receiver u WHERE u.role = com.example.imprint.domain.user.UserRole.ADMIN AND m.isRead = false")
     long countPendingSupports();
-}
\ No newline at end of file
+
+    // 보관 기한 정리용: afterId 이후의 보낸 사람/받는 사람 모두 삭제하고 before 이후로 바뀐 적 없는 쪽지 id (키셋 순회)
+    // 문의(support_tickets)가 가리키는 쪽지는 외래 키 때문에 지울 수 없으므로 빼고 찾는다
+    @Query("SELECT m.id FROM MessageEntity m WHERE m.deletedBySender = true AND m.deletedByReceiver = true " +
+            "AND m.updatedAt < :before AND m.id > :afterId " +
+            "AND NOT EXISTS (SELECT 1 FROM SupportTicketEntity t WHERE t.message = m) " +
+            "ORDER BY m.id")
+    List<Long> findDeletedByBothIds(@Param("before") LocalDateTime before,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MessageEntity m WHERE m.id IN :ids AND m.deletedBySender = true AND m.deletedByReceiver = true " +
+            "AND m.updatedAt < :before " +
+            "AND NOT EXISTS (SELECT 1 FROM SupportTicketEntity t WHERE t.message = m)")
+    int deleteDeletedByBothByIdIn(@Param("ids") Collection<Long> ids, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,71 @@
+package com.example.imprint.repository.message.broadcast;
+
+import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.broadcast.BroadcastMessageEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BroadcastMessageRepository extends JpaRepository<BroadcastMessageEntity, Long> {
+
+    // 공지는 받은 사람이 가입한 뒤에 보낸 것만 보인다 (가입 전 공지는 쪽지함/안 읽은 수 모두에서 제외)
+
+    // 받은 쪽지함에 합칠 공지: 받은 사람이 지운 공지는 빼고, 읽음 여부는 receipt 로 판단 (한 번의 쿼리)
+    @Query("SELECT new com.example.imprint.domain.message.MessageResponseDto(" +
+            "b.id, b.content, s.nickname, u.nickname, " +
+            "CASE WHEN r.readAt IS NULL THEN false ELSE true END, b.createdAt, r.readAt, true) " +
+            "FROM BroadcastMessageEntity b JOIN b.sender s " +
+            "JOIN UserEntity u ON u.email = :email " +
+            "LEFT JOIN BroadcastReceiptEntity r ON r.broadcast = b AND r.user = u " +
+            "WHERE b.createdAt >= u.createdAt AND (r.id IS NULL OR r.deleted = false) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<MessageResponseDto> findLatestForReceiver(@Param("email") String email, Pageable pageable);
+
+    // (createdAt, id) 보다 오래된 공지 (다음 페이지)
+    @Query("SELECT new com.example.imprint.domain.message.MessageResponseDto(" +
+            "b.id, b.content, s.nickname, u.nickname, " +
+            "CASE WHEN r.readAt IS NULL THEN false ELSE true END, b.createdAt, r.readAt, true) " +
+            "FROM BroadcastMessageEntity b JOIN b.sender s " +
+            "JOIN UserEntity u ON u.email = :email " +
+            "LEFT JOIN BroadcastReceiptEntity r ON r.broadcast = b AND r.user = u " +
+            "WHERE b.createdAt >= u.createdAt AND (r.id IS NULL OR r.deleted = false) " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+            "ORDER BY b.createdAt DESC, b.id DESC")
+    List<MessageResponseDto> findOlderForReceiver(@Param("email") String email,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // (createdAt, id) 보다 최근 공지 (이전 페이지, 오래된 순으로 반환)
+    @Query("SELECT new com.example.imprint.domain.message.MessageResponseDto(" +
+            "b.id, b.content, s.nickname, u.nickname, " +
+            "CASE WHEN r.readAt IS NULL THEN false ELSE true END, b.createdAt, r.readAt, true) " +
+            "FROM BroadcastMessageEntity b JOIN b.sender s " +
+            "JOIN UserEntity u ON u.email = :email " +
+            "LEFT JOIN BroadcastReceiptEntity r ON r.broadcast = b AND r.user = u " +
+            "WHERE b.createdAt >= u.createdAt AND (r.id IS NULL OR r.deleted = false) " +
+            "AND (b.createdAt > :createdAt OR (b.createdAt = :createdAt AND b.id > :id)) " +
+            "ORDER BY b.createdAt ASC, b.id ASC")
+    List<MessageResponseDto> findNewerForReceiver(@Param("email") String email,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // 사용자가 가입한 뒤에 받은 공지 중 아직 읽지도 지우지도 않은 공지 수 (receipt 가 없는 공지)
+    @Query("SELECT COUNT(b) FROM BroadcastMessageEntity b JOIN UserEntity u ON u.email = :email " +
+            "WHERE b.createdAt >= u.createdAt AND NOT EXISTS (" +
+            "SELECT r.id FROM BroadcastReceiptEntity r WHERE r.broadcast = b AND r.user = u)")
+    long countUnreadByEmail(@Param("email") String email);
+
+    // 안 읽은 쪽지 수 캐시 보정용: 사용자(이메일)별 안 읽은 공지 수 (안 읽은 공지가 없는 사용자는 결과에 없음)
+    @Query("SELECT u.email, COUNT(b) FROM BroadcastMessageEntity b JOIN UserEntity u ON b.createdAt >= u.createdAt " +
+            "WHERE u.email IN :emails AND NOT EXISTS (" +
+            "SELECT r.id FROM BroadcastReceiptEntity r WHERE r.broadcast = b AND r.user = u) " +
+            "GROUP BY u.email")
+    List<Object[]> countUnreadGroupByEmailIn(@Param("emails") Collection<String> emails);
+}
@@ -0,0 +1,11 @@
+package com.example.imprint.repository.message.broadcast;
+
+import com.example.imprint.domain.message.broadcast.BroadcastReceiptEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface BroadcastReceiptRepository extends JpaRepository<BroadcastReceiptEntity, Long> {
+
+    Optional<BroadcastReceiptEntity> findByBroadcastIdAndUserId(Long broadcastId, Long userId);
+}
@@ -4,6 +4,7 @@ import com.example.imprint.domain.message.report.ReportEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,4 +18,6 @@ public interface ReportRepository extends JpaRepository<ReportEntity, Long> {
 
     // 관리자가 아직 읽지 않은(확인하지 않은) 신고 수 카운트
     long countByIsReadFalse();
+
+    long countByCreatedAtAfter(LocalDateTime startOfDay);
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.example.imprint.repository.message.support;
+
+import com.example.imprint.domain.message.support.SupportTicketEntity;
+import com.example.imprint.domain.message.support.SupportTicketStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SupportTicketRepository extends JpaRepository<SupportTicketEntity, Long> {
+
+    // 관리자 문의함: (lastActivityAt, id) 보다 오래된 문의 (최근 활동순, 첫 페이지는 아주 먼 미래를 위치로 준다)
+    @Query("SELECT t FROM SupportTicketEntity t JOIN FETCH t.requester JOIN FETCH t.message LEFT JOIN FETCH t.assignee " +
+            "WHERE t.deletedByAdmin = false " +
+            "AND (t.lastActivityAt < :lastActivityAt OR (t.lastActivityAt = :lastActivityAt AND t.id < :id)) " +
+            "ORDER BY t.lastActivityAt DESC, t.id DESC")
+    List<SupportTicketEntity> findAdminInbox(@Param("lastActivityAt") LocalDateTime lastActivityAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    // 관리자 문의함 (상태별)
+    @Query("SELECT t FROM SupportTicketEntity t JOIN FETCH t.requester JOIN FETCH t.message LEFT JOIN FETCH t.assignee " +
+            "WHERE t.status = :status AND t.deletedByAdmin = false " +
+            "AND (t.lastActivityAt < :lastActivityAt OR (t.lastActivityAt = :lastActivityAt AND t.id < :id)) " +
+            "ORDER BY t.lastActivityAt DESC, t.id DESC")
+    List<SupportTicketEntity> findAdminInboxByStatus(@Param("status") SupportTicketStatus status,
+                                                     @Param("lastActivityAt") LocalDateTime lastActivityAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    // 내 문의 목록
+    @Query("SELECT t FROM SupportTicketEntity t JOIN FETCH t.requester JOIN FETCH t.message LEFT JOIN FETCH t.assignee " +
+            "WHERE t.requester.id = :requesterId AND t.deletedByRequester = false " +
+            "AND (t.lastActivityAt < :lastActivityAt OR (t.lastActivityAt = :lastActivityAt AND t.id < :id)) " +
+            "ORDER BY t.lastActivityAt DESC, t.id DESC")
+    List<SupportTicketEntity> findByRequester(@Param("requesterId") Long requesterId,
+                                              @Param("lastActivityAt") LocalDateTime lastActivityAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // 답변할 문의 (해당 사용자의 가장 최근 답변 대기 문의)
+    Optional<SupportTicketEntity> findFirstByRequesterIdAndStatusOrderByLastActivityAtDescIdDesc(Long requesterId,
+                                                                                                 SupportTicketStatus status);
+
+    Optional<SupportTicketEntity> findByMessageId(Long messageId);
+
+    // 쪽지 일괄 삭제에 맞춰 문의도 숨긴다 (MessageRepository.deleteBySenderBulk 와 같은 조건, 쪽지보다 먼저 실행)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SupportTicketEntity t SET t.deletedByRequester = true, t.updatedAt = LOCAL DATETIME " +
+            "WHERE t.deletedByRequester = false AND t.message.id IN (" +
+            "SELECT m.id FROM MessageEntity m " +
+            "WHERE m.sender.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedBySender = false " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan " +
+            "AND (:readOnly = false OR m.isRead = true))")
+    int deleteByRequesterBulk(@Param("email") String email,
+                              @Param("allIds") boolean allIds,
+                              @Param("ids") Collection<Long> ids,
+                              @Param("olderThan") LocalDateTime olderThan,
+                              @Param("readOnly") boolean readOnly);
+
+    // 관리자 쪽 일괄 삭제 (MessageRepository.deleteByReceiverBulk 와 같은 조건, 쪽지보다 먼저 실행)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE SupportTicketEntity t SET t.deletedByAdmin = true, t.updatedAt = LOCAL DATETIME " +
+            "WHERE t.deletedByAdmin = false AND t.message.id IN (" +
+            "SELECT m.id FROM MessageEntity m " +
+            "WHERE m.receiver.id = (SELECT u.id FROM UserEntity u WHERE u.email = :email) " +
+            "AND m.deletedByReceiver = false " +
+            "AND (:allIds = true OR m.id IN :ids) AND m.createdAt < :olderThan " +
+            "AND (:readOnly = false OR m.isRead = true))")
+    int deleteByAdminBulk(@Param("email") String email,
+                          @Param("allIds") boolean allIds,
+                          @Param("ids") Collection<Long> ids,
+                          @Param("olderThan") LocalDateTime olderThan,
+                          @Param("readOnly") boolean readOnly);
+
+    long countByStatus(SupportTicketStatus status);
+
+    long countByCreatedAtAfter(LocalDateTime startOfDay);
+
+    // 문의 테이블이 생기기 전에 관리자에게 보낸 쪽지를 문의로 옮긴다 (이미 옮긴 쪽지는 건너뜀)
+    // adminRole 은 users.role 에 저장되는 값 (UserRoleConverter, UserRole.ADMIN.getValue())
+    @Modifying
+    @Query(value = "INSERT INTO support_tickets (requester_id, message_id, status, last_activity_at, " +
+            "deleted_by_requester, deleted_by_admin, created_at, updated_at) " +
+            "SELECT m.sender_id, m.id, 'OPEN', m.created_at, m.deleted_by_sender, m.deleted_by_receiver, m.created_at, m.created_at " +
+            "FROM messages m JOIN users u ON u.id = m.receiver_id " +
+            "WHERE u.role = :adminRole " +
+            "AND NOT EXISTS (SELECT 1 FROM support_tickets t WHERE t.message_id = m.id)", nativeQuery = true)
+    int backfillFromMessages(@Param("adminRole") int adminRole);
+}
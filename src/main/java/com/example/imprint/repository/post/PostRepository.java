@@ -1,25 +1,105 @@
 package com.example.imprint.repository.post;
 
+import com.example.imprint.domain.post.PostDto;
 import com.example.imprint.domain.post.PostEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
     Page<PostEntity> findByBoardId(Long boardId, Pageable pageable);
 
+    // 목록 조회는 응답 DTO 로 바로 projection (연관 엔티티 지연 로딩 없이 한 번의 쿼리)
+    // 페이지 내용만 조회 (전체 개수는 EntityCounter 에서 가져옴)
+    @Query("SELECT new com.example.imprint.domain.post.PostDto$Response(" +
+            "p.id, p.board.id, p.writer.id, p.title, p.content, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p " +
+            "WHERE p.board.id = :boardId")
+    Slice<PostDto.Response> findResponseSliceByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 상세 조회 (게시판/작성자 지연 로딩 없이 한 번의 쿼리)
+    @Query("SELECT new com.example.imprint.domain.post.PostDto$Response(" +
+            "p.id, p.board.id, p.writer.id, p.title, p.content, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p " +
+            "WHERE p.id = :id")
+    Optional<PostDto.Response> findResponseById(@Param("id") Long id);
+
+    // 검색 결과 페이지 조회
+    @Query("SELECT new com.example.imprint.domain.post.PostDto$Response(" +
+            "p.id, p.board.id, p.writer.id, p.title, p.content, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p " +
+            "WHERE p.id IN :ids")
+    List<PostDto.Response> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByBoardId(Long boardId);
+
+    // 게시판 삭제 시 함께 삭제되는 게시물 id (엔티티는 읽지 않음)
+    @Query("SELECT p.id FROM PostEntity p WHERE p.board.id = :boardId")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId);
+
+    // 게시판별 게시물 수 [boardId, count]
+    @Query("SELECT p.board.id, COUNT(p) FROM PostEntity p GROUP BY p.board.id")
+    List<Object[]> countGroupByBoard();
+
+    // 커서 조회: 게시판의 최신 게시물부터 (count 쿼리 없음)
+    @Query("SELECT new com.example.imprint.domain.post.PostDto$Response(" +
+            "p.id, p.board.id, p.writer.id, p.title, p.content, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p " +
+            "WHERE p.board.id = :boardId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostDto.Response> findLatestByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 커서 조회: (createdAt, id) 보다 오래된 게시물 (다음 페이지)
+    @Query("SELECT new com.example.imprint.domain.post.PostDto$Response(" +
+            "p.id, p.board.id, p.writer.id, p.title, p.content, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p " +
+            "WHERE p.board.id = :boardId " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostDto.Response> findOlderByBoardId(@Param("boardId") Long boardId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 커서 조회: (createdAt, id) 보다 최근 게시물 (이전 페이지, 오래된 순으로 반환)
+    @Query("SELECT new com.example.imprint.domain.post.PostDto$Response(" +
+            "p.id, p.board.id, p.writer.id, p.title, p.content, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p " +
+            "WHERE p.board.id = :boardId " +
+            "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+            "ORDER BY p.createdAt ASC, p.id ASC")
+    List<PostDto.Response> findNewerByBoardId(@Param("boardId") Long boardId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
     // 하루에 작성된 게시글 수
     long countByCreatedAtAfter(LocalDateTime startOfDay);
 
-    // 👇 통합 검색 쿼리 (제목 OR 내용 OR 작성자 닉네임)
-    @Query("SELECT p FROM PostEntity p JOIN p.writer w " +
-            "WHERE p.title LIKE %:keyword% " +
-            "OR p.content LIKE %:keyword% " +
-            "OR w.nickname LIKE %:keyword% " +
-            "ORDER BY p.createdAt DESC")
-    Page<PostEntity> searchAllByKeyword(@Param("keyword") String keyword, Pageable pageable);
-}
\ No newline at end of file
+    // 검색 색인 구성용: id 순으로 작성자와 함께 나눠서 조회
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.writer " +
+            "WHERE p.id > :lastId " +
+            "ORDER BY p.id ASC")
+    List<PostEntity> findIndexBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 내보내기용: 게시판의 게시물을 id 순으로 앞으로만 읽는다 (fetch size 만큼씩 가져오고 변경 감지 스냅샷을 만들지 않음)
+    // 트랜잭션 안에서 쓰고 반드시 닫아야 한다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM PostEntity p WHERE p.board.id = :boardId ORDER BY p.id ASC")
+    Stream<PostEntity> streamByBoardId(@Param("boardId") Long boardId);
+}
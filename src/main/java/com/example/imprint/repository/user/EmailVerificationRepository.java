@@ -1,7 +1,15 @@
 package com.example.imprint.repository.user;
 
 import com.example.imprint.domain.user.EmailVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
@@ -11,4 +19,12 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
 
     // 이미 인증된 이메일인지 확인
     boolean existsByEmailAndIsVerifiedTrue(String email);
+
+    // 보관 기한 정리용: afterId 이후의 만료된 인증 정보 id (키셋 순회)
+    @Query("SELECT e.id FROM EmailVerification e WHERE e.expiresAt < :before AND e.id > :afterId ORDER BY e.id")
+    List<Long> findExpiredIds(@Param("before") LocalDateTime before, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailVerification e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -3,14 +3,24 @@ package com.example.imprint.repository.user;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.domain.user.UserStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 //JpaRepository를 상속받으면, 기본적인 save(저장), findById(조회), delete(삭제) 메서드를 구현 없이 사용가능
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
@@ -18,6 +28,11 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     //회원으로 해당 이메일이 있는지 확인(로그인)
     Optional<UserEntity> findByEmail(String email);
 
+    // 같은 사용자의 동시 요청을 한 줄로 세울 때 사용 (행 잠금, 트랜잭션이 끝날 때까지 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM UserEntity u WHERE u.email = :email")
+    Optional<UserEntity> findByEmailForUpdate(@Param("email") String email);
+
     //이메일 중복 확인(회원가입)
     boolean existsByEmail(String email);
 
@@ -30,9 +45,15 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     //비밀번호 재설정 토큰으로 유저 찾기
     Optional<UserEntity> findByResetToken(String resetToken);
 
+    //이메일로 여러 명 가져오기(대량 적재 작성자 확인)
+    List<UserEntity> findAllByEmailIn(Collection<String> emails);
+
     //권한 가져오기
     Optional<UserEntity> findByRole(UserRole role);
 
+    // 페이지 내용만 조회 (전체 회원 수는 EntityCounter 에서 가져옴)
+    Slice<UserEntity> findSliceBy(Pageable pageable);
+
     // 오늘 가입자 수 조회
     long countByCreatedAtAfter(LocalDateTime startOfDay);
 
@@ -46,4 +67,18 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
             "OR u.name LIKE %:keyword% " +
             "ORDER BY u.createdAt DESC")
     Page<UserEntity> searchUsers(@Param("keyword") String keyword, Pageable pageable);
+
+    // 보관 기한 정리용: afterId 이후의 만료된 비밀번호 재설정 토큰을 가진 회원 id (키셋 순회)
+    @Query("SELECT u.id FROM UserEntity u WHERE u.tokenExpiry < :now AND u.id > :afterId ORDER BY u.id")
+    List<Long> findExpiredResetTokenIds(@Param("now") LocalDateTime now, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 조회 이후 새 토큰이 발급된 회원은 건드리지 않도록 만료 조건을 다시 확인한다
+    @Modifying
+    @Query("UPDATE UserEntity u SET u.resetToken = null, u.tokenExpiry = null WHERE u.id IN :ids AND u.tokenExpiry < :now")
+    int clearResetTokens(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 대량 가져오기 중복 확인용: 전체 회원의 [email, nickname] 을 앞으로만 읽는다 (트랜잭션 안에서 쓰고 반드시 닫아야 함)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email, u.nickname FROM UserEntity u")
+    Stream<Object[]> streamEmailAndNickname();
 }
@@ -0,0 +1,69 @@
+package com.example.imprint.security.user;
+
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// 로그인한 사용자 엔티티를 요청당 한 번만 조회해서 서비스에 넘겨준다
+// - 인증 정보(CustomUserDetails)의 id 로 영속 상태의 UserEntity 를 조회하고 요청 속성에 보관한다.
+// - 보관된 엔티티가 현재 영속성 컨텍스트에 없으면 (다른 트랜잭션에서 조회된 경우) 다시 조회한다.
+@Component
+@RequiredArgsConstructor
+public class CurrentUserResolver {
+
+    private static final String ATTRIBUTE = CurrentUserResolver.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    public UserEntity getUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes != null
+                && attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof UserEntity user
+                && entityManager.contains(user)) {
+            return user;
+        }
+
+        UserEntity user = load();
+
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return user;
+    }
+
+    // 쓰기 작업용: 활성 상태가 아니면 거부
+    public UserEntity getActiveUser() {
+        UserEntity user = getUser();
+
+        if (user.getStatus() != UserStatus.ACTIVE) {
+            throw new AccessDeniedException("계정이 비활성 상태입니다.");
+        }
+
+        return user;
+    }
+
+    private UserEntity load() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new AccessDeniedException("로그인이 필요합니다.");
+        }
+
+        Long userId = userDetails.getUser().getId();
+
+        return userRepository.findById(userId).orElseThrow(
+                () -> new IllegalArgumentException("사용자를 찾을 수 없습니다. (id: " + userId + ")")
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.imprint.service.admin;
+
+import com.example.imprint.repository.admin.SystemSettingsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 첫 가입자에게 관리자 권한을 줄지 정한다
+// - 가입할 때마다 전체 회원 수를 세는 대신 system_settings 의 admin_bootstrapped 를 compare-and-set 한다.
+//   동시에 첫 가입이 들어와도 한 트랜잭션만 false -> true 로 바꿀 수 있어서 관리자가 둘 생기지 않는다.
+// - 가입 트랜잭션 안에서 바꾸므로 가입이 롤백되면 차례도 되돌아간다.
+// - 한 번 true 가 되면 다시 false 가 되지 않으므로, 차례가 지난 것을 확인한 뒤로는 DB 에 묻지 않는다.
+@Component
+@RequiredArgsConstructor
+public class AdminBootstrap {
+
+    private final SystemSettingsRepository systemSettingsRepository;
+
+    private volatile boolean done;
+
+    // 이번 가입자가 첫 관리자면 true (호출한 트랜잭션이 커밋되어야 확정)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean claim() {
+        if (done) {
+            return false;
+        }
+
+        boolean claimed = systemSettingsRepository.claimAdminBootstrap() == 1;
+        if (!claimed) {
+            done = true;
+        }
+        return claimed;
+    }
+}
@@ -2,13 +2,18 @@ package com.example.imprint.service.admin;
 
 import com.example.imprint.domain.board.BoardEntity;
 import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserEvent;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.domain.user.UserStatus;
 import com.example.imprint.repository.board.BoardRepository;
 import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.service.counter.EntityCounter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,11 +25,15 @@ public class AdminService {
 
     private final UserRepository userRepository;
     private final BoardRepository boardRepository;
+    private final EntityCounter entityCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 전체 회원 목록 조회 (관리자용)
     @Transactional(readOnly = true)
     public Page<UserEntity> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable);
+        // 페이지 내용만 조회하고 전체 회원 수는 캐시된 값 사용 (count 쿼리 생략)
+        Slice<UserEntity> userSlice = userRepository.findSliceBy(pageable);
+        return new PageImpl<>(userSlice.getContent(), pageable, entityCounter.countUsers());
     }
 
     // 유저 검색 (관리자용)
@@ -74,6 +83,7 @@ public class AdminService {
     public void updateUserStatus(Long userId, UserStatus newStatus) {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+        UserStatus previousStatus = user.getStatus();
 
         // 유저 엔티티에 정의된 메서드 활용
         switch (newStatus) {
@@ -82,5 +92,9 @@ public class AdminService {
             case DELETED -> user.delete();
             default -> throw new IllegalArgumentException("지원하지 않는 상태 변경입니다.");
         }
+
+        if (previousStatus != newStatus) {
+            eventPublisher.publishEvent(new UserEvent.StatusChanged(userId, previousStatus, newStatus));
+        }
     }
 }
\ No newline at end of file
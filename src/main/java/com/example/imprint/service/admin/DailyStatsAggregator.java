@@ -0,0 +1,306 @@
+package com.example.imprint.service.admin;
+
+import com.example.imprint.domain.admin.DailyStatsEntity;
+import com.example.imprint.domain.admin.DailyStatsResponseDto;
+import com.example.imprint.domain.comment.CommentEvent;
+import com.example.imprint.domain.message.report.ReportEvent;
+import com.example.imprint.domain.message.support.SupportTicketEvent;
+import com.example.imprint.domain.message.support.SupportTicketStatus;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.domain.user.UserEvent;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.repository.admin.DailyStatsRepository;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.message.report.ReportRepository;
+import com.example.imprint.repository.message.support.SupportTicketRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 관리자 대시보드 일별 통계 (daily_stats) 집계
+// - 가입/게시물/댓글/신고/문의와 회원 상태 변경을 커밋된 뒤 메모리에 날짜별로 모아 두고,
+//   주기적으로 그날 행에 UPDATE 한 번으로 더한다. (오버뷰를 열 때마다 count 쿼리를 돌리지 않음)
+// - 그날 행이 없으면 (자정 직후, 처음 배포) DB 를 한 번 세어서 만든다. 회원 수, 미처리 신고/문의 수는 이때 DB 와 다시 맞춰진다.
+// - 오버뷰는 오늘 행 하나에 아직 반영하지 않은 증감분을 더해서 만든다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsAggregator {
+
+    enum Metric {
+        SIGNUPS, POSTS, COMMENTS, REPORTS, SUPPORTS,
+        TOTAL_USERS, ACTIVE_USERS, BANNED_USERS, PENDING_REPORTS, PENDING_SUPPORTS
+    }
+
+    private static final int METRICS = Metric.values().length;
+
+    private final DailyStatsRepository dailyStatsRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReportRepository reportRepository;
+    private final SupportTicketRepository supportTicketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 날짜별로 아직 daily_stats 에 반영하지 않은 증감분 (Metric 순서)
+    private final Map<LocalDate, AtomicLongArray> pending = new ConcurrentHashMap<>();
+
+    // 주기 반영과 날짜 넘김이 겹치지 않도록 한 번에 하나만 돈다
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserEvent.Registered event) {
+        // 가입과 동시에 활성화된다
+        add(Metric.SIGNUPS, 1);
+        add(Metric.TOTAL_USERS, 1);
+        add(Metric.ACTIVE_USERS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersIngested(UserEvent.Ingested event) {
+        // 가져온 회원도 바로 활성화된다
+        add(Metric.SIGNUPS, event.count());
+        add(Metric.TOTAL_USERS, event.count());
+        add(Metric.ACTIVE_USERS, event.count());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserEvent.StatusChanged event) {
+        addUserStatus(event.from(), -1);
+        addUserStatus(event.to(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostEvent.Created event) {
+        add(Metric.POSTS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsIngested(PostEvent.Ingested event) {
+        add(Metric.POSTS, event.posts().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentEvent.Created event) {
+        add(Metric.COMMENTS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentsIngested(CommentEvent.Ingested event) {
+        add(Metric.COMMENTS, event.comments().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportSubmitted(ReportEvent.Submitted event) {
+        add(Metric.REPORTS, 1);
+        add(Metric.PENDING_REPORTS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReportRead(ReportEvent.Read event) {
+        add(Metric.PENDING_REPORTS, -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupportOpened(SupportTicketEvent.Opened event) {
+        add(Metric.SUPPORTS, 1);
+        add(Metric.PENDING_SUPPORTS, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupportResolved(SupportTicketEvent.Resolved event) {
+        add(Metric.PENDING_SUPPORTS, -1);
+    }
+
+    // 오늘 통계 (행 하나 + 아직 반영하지 않은 증감분)
+    public DailyStatsResponseDto today() {
+        LocalDate today = LocalDate.now();
+        DailyStatsEntity stats = dailyStatsRepository.findById(today).orElseGet(() -> openDay(today));
+        return withPending(stats);
+    }
+
+    // 기간별 통계 (그래프용, 날짜 오름차순)
+    public List<DailyStatsResponseDto> history(LocalDate from, LocalDate to) {
+        return dailyStatsRepository.findByStatDateBetweenOrderByStatDateAsc(from, to).stream()
+                .map(this::withPending)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${imprint.dashboard.stats.flush-interval:PT10S}",
+            initialDelayString = "${imprint.dashboard.stats.flush-interval:PT10S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+
+            for (LocalDate date : List.copyOf(pending.keySet())) {
+                long[] deltas = drain(date);
+
+                // 지난 날짜에는 더 이상 쌓이지 않는다
+                if (date.isBefore(today)) {
+                    pending.remove(date);
+                }
+
+                if (isZero(deltas)) {
+                    continue;
+                }
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> apply(date, deltas));
+                } catch (RuntimeException e) {
+                    // 다음 주기에 다시 반영한다
+                    restore(date, deltas);
+                    log.warn("대시보드 통계 반영 실패 (날짜: {})", date, e);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 전날 증감분을 반영하고 오늘 행을 만든다 (시작할 때와 자정마다)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${imprint.dashboard.stats.rollover-cron:0 0 0 * * *}")
+    public void rollover() {
+        flush();
+
+        LocalDate today = LocalDate.now();
+        if (!dailyStatsRepository.existsById(today)) {
+            openDay(today);
+        }
+    }
+
+    private void apply(LocalDate date, long[] deltas) {
+        if (!dailyStatsRepository.existsById(date)) {
+            // 오늘 행을 새로 세면 방금 꺼낸 증감분도 이미 들어 있으므로 버린다
+            dailyStatsRepository.save(count(date));
+            if (date.equals(LocalDate.now())) {
+                return;
+            }
+        }
+
+        dailyStatsRepository.addCounts(date,
+                deltas[Metric.SIGNUPS.ordinal()],
+                deltas[Metric.POSTS.ordinal()],
+                deltas[Metric.COMMENTS.ordinal()],
+                deltas[Metric.REPORTS.ordinal()],
+                deltas[Metric.SUPPORTS.ordinal()],
+                deltas[Metric.TOTAL_USERS.ordinal()],
+                deltas[Metric.ACTIVE_USERS.ordinal()],
+                deltas[Metric.BANNED_USERS.ordinal()],
+                deltas[Metric.PENDING_REPORTS.ordinal()],
+                deltas[Metric.PENDING_SUPPORTS.ordinal()]);
+    }
+
+    // 그날 행을 DB 를 세어서 만든다 (이미 있으면 그대로 둔다)
+    private DailyStatsEntity openDay(LocalDate date) {
+        flushLock.lock();
+        try {
+            return transactionTemplate.execute(status -> dailyStatsRepository.findById(date).orElseGet(() -> {
+                drain(date);
+                return dailyStatsRepository.save(count(date));
+            }));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 그날 생긴 개수는 오늘 행일 때만 센다 (지난 날짜 행은 남은 증감분만 더함)
+    private DailyStatsEntity count(LocalDate date) {
+        boolean today = date.equals(LocalDate.now());
+        LocalDateTime startOfDay = date.atStartOfDay();
+
+        log.info("대시보드 통계 행 생성 (날짜: {})", date);
+
+        return DailyStatsEntity.builder()
+                .statDate(date)
+                .signupCount(today ? userRepository.countByCreatedAtAfter(startOfDay) : 0)
+                .postCount(today ? postRepository.countByCreatedAtAfter(startOfDay) : 0)
+                .commentCount(today ? commentRepository.countByCreatedAtAfter(startOfDay) : 0)
+                .reportCount(today ? reportRepository.countByCreatedAtAfter(startOfDay) : 0)
+                .supportCount(today ? supportTicketRepository.countByCreatedAtAfter(startOfDay) : 0)
+                .totalUserCount(userRepository.count())
+                .activeUserCount(userRepository.countByStatus(UserStatus.ACTIVE))
+                .bannedUserCount(userRepository.countByStatus(UserStatus.BANNED))
+                .pendingReportCount(reportRepository.countByIsReadFalse())
+                .pendingSupportCount(supportTicketRepository.countByStatus(SupportTicketStatus.OPEN))
+                .build();
+    }
+
+    private DailyStatsResponseDto withPending(DailyStatsEntity stats) {
+        AtomicLongArray deltas = pending.get(stats.getStatDate());
+        if (deltas == null) {
+            return DailyStatsResponseDto.from(stats);
+        }
+
+        return new DailyStatsResponseDto(
+                stats.getStatDate(),
+                stats.getSignupCount() + deltas.get(Metric.SIGNUPS.ordinal()),
+                stats.getPostCount() + deltas.get(Metric.POSTS.ordinal()),
+                stats.getCommentCount() + deltas.get(Metric.COMMENTS.ordinal()),
+                stats.getReportCount() + deltas.get(Metric.REPORTS.ordinal()),
+                stats.getSupportCount() + deltas.get(Metric.SUPPORTS.ordinal()),
+                stats.getTotalUserCount() + deltas.get(Metric.TOTAL_USERS.ordinal()),
+                stats.getActiveUserCount() + deltas.get(Metric.ACTIVE_USERS.ordinal()),
+                stats.getBannedUserCount() + deltas.get(Metric.BANNED_USERS.ordinal()),
+                stats.getPendingReportCount() + deltas.get(Metric.PENDING_REPORTS.ordinal()),
+                stats.getPendingSupportCount() + deltas.get(Metric.PENDING_SUPPORTS.ordinal()));
+    }
+
+    private void addUserStatus(UserStatus status, long delta) {
+        switch (status) {
+            case ACTIVE -> add(Metric.ACTIVE_USERS, delta);
+            case BANNED -> add(Metric.BANNED_USERS, delta);
+            default -> {
+                // 대기/탈퇴 회원 수는 따로 세지 않는다
+            }
+        }
+    }
+
+    void add(Metric metric, long delta) {
+        pending.computeIfAbsent(LocalDate.now(), date -> new AtomicLongArray(METRICS))
+                .addAndGet(metric.ordinal(), delta);
+    }
+
+    private long[] drain(LocalDate date) {
+        long[] deltas = new long[METRICS];
+        AtomicLongArray counts = pending.get(date);
+        if (counts != null) {
+            for (int i = 0; i < METRICS; i++) {
+                deltas[i] = counts.getAndSet(i, 0);
+            }
+        }
+        return deltas;
+    }
+
+    private void restore(LocalDate date, long[] deltas) {
+        AtomicLongArray counts = pending.computeIfAbsent(date, key -> new AtomicLongArray(METRICS));
+        for (int i = 0; i < METRICS; i++) {
+            counts.addAndGet(i, deltas[i]);
+        }
+    }
+
+    private static boolean isZero(long[] deltas) {
+        for (long delta : deltas) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,52 +1,56 @@
 package com.example.imprint.service.admin;
 
+import com.example.imprint.domain.admin.DailyStatsResponseDto;
 import com.example.imprint.domain.admin.DashboardResponseDto;
-import com.example.imprint.domain.user.UserStatus;
-import com.example.imprint.repository.comment.CommentRepository;
-import com.example.imprint.repository.message.MessageRepository;
-import com.example.imprint.repository.message.report.ReportRepository;
-import com.example.imprint.repository.post.PostRepository;
-import com.example.imprint.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
+// 오버뷰와 기간별 통계는 DailyStatsAggregator 가 모아 둔 daily_stats 에서 읽는다 (count 쿼리 없음)
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class DashboardService {
 
-    private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final ReportRepository reportRepository;
-    private final MessageRepository messageRepository;
+    // 기간별 통계는 최대 1년치까지
+    private static final long MAX_HISTORY_DAYS = 366;
+
+    private final DailyStatsAggregator dailyStatsAggregator;
 
     public DashboardResponseDto getOverview() {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        DailyStatsResponseDto today = dailyStatsAggregator.today();
 
         return DashboardResponseDto.builder()
                 // 총 사용자
-                .totalUserCount(userRepository.count())
+                .totalUserCount(today.totalUserCount())
                 // 금일 가입자
-                .todaySignupCount(userRepository.countByCreatedAtAfter(startOfDay))
+                .todaySignupCount(today.signupCount())
                 // 사용자(ACTIVE)
-                .activeUserCount(userRepository.countByStatus(UserStatus.ACTIVE))
+                .activeUserCount(today.activeUserCount())
                 // 차단유저(BANNED)
-                .bannedUserCount(userRepository.countByStatus(UserStatus.BANNED))
+                .bannedUserCount(today.bannedUserCount())
                 // 하루에 작성된 게시물 수
-                .todayPostCount(postRepository.countByCreatedAtAfter(startOfDay))
+                .todayPostCount(today.postCount())
                 // 하루에 작성된 댓글 수
-                .todayCommentCount(commentRepository.countByCreatedAtAfter(startOfDay))
+                .todayCommentCount(today.commentCount())
                 // 신고함 안읽은 숫자
-                .pendingReportCount(reportRepository.countByIsReadFalse())
-                // 문의함 안읽은 숫자
-                .pendingSupportCount(messageRepository.countPendingSupports())
+                .pendingReportCount(today.pendingReportCount())
+                // 문의함 답변 대기 숫자
+                .pendingSupportCount(today.pendingSupportCount())
                 .build();
     }
 
+    // 기간별 일별 통계 (from ~ to, 날짜 오름차순)
+    public List<DailyStatsResponseDto> getHistory(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_HISTORY_DAYS) {
+            throw new IllegalArgumentException("기간은 최대 " + MAX_HISTORY_DAYS + "일까지 조회할 수 있습니다.");
+        }
 
+        return dailyStatsAggregator.history(from, to);
+    }
 }
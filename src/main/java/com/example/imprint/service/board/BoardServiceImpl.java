@@ -2,6 +2,7 @@ package com.example.imprint.service.board;
 
 import com.example.imprint.domain.board.BoardDto;
 import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.board.BoardEvent;
 import com.example.imprint.domain.board.BoardMapper;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.domain.user.UserResponseDto;
@@ -12,6 +13,7 @@ import com.example.imprint.repository.user.UserRepository;
 import com.example.imprint.service.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,7 @@ public class BoardServiceImpl implements BoardService {
     private final UserRepository userRepository;
 
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -72,8 +75,13 @@ public class BoardServiceImpl implements BoardService {
                 () -> new IllegalArgumentException("게시판을 찾을 수 없습니다. (id = " + boardId + ")")
         );
 
+        // 함께 삭제되는 게시물 id 를 이벤트로 전달 (검색 색인 등에서 제거)
+        List<Long> postIds = postRepository.findIdsByBoardId(boardId);
+
         boardRepository.delete(board);
 
+        eventPublisher.publishEvent(new BoardEvent.Deleted(boardId, postIds));
+
         log.info("게시판을 삭제했습니다.\n{}", board);
     }
 
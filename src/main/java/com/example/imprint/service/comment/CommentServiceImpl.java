@@ -2,18 +2,22 @@ package com.example.imprint.service.comment;
 
 import com.example.imprint.domain.comment.CommentDto;
 import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.comment.CommentEvent;
 import com.example.imprint.domain.comment.CommentMapper;
 import com.example.imprint.domain.post.PostEntity;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.repository.comment.CommentRepository;
 import com.example.imprint.repository.post.PostRepository;
-import com.example.imprint.repository.user.UserRepository;
-import com.example.imprint.service.user.UserService;
+import com.example.imprint.security.user.CurrentUserResolver;
+import com.example.imprint.service.counter.EntityCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,21 +33,16 @@ import java.util.List;
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final UserRepository userRepository;
-    private final UserService userService;
+    private final CurrentUserResolver currentUserResolver;
+    private final EntityCounter entityCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public Long write(Long postId, CommentDto.Write dto) {
         log.info("댓글 생성을 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new RuntimeException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
-        if (!userService.isActive(user.getId())) {
-            throw new AccessDeniedException("계정이 비활성 상태입니다.");
-        }
+        UserEntity user = currentUserResolver.getActiveUser();
 
         PostEntity post = postRepository.findById(postId).orElseThrow(
                 () -> new RuntimeException("게시물을 찾을 수 없습니다. (id = " + postId + ")")
@@ -60,6 +59,9 @@ public class CommentServiceImpl implements CommentService {
         log.info("게시물에 댓글 생성을 시도합니다.\n{}", comment);
 
         post.addComment(comment);
+        commentRepository.save(comment);
+
+        eventPublisher.publishEvent(new CommentEvent.Created(comment.getId(), post.getId()));
 
         log.info("게시물에 댓글을 생성했습니다.");
 
@@ -71,16 +73,9 @@ public class CommentServiceImpl implements CommentService {
     public Long update(Long commentId, CommentDto.Update dto) {
         log.info("댓글 수정을 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new RuntimeException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getActiveUser();
         Long userId = user.getId();
 
-        if (!userService.isActive(userId)) {
-            throw new AccessDeniedException("계정이 비활성 상태입니다.");
-        }
-
         CommentEntity comment = commentRepository.findById(commentId).orElseThrow(
                 () -> new RuntimeException("댓글을 찾을 수 없습니다. (id = " + commentId + ")")
         );
@@ -103,16 +98,9 @@ public class CommentServiceImpl implements CommentService {
     public Long update(Long postId, Long commentId, CommentDto.Update dto) {
         log.info("댓글 수정을 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new RuntimeException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getActiveUser();
         Long userId = user.getId();
 
-        if (!userService.isActive(userId)) {
-            throw new AccessDeniedException("계정이 비활성 상태입니다.");
-        }
-
         CommentEntity comment = commentRepository.findById(commentId).orElseThrow(
                 () -> new RuntimeException("댓글을 찾을 수 없습니다. (id = " + commentId + ")")
         );
@@ -139,10 +127,7 @@ public class CommentServiceImpl implements CommentService {
     public void delete(Long id) {
         log.info("댓글 삭제를 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new RuntimeException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getUser();
         Long userId = user.getId();
 
         CommentEntity comment = commentRepository.findById(id).orElseThrow(
@@ -157,6 +142,8 @@ public class CommentServiceImpl implements CommentService {
 
         commentRepository.delete(comment);
 
+        eventPublisher.publishEvent(new CommentEvent.Deleted(comment.getId(), comment.getPost().getId()));
+
         log.info("댓글 삭제했습니다.");
     }
 
@@ -165,10 +152,7 @@ public class CommentServiceImpl implements CommentService {
     public void delete(Long postId, Long commentId) {
         log.info("댓글 삭제를 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new RuntimeException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getUser();
         Long userId = user.getId();
 
         CommentEntity comment = commentRepository.findById(commentId).orElseThrow(
@@ -187,6 +171,8 @@ public class CommentServiceImpl implements CommentService {
 
         commentRepository.delete(comment);
 
+        eventPublisher.publishEvent(new CommentEvent.Deleted(comment.getId(), comment.getPost().getId()));
+
         log.info("댓글 삭제했습니다.");
     }
 
@@ -238,10 +224,12 @@ public class CommentServiceImpl implements CommentService {
     public Page<CommentDto.Response> getCommentList(Long postId, Pageable pageable) {
         log.info("댓글 목록 조회를 시도합니다.");
 
-        Page<CommentEntity> commentEntityPage = commentRepository.findByPostId(postId, pageable);
+        // 페이지 내용만 조회하고 전체 개수는 캐시된 값 사용 (count 쿼리 생략)
+        Slice<CommentDto.Response> commentDtoSlice = commentRepository.findResponseSliceByPostId(postId, pageable);
+        long totalElements = entityCounter.countComments(postId);
 
         log.info("댓글 목록을 조회했습니다. (page = {})", pageable.getPageNumber());
 
-        return commentEntityPage.map(CommentMapper::fromEntityToDto);
+        return new PageImpl<>(commentDtoSlice.getContent(), pageable, totalElements);
     }
 }
@@ -0,0 +1,219 @@
+package com.example.imprint.service.counter;
+
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.broadcast.BroadcastMessageRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 목록 페이지네이션용 전체 개수 캐시 (게시판별 게시물 수, 게시물별 댓글 수, 전체 회원 수)
+// 와 알림 배지용 안 읽은 쪽지 수 (받은 사람 이메일별, 개인 쪽지 + 전체 공지)
+// - 처음 조회할 때 DB 에서 한 번 세고, 이후에는 커밋된 쓰기/삭제 이벤트로 증감한다.
+// - 이벤트 반영과 최초 집계가 겹치면 잠시 어긋날 수 있어 EntityCounterSynchronizer 가 주기적으로 DB 와 맞춘다.
+// - 안 읽은 쪽지 수는 사용자마다 생기므로, 보정할 때 한동안 조회하지 않은 사용자를 지우고 최대 사용자 수를 넘지 않게 한다.
+@Component
+@RequiredArgsConstructor
+public class EntityCounter {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final MessageRepository messageRepository;
+    private final BroadcastMessageRepository broadcastMessageRepository;
+
+    private final Map<Long, AtomicLong> postCountByBoard = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> commentCountByPost = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> userCount = new ConcurrentHashMap<>();
+    // 배지 조회는 잦으므로 키 단위로 잠그는 ConcurrentHashMap + AtomicLong 으로 사용자끼리 경합하지 않게 한다
+    private final Map<String, AtomicLong> unreadMessageCountByReceiver = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> unreadBroadcastCountByUser = new ConcurrentHashMap<>();
+    // 사용자별 안 읽은 수를 마지막으로 조회한 시각 (밀리초)
+    private final Map<String, Long> unreadAccessedAt = new ConcurrentHashMap<>();
+
+    private static final String ALL_USERS = "all";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    static final long UNREAD_IDLE_MILLIS = Duration.ofMinutes(30).toMillis();
+    static final int MAX_UNREAD_USERS = 10_000;
+
+    public long countPosts(Long boardId) {
+        return load(postCountByBoard, boardId, () -> postRepository.countByBoardId(boardId));
+    }
+
+    public long countComments(Long postId) {
+        return load(commentCountByPost, postId, () -> commentRepository.countByPostId(postId));
+    }
+
+    public long countUsers() {
+        return load(userCount, ALL_USERS, userRepository::count);
+    }
+
+    public long countUnreadMessages(String receiverEmail) {
+        unreadAccessedAt.put(receiverEmail, System.currentTimeMillis());
+
+        return load(unreadMessageCountByReceiver, receiverEmail,
+                () -> messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(receiverEmail))
+                + load(unreadBroadcastCountByUser, receiverEmail,
+                () -> broadcastMessageRepository.countUnreadByEmail(receiverEmail));
+    }
+
+    // 아직 집계되지 않은 키는 건드리지 않는다 (다음 조회 시 DB 에서 정확한 값을 읽음)
+    void addPosts(Long boardId, long delta) {
+        add(postCountByBoard, boardId, delta);
+    }
+
+    void addComments(Long postId, long delta) {
+        add(commentCountByPost, postId, delta);
+    }
+
+    void addUsers(long delta) {
+        add(userCount, ALL_USERS, delta);
+    }
+
+    void addUnreadMessages(String receiverEmail, long delta) {
+        add(unreadMessageCountByReceiver, receiverEmail, delta);
+    }
+
+    void addUnreadBroadcasts(String userEmail, long delta) {
+        add(unreadBroadcastCountByUser, userEmail, delta);
+    }
+
+    // 새 공지는 집계된 모든 사용자의 안 읽은 수를 하나씩 늘린다
+    void addUnreadBroadcastsToAll(long delta) {
+        unreadBroadcastCountByUser.keySet().forEach(email -> add(unreadBroadcastCountByUser, email, delta));
+    }
+
+    void evictUnreadMessages(String receiverEmail) {
+        unreadMessageCountByReceiver.remove(receiverEmail);
+    }
+
+    void evictBoard(Long boardId) {
+        postCountByBoard.remove(boardId);
+    }
+
+    void evictPosts(Collection<Long> postIds) {
+        postIds.forEach(commentCountByPost::remove);
+    }
+
+    // 한동안 조회하지 않은 사용자의 안 읽은 수를 지우고, 그래도 많으면 오래 조회하지 않은 사용자부터 지운다
+    // (지운 사용자는 다음 조회 때 DB 에서 다시 센다)
+    void evictIdleUnread(long nowMillis) {
+        unreadAccessedAt.forEach((email, accessedAt) -> {
+            if (nowMillis - accessedAt >= UNREAD_IDLE_MILLIS) {
+                evictUnread(email, accessedAt);
+            }
+        });
+
+        int excess = unreadAccessedAt.size() - MAX_UNREAD_USERS;
+        if (excess > 0) {
+            unreadAccessedAt.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(excess)
+                    .toList()
+                    .forEach(entry -> evictUnread(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    // 그 사이에 다시 조회된 사용자는 지우지 않는다
+    private void evictUnread(String email, long accessedAt) {
+        if (unreadAccessedAt.remove(email, accessedAt)) {
+            unreadMessageCountByReceiver.remove(email);
+            unreadBroadcastCountByUser.remove(email);
+        }
+    }
+
+    int unreadUserCount() {
+        return unreadAccessedAt.size();
+    }
+
+    // 주기적 보정: 집계된 키만 DB 값으로 덮어쓴다
+    void reconcile() {
+        evictIdleUnread(System.currentTimeMillis());
+
+        if (!postCountByBoard.isEmpty()) {
+            Map<Long, Long> counts = toCountMap(postRepository.countGroupByBoard());
+            postCountByBoard.forEach((boardId, count) -> count.set(counts.getOrDefault(boardId, 0L)));
+        }
+
+        // IN 절이 너무 길어지지 않도록 나눠서 센다
+        List<Long> postIds = List.copyOf(commentCountByPost.keySet());
+        for (int from = 0; from < postIds.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, postIds.size()));
+            Map<Long, Long> counts = toCountMap(commentRepository.countGroupByPostIdIn(chunk));
+
+            chunk.forEach(postId -> {
+                AtomicLong count = commentCountByPost.get(postId);
+                if (count != null) {
+                    count.set(counts.getOrDefault(postId, 0L));
+                }
+            });
+        }
+
+        List<String> receiverEmails = List.copyOf(unreadMessageCountByReceiver.keySet());
+        for (int from = 0; from < receiverEmails.size(); from += RECONCILE_BATCH_SIZE) {
+            List<String> chunk = receiverEmails.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, receiverEmails.size()));
+            Map<String, Long> counts = toCountMap(messageRepository.countUnreadGroupByReceiverEmailIn(chunk));
+
+            chunk.forEach(email -> {
+                AtomicLong count = unreadMessageCountByReceiver.get(email);
+                if (count != null) {
+                    count.set(counts.getOrDefault(email, 0L));
+                }
+            });
+        }
+
+        // 안 읽은 공지 수 = 가입한 뒤에 받은 공지 중 읽거나 지운 기록이 없는 공지 수
+        List<String> broadcastEmails = List.copyOf(unreadBroadcastCountByUser.keySet());
+        for (int from = 0; from < broadcastEmails.size(); from += RECONCILE_BATCH_SIZE) {
+            List<String> chunk = broadcastEmails.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, broadcastEmails.size()));
+            Map<String, Long> counts = toCountMap(broadcastMessageRepository.countUnreadGroupByEmailIn(chunk));
+
+            chunk.forEach(email -> {
+                AtomicLong count = unreadBroadcastCountByUser.get(email);
+                if (count != null) {
+                    count.set(counts.getOrDefault(email, 0L));
+                }
+            });
+        }
+
+        AtomicLong users = userCount.get(ALL_USERS);
+        if (users != null) {
+            users.set(userRepository.count());
+        }
+    }
+
+    private static <K> long load(Map<K, AtomicLong> counters, K key, LongSupplier loader) {
+        // -1 은 아직 DB 에서 세지 않은 상태 (DB 조회는 맵 잠금 밖에서 수행)
+        AtomicLong count = counters.computeIfAbsent(key, k -> new AtomicLong(-1));
+
+        if (count.get() < 0) {
+            count.compareAndSet(-1, loader.getAsLong());
+        }
+
+        return Math.max(count.get(), 0);
+    }
+
+    private static <K> void add(Map<K, AtomicLong> counters, K key, long delta) {
+        AtomicLong count = counters.get(key);
+        if (count != null) {
+            count.updateAndGet(value -> value < 0 ? value : Math.max(value + delta, 0));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Map<K, Long> toCountMap(List<Object[]> rows) {
+        Map<K, Long> counts = new HashMap<>();
+        rows.forEach(row -> counts.put((K) row[0], (Long) row[1]));
+        return counts;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.imprint.service.counter;
+
+import com.example.imprint.domain.board.BoardEvent;
+import com.example.imprint.domain.comment.CommentEvent;
+import com.example.imprint.domain.message.MessageEvent;
+import com.example.imprint.domain.message.broadcast.BroadcastEvent;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.domain.user.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 개수 캐시를 DB 와 동기화
+// - 쓰기/삭제는 커밋된 뒤에만 반영한다 (롤백된 요청은 개수를 바꾸지 않음).
+// - 일정 주기로 집계된 키를 DB 의 실제 개수로 보정한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCounterSynchronizer {
+
+    private final EntityCounter entityCounter;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostEvent.Created event) {
+        entityCounter.addPosts(event.boardId(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsIngested(PostEvent.Ingested event) {
+        event.posts().stream()
+                .collect(Collectors.groupingBy(PostEvent.Created::boardId, Collectors.counting()))
+                .forEach(entityCounter::addPosts);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostEvent.Deleted event) {
+        entityCounter.addPosts(event.boardId(), -1);
+        entityCounter.evictPosts(List.of(event.postId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardEvent.Deleted event) {
+        entityCounter.evictBoard(event.boardId());
+        entityCounter.evictPosts(event.postIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentEvent.Created event) {
+        entityCounter.addComments(event.postId(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentsIngested(CommentEvent.Ingested event) {
+        event.comments().stream()
+                .collect(Collectors.groupingBy(CommentEvent.Created::postId, Collectors.counting()))
+                .forEach(entityCounter::addComments);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentEvent.Deleted event) {
+        entityCounter.addComments(event.postId(), -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserEvent.Registered event) {
+        entityCounter.addUsers(1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsersIngested(UserEvent.Ingested event) {
+        entityCounter.addUsers(event.count());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageSent(MessageEvent.Sent event) {
+        entityCounter.addUnreadMessages(event.receiverEmail(), 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageRead(MessageEvent.Read event) {
+        entityCounter.addUnreadMessages(event.receiverEmail(), -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageDeletedByReceiver(MessageEvent.DeletedByReceiver event) {
+        if (event.unread()) {
+            entityCounter.addUnreadMessages(event.receiverEmail(), -1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReceivedBulkChanged(MessageEvent.ReceivedBulkChanged event) {
+        entityCounter.evictUnreadMessages(event.receiverEmail());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcastSent(BroadcastEvent.Sent event) {
+        entityCounter.addUnreadBroadcastsToAll(1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcastRead(BroadcastEvent.Read event) {
+        entityCounter.addUnreadBroadcasts(event.userEmail(), -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcastDeleted(BroadcastEvent.Deleted event) {
+        if (event.unread()) {
+            entityCounter.addUnreadBroadcasts(event.userEmail(), -1);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${imprint.counter.reconcile-interval:PT5M}",
+            initialDelayString = "${imprint.counter.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+
+        entityCounter.reconcile();
+
+        log.debug("개수 캐시를 DB 와 보정했습니다. ({}ms)", System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.imprint.service.export;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.repository.board.BoardRepository;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.post.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// 게시판 전체 내보내기 (NDJSON, 선택적으로 gzip)
+// - 첫 줄은 게시판, 이어서 게시물(id 순), 마지막으로 댓글(게시물 id, 댓글 id 순)을 한 줄에 하나씩 쓴다.
+// - 게시물/댓글은 읽기 전용 트랜잭션 안에서 Stream 으로 앞으로만 읽고 (fetch size 힌트),
+//   한 줄 쓸 때마다 엔티티를 영속성 컨텍스트에서 떼어내서 게시판 크기와 상관없이 메모리를 일정하게 쓴다.
+// - 페이지 조회와 달리 count 쿼리가 없다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BoardRepository boardRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public record BoardLine(String type, Long id, String name, LocalDateTime createdAt) {}
+
+    public record PostLine(
+            String type,
+            Long id,
+            Long boardId,
+            Long writerId,
+            String title,
+            String content,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) {}
+
+    public record CommentLine(
+            String type,
+            Long id,
+            Long postId,
+            Long writerId,
+            String content,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt) {}
+
+    public record Report(Long boardId, long posts, long comments, long elapsedMillis) {}
+
+    // 내려받을 파일 이름 (게시판이 없으면 여기서 400 으로 끝낸다)
+    // 응답 본문을 쓰기 시작한 뒤에는 오류 응답으로 바꿀 수 없으므로 스트리밍 전에 호출한다
+    @Transactional(readOnly = true)
+    public String fileName(Long boardId, boolean gzip) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다. (id = " + boardId + ")");
+        }
+        return "board-" + boardId + (gzip ? ".ndjson.gz" : ".ndjson");
+    }
+
+    @Transactional(readOnly = true)
+    public Report export(Long boardId, OutputStream output, boolean gzip) throws IOException {
+        long startedNanos = System.nanoTime();
+
+        BoardEntity board = boardRepository.findById(boardId).orElseThrow(
+                () -> new IllegalArgumentException("게시판을 찾을 수 없습니다. (id = " + boardId + ")")
+        );
+
+        long posts;
+        long comments;
+
+        try (OutputStream out = open(output, gzip)) {
+            writeLine(out, new BoardLine("board", board.getId(), board.getName(), board.getCreatedAt()));
+            entityManager.detach(board);
+
+            try (Stream<PostEntity> stream = postRepository.streamByBoardId(boardId)) {
+                posts = stream.mapToLong(post -> {
+                    // 게시판/작성자는 지연 로딩 프록시의 id 만 쓰므로 추가 조회가 없다
+                    writeLine(out, new PostLine("post", post.getId(), post.getBoard().getId(), post.getWriter().getId(),
+                            post.getTitle(), post.getContent(), post.getCreatedAt(), post.getUpdatedAt()));
+                    entityManager.detach(post);
+                    return 1;
+                }).sum();
+            }
+
+            try (Stream<CommentEntity> stream = commentRepository.streamByBoardId(boardId)) {
+                comments = stream.mapToLong(comment -> {
+                    writeLine(out, new CommentLine("comment", comment.getId(), comment.getPost().getId(),
+                            comment.getWriter().getId(), comment.getContent(), comment.getCreatedAt(), comment.getUpdatedAt()));
+                    entityManager.detach(comment);
+                    return 1;
+                }).sum();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+        log.info("게시판 내보내기: id = {}, 게시물 {}건, 댓글 {}건 ({}ms)", boardId, posts, comments, elapsedMillis);
+
+        return new Report(boardId, posts, comments, elapsedMillis);
+    }
+
+    private static OutputStream open(OutputStream output, boolean gzip) throws IOException {
+        return gzip
+                ? new GZIPOutputStream(new BufferedOutputStream(output, BUFFER_SIZE), BUFFER_SIZE)
+                : new BufferedOutputStream(output, BUFFER_SIZE);
+    }
+
+    private void writeLine(OutputStream out, Object line) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(line));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.example.imprint.service.ingest;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.comment.CommentDto;
+import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.comment.CommentEvent;
+import com.example.imprint.domain.post.PostDto;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserEvent;
+import com.example.imprint.domain.user.UserIngestDto;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.repository.board.BoardRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 회원/게시물/댓글 대량 적재 (예전 포럼 이전, 가져오기)
+// - NDJSON (한 줄에 JSON 하나) 또는 CSV 를 한 행씩 읽어서 chunkSize 건마다 트랜잭션을 나눠 커밋한다. (입력 전체를 메모리에 올리지 않음)
+// - 게시물/댓글은 id 를 시퀀스에서 미리 받아 오므로 INSERT 가 batchSize 건씩 JDBC 배치로 묶이고, batchSize 건마다 flush/clear 한다.
+// - 회원은 IDENTITY id 라서 Hibernate 가 INSERT 를 묶지 못하므로 JdbcTemplate 으로 batchSize 건씩 배치 INSERT 한다.
+//   이메일/닉네임 중복은 시작할 때 DB 에서 한 번 읽어 둔 집합으로 확인하고, 겹치는 행은 건너뛴다. (회원마다 exists 조회 없음)
+// - 묶음의 게시판/작성자/게시물은 IN 조회 한 번으로 확인한다.
+// - 커밋된 묶음마다 Ingested 이벤트를 한 번 발행해서 개수 캐시/검색 색인/대시보드 통계에 반영한다.
+// - 중간 묶음에서 실패하면 이전 묶음까지는 저장된 채로 멈추고, 몇 번째 줄에서 멈췄는지 알려준다.
+// - 진행 중인 적재는 running() 으로 건수/초당 건수를 볼 수 있고, PROGRESS_LOG_CHUNKS 묶음마다 로그에도 남긴다.
+@Slf4j
+@Service
+public class BulkIngestService {
+
+    private static final int PROGRESS_LOG_CHUNKS = 10;
+
+    // BCryptPasswordEncoder 가 확인할 수 있는 해시 ($2a$10$... 60자)
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}\\z");
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users (email, password, nickname, name, role, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int batchSize;
+
+    // 진행 중인 적재 (적재 번호 -> 진행 상황)
+    private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+    private final AtomicLong jobSequence = new AtomicLong();
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    // rows: 저장한 건수, skipped: 중복이라 건너뛴 건수
+    public record Report(
+            String target,
+            long rows,
+            long skipped,
+            int chunks,
+            long elapsedMillis,
+            double rowsPerSecond) {}
+
+    public BulkIngestService(BoardRepository boardRepository,
+                             UserRepository userRepository,
+                             PostRepository postRepository,
+                             EntityManager entityManager,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper,
+                             @Value("${imprint.ingest.chunk-size:1000}") int chunkSize,
+                             @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    public Report ingestUsers(InputStream input, Format format) {
+        UserKeys keys = loadUserKeys();
+        return ingest("users", input, format, UserIngestDto.class, this::validateUser, rows -> saveUsers(rows, keys));
+    }
+
+    public Report ingestPosts(InputStream input) {
+        return ingestPosts(input, Format.NDJSON);
+    }
+
+    public Report ingestPosts(InputStream input, Format format) {
+        return ingest("posts", input, format, PostDto.Ingest.class, this::validatePost, this::savePosts);
+    }
+
+    public Report ingestComments(InputStream input) {
+        return ingestComments(input, Format.NDJSON);
+    }
+
+    public Report ingestComments(InputStream input, Format format) {
+        return ingest("comments", input, format, CommentDto.Ingest.class, this::validateComment, this::saveComments);
+    }
+
+    // 진행 중인 적재의 현재까지 건수 / 초당 건수
+    public List<Report> running() {
+        return running.values().stream().map(Progress::snapshot).toList();
+    }
+
+    private <T> Report ingest(String target, InputStream input, Format format, Class<T> type,
+                              RowValidator<T> validator, ChunkWriter<T> writer) {
+        long job = jobSequence.incrementAndGet();
+        Progress progress = new Progress(target);
+        running.put(job, progress);
+
+        try (RowReader<T> reader = open(input, format, type)) {
+            List<T> chunk = new ArrayList<>(chunkSize);
+            long chunkStartLine = 0;
+
+            T row;
+            while ((row = read(reader, validator, progress)) != null) {
+                if (chunk.isEmpty()) {
+                    chunkStartLine = reader.lineNumber();
+                }
+                chunk.add(row);
+
+                if (chunk.size() == chunkSize) {
+                    write(writer, chunk, chunkStartLine, progress);
+                    chunk.clear();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                write(writer, chunk, chunkStartLine, progress);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("적재할 입력을 읽지 못했습니다. (" + progress.rows + "건 저장 후 중단)", e);
+        } finally {
+            running.remove(job);
+        }
+
+        Report report = progress.snapshot();
+        log.info("대량 적재: {} {}건, 중복 {}건 건너뜀 ({}개 묶음, {}ms, {}건/초)", target, report.rows(), report.skipped(),
+                report.chunks(), report.elapsedMillis(), Math.round(report.rowsPerSecond()));
+
+        return report;
+    }
+
+    private <T> RowReader<T> open(InputStream input, Format format, Class<T> type) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return format == Format.CSV
+                ? new CsvRowReader<>(reader, objectMapper, type)
+                : new NdjsonRowReader<>(reader, objectMapper, type);
+    }
+
+    private <T> T read(RowReader<T> reader, RowValidator<T> validator, Progress progress) throws IOException {
+        try {
+            T row = reader.next();
+            if (row != null) {
+                validator.validate(row);
+            }
+            return row;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(reader.lineNumber() + "번째 줄을 읽을 수 없습니다: "
+                    + e.getMessage() + " (" + progress.rows + "건 저장 후 중단)", e);
+        }
+    }
+
+    private <T> void write(ChunkWriter<T> writer, List<T> chunk, long chunkStartLine, Progress progress) {
+        Integer saved;
+        try {
+            saved = transactionTemplate.execute(status -> writer.write(chunk));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(chunkStartLine + "번째 줄부터의 묶음을 저장하지 못했습니다: "
+                    + e.getMessage() + " (" + progress.rows + "건 저장 후 중단)", e);
+        }
+
+        progress.add(saved == null ? 0 : saved, chunk.size());
+
+        if (progress.chunks % PROGRESS_LOG_CHUNKS == 0) {
+            Report report = progress.snapshot();
+            log.info("대량 적재 진행: {} {}건, 중복 {}건 건너뜀 ({}개 묶음, {}ms, {}건/초)", report.target(), report.rows(),
+                    report.skipped(), report.chunks(), report.elapsedMillis(), Math.round(report.rowsPerSecond()));
+        }
+    }
+
+    private void validateUser(UserIngestDto row) {
+        if (row.email() == null || row.email().isBlank() || !row.email().contains("@") || row.email().length() > 255) {
+            throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다.");
+        }
+        if (row.passwordHash() == null || !BCRYPT_HASH.matcher(row.passwordHash()).matches()) {
+            throw new IllegalArgumentException("비밀번호는 BCrypt 해시여야 합니다.");
+        }
+        if (row.nickname() == null || row.nickname().isBlank() || row.nickname().length() < 2 || row.nickname().length() > 15) {
+            throw new IllegalArgumentException("닉네임은 2자에서 15자 사이여야 합니다.");
+        }
+        if (row.name() == null || row.name().isBlank()) {
+            throw new IllegalArgumentException("이름은 필수 입력 값입니다.");
+        }
+    }
+
+    private void validatePost(PostDto.Ingest row) {
+        if (row.boardId() == null || (row.writerId() == null && (row.writerEmail() == null || row.writerEmail().isBlank()))) {
+            throw new IllegalArgumentException("게시판 id 와 작성자 (id 또는 이메일) 는 필수입니다.");
+        }
+        if (row.title() == null || row.title().isBlank() || row.title().length() < 2 || row.title().length() > 80) {
+            throw new IllegalArgumentException("제목은 2 ~ 80자여야 합니다.");
+        }
+        if (row.content() == null || row.content().isBlank()) {
+            throw new IllegalArgumentException("본문을 입력해주세요.");
+        }
+    }
+
+    private void validateComment(CommentDto.Ingest row) {
+        if (row.postId() == null || row.writerId() == null) {
+            throw new IllegalArgumentException("게시물 id 와 작성자 id 는 필수입니다.");
+        }
+        if (row.content() == null || row.content().isBlank()) {
+            throw new IllegalArgumentException("본문을 입력해주세요.");
+        }
+    }
+
+    // 시작할 때 한 번 DB 의 이메일/닉네임을 모두 읽어 둔다 (이후 가져온 회원도 여기에 더해서 입력 안의 중복도 거른다)
+    private UserKeys loadUserKeys() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        return readOnly.execute(status -> {
+            UserKeys keys = new UserKeys(new HashSet<>(), new HashSet<>());
+            try (Stream<Object[]> stream = userRepository.streamEmailAndNickname()) {
+                stream.forEach(row -> {
+                    keys.emails().add((String) row[0]);
+                    keys.nicknames().add((String) row[1]);
+                });
+            }
+            return keys;
+        });
+    }
+
+    private int saveUsers(List<UserIngestDto> rows, UserKeys keys) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        for (UserIngestDto row : rows) {
+            // 이미 있는 회원이나 앞에서 가져온 회원과 이메일/닉네임이 겹치면 건너뛴다
+            if (keys.emails().contains(row.email()) || keys.nicknames().contains(row.nickname())) {
+                continue;
+            }
+            keys.emails().add(row.email());
+            keys.nicknames().add(row.nickname());
+
+            inserts.add(new Object[]{row.email(), row.passwordHash(), row.nickname(), row.name(),
+                    UserRole.USER.getValue(), UserStatus.ACTIVE.name(), now, now});
+        }
+
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(INSERT_USER_SQL, inserts.subList(from, Math.min(from + batchSize, inserts.size())));
+        }
+
+        if (!inserts.isEmpty()) {
+            eventPublisher.publishEvent(new UserEvent.Ingested(inserts.size()));
+        }
+        return inserts.size();
+    }
+
+    private int savePosts(List<PostDto.Ingest> rows) {
+        Map<Long, BoardEntity> boards = byKey(boardRepository.findAllById(keys(rows, PostDto.Ingest::boardId)), BoardEntity::getId);
+        Map<Long, UserEntity> writers = byKey(findAll(keys(rows, PostDto.Ingest::writerId), userRepository::findAllById), UserEntity::getId);
+        Map<String, UserEntity> writersByEmail = byKey(findAll(keys(rows, PostDto.Ingest::writerEmail), userRepository::findAllByEmailIn), UserEntity::getEmail);
+
+        List<PostEvent.Created> created = new ArrayList<>(rows.size());
+        for (PostDto.Ingest row : rows) {
+            PostEntity post = PostEntity.builder()
+                    .board(required(boards, row.boardId(), "게시판을"))
+                    .writer(writer(row, writers, writersByEmail))
+                    .title(row.title())
+                    .content(row.content())
+                    .build();
+
+            entityManager.persist(post);
+            created.add(PostEvent.Created.from(post));
+
+            flushEveryBatch(created.size());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        eventPublisher.publishEvent(new PostEvent.Ingested(created));
+        return created.size();
+    }
+
+    private int saveComments(List<CommentDto.Ingest> rows) {
+        Map<Long, PostEntity> posts = byKey(postRepository.findAllById(keys(rows, CommentDto.Ingest::postId)), PostEntity::getId);
+        Map<Long, UserEntity> writers = byKey(userRepository.findAllById(keys(rows, CommentDto.Ingest::writerId)), UserEntity::getId);
+
+        List<CommentEvent.Created> created = new ArrayList<>(rows.size());
+        for (CommentDto.Ingest row : rows) {
+            PostEntity post = required(posts, row.postId(), "게시물을");
+            CommentEntity comment = CommentEntity.builder()
+                    .post(post)
+                    .writer(required(writers, row.writerId(), "작성자를"))
+                    .content(row.content())
+                    .build();
+
+            entityManager.persist(comment);
+            created.add(new CommentEvent.Created(comment.getId(), post.getId()));
+
+            flushEveryBatch(created.size());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        eventPublisher.publishEvent(new CommentEvent.Ingested(created));
+        return created.size();
+    }
+
+    // batchSize 건마다 INSERT 를 내보내고 영속성 컨텍스트를 비운다
+    // (묶음 앞에서 읽은 게시판/작성자는 준영속이 되지만 연관관계의 id 만 쓰므로 그대로 참조해도 된다)
+    private void flushEveryBatch(int persisted) {
+        if (persisted % batchSize == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private static UserEntity writer(PostDto.Ingest row, Map<Long, UserEntity> writers, Map<String, UserEntity> writersByEmail) {
+        if (row.writerId() != null) {
+            return required(writers, row.writerId(), "작성자를");
+        }
+
+        UserEntity writer = writersByEmail.get(row.writerEmail());
+        if (writer == null) {
+            throw new IllegalArgumentException("작성자를 찾을 수 없습니다. (email = " + row.writerEmail() + ")");
+        }
+        return writer;
+    }
+
+    private static <T, K> List<K> keys(List<T> rows, Function<T, K> key) {
+        return rows.stream().map(key).filter(Objects::nonNull).distinct().toList();
+    }
+
+    // 찾을 키가 없으면 IN () 조회를 보내지 않는다
+    private static <K, E> List<E> findAll(List<K> keys, Function<List<K>, List<E>> finder) {
+        return keys.isEmpty() ? List.of() : finder.apply(keys);
+    }
+
+    private static <K, E> Map<K, E> byKey(List<E> entities, Function<E, K> key) {
+        Map<K, E> map = new HashMap<>();
+        entities.forEach(entity -> map.put(key.apply(entity), entity));
+        return map;
+    }
+
+    private static <E> E required(Map<Long, E> entities, Long id, String subject) {
+        E entity = entities.get(id);
+        if (entity == null) {
+            throw new IllegalArgumentException(subject + " 찾을 수 없습니다. (id = " + id + ")");
+        }
+        return entity;
+    }
+
+    @FunctionalInterface
+    private interface RowValidator<T> {
+        void validate(T row);
+    }
+
+    // 묶음을 저장하고 실제로 저장한 건수를 돌려준다
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        int write(List<T> rows);
+    }
+
+    private record UserKeys(Set<String> emails, Set<String> nicknames) {}
+
+    // 적재 하나의 진행 상황 (적재 스레드만 쓰고 running() 에서 읽는다)
+    private static final class Progress {
+        private final String target;
+        private final long startedNanos = System.nanoTime();
+        private volatile long rows;
+        private volatile long skipped;
+        private volatile int chunks;
+
+        private Progress(String target) {
+            this.target = target;
+        }
+
+        private void add(int saved, int read) {
+            rows += saved;
+            skipped += read - saved;
+            chunks++;
+        }
+
+        private Report snapshot() {
+            long elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+            double rowsPerSecond = elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+            return new Report(target, rows, skipped, chunks, elapsedMillis, rowsPerSecond);
+        }
+    }
+}
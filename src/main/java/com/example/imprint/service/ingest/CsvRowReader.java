@@ -0,0 +1,150 @@
+package com.example.imprint.service.ingest;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// CSV (RFC 4180): 첫 행은 열 이름 (행 DTO 의 필드 이름), 이후 한 행에 한 건
+// - 큰따옴표로 감싼 칸 안의 쉼표/줄바꿈과 "" (큰따옴표 하나) 를 지원한다. (본문에 줄바꿈이 있는 예전 게시물)
+// - 빈 칸은 null, 빈 줄은 건너뛴다.
+// - 엑셀에서 저장한 CSV 의 맨 앞 BOM 과 열 이름 앞뒤 공백은 무시한다.
+class CsvRowReader<T> implements RowReader<T> {
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    private List<String> header;
+    private long lineNumber;
+    private long nextLineNumber = 1;
+
+    CsvRowReader(BufferedReader reader, ObjectMapper objectMapper, Class<T> type) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public T next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = headerNames(names);
+        }
+
+        List<String> values = readRecord();
+        if (values == null) {
+            return null;
+        }
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("열 수가 맞지 않습니다. (헤더 " + header.size() + "개, 행 " + values.size() + "개)");
+        }
+
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = values.get(i);
+            row.put(header.get(i), value.isEmpty() ? null : value);
+        }
+
+        try {
+            return objectMapper.convertValue(row, type);
+        } catch (JacksonException | IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static List<String> headerNames(List<String> names) {
+        List<String> trimmed = new ArrayList<>(names.size());
+        for (String name : names) {
+            trimmed.add(name.strip());
+        }
+
+        if (!trimmed.isEmpty() && !trimmed.getFirst().isEmpty() && trimmed.getFirst().charAt(0) == BOM) {
+            trimmed.set(0, trimmed.getFirst().substring(1).strip());
+        }
+        return trimmed;
+    }
+
+    // 행 하나를 칸 목록으로 읽는다 (빈 줄은 건너뜀, 입력 끝이면 null)
+    private List<String> readRecord() throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+
+        lineNumber = nextLineNumber;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        value.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        nextLineNumber++;
+                    }
+                    value.append((char) c);
+                }
+                continue;
+            }
+
+            if (c == '\r') {
+                continue;
+            }
+            if (c == '\n') {
+                nextLineNumber++;
+                if (empty) {
+                    lineNumber = nextLineNumber;
+                    continue;
+                }
+                break;
+            }
+
+            empty = false;
+            if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append((char) c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("큰따옴표가 닫히지 않았습니다.");
+        }
+        if (empty) {
+            return null;
+        }
+
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.imprint.service.ingest;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// NDJSON: 한 줄에 JSON 객체 하나, 빈 줄은 건너뛴다
+class NdjsonRowReader<T> implements RowReader<T> {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    private long lineNumber;
+
+    NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper, Class<T> type) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public T next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                return objectMapper.readValue(line, type);
+            } catch (JacksonException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.imprint.service.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 대량 적재 입력을 한 행씩 읽는다 (입력 전체를 메모리에 올리지 않음)
+interface RowReader<T> extends Closeable {
+
+    // 다음 행, 더 없으면 null
+    // 행을 읽을 수 없으면 IllegalArgumentException
+    T next() throws IOException;
+
+    // 방금 읽은 행이 시작된 줄 번호 (1부터)
+    long lineNumber();
+}
@@ -0,0 +1,222 @@
+package com.example.imprint.service.mail;
+
+import com.example.imprint.domain.mail.MailEvent;
+import com.example.imprint.domain.mail.MailOutboxEntity;
+import com.example.imprint.domain.mail.MailOutboxStatus;
+import com.example.imprint.repository.mail.MailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 메일 발송 대기열(mail_outbox)을 꺼내서 발송
+// - 발송할 차례가 된 메일을 가져가 SENDING 으로 표시한 뒤 트랜잭션 밖에서 보낸다. (SMTP 대기 중 DB 커넥션을 잡지 않음)
+// - 가져가기는 조건부 UPDATE 로 하므로 여러 인스턴스가 동시에 돌아도 같은 메일을 두 번 보내지 않는다.
+// - batchSize 개씩 묶어 SMTP 연결 하나로 보내고, 묶음들은 최대 workers 개까지 동시에 보낸다.
+// - 실패한 메일은 지수적으로 늘어나는 간격으로 재시도하고, maxAttempts 를 넘으면 FAILED 로 남긴다.
+// - 주기적으로 돌고, 대기열에 메일이 커밋되면 바로 한 번 더 돈다.
+@Slf4j
+@Component
+public class MailOutboxWorker {
+
+    private static final List<MailOutboxStatus> DUE_STATUSES = List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    // 주기 실행과 이벤트 실행이 겹치지 않도록 한 번에 하나만 돈다
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    // 발송 결과 (error 는 실패 사유, 성공이면 null)
+    private record Outcome(Long id, String error) {}
+
+    public MailOutboxWorker(MailOutboxRepository mailOutboxRepository,
+                            JavaMailSender mailSender,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${imprint.mail.outbox.batch-size:20}") int batchSize,
+                            @Value("${imprint.mail.outbox.workers:4}") int workers,
+                            @Value("${imprint.mail.outbox.max-attempts:6}") int maxAttempts,
+                            @Value("${imprint.mail.outbox.base-backoff:PT10S}") Duration baseBackoff,
+                            @Value("${imprint.mail.outbox.max-backoff:PT30M}") Duration maxBackoff,
+                            @Value("${imprint.mail.outbox.lease:PT5M}") Duration lease) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(MailEvent.Enqueued event) {
+        drain();
+    }
+
+    @Scheduled(fixedDelayString = "${imprint.mail.outbox.poll-interval:PT1S}",
+            initialDelayString = "${imprint.mail.outbox.poll-interval:PT1S}")
+    public void drain() {
+        if (!drainLock.tryLock()) {
+            return;
+        }
+
+        try {
+            List<MailOutboxEntity> claimed;
+            while (!(claimed = claim()).isEmpty()) {
+                record(send(claimed));
+            }
+        } catch (RuntimeException e) {
+            log.warn("메일 발송 대기열 처리 실패", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    private List<MailOutboxEntity> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> due = mailOutboxRepository.findDueIds(DUE_STATUSES, now,
+                    PageRequest.of(0, batchSize * workers));
+
+            // 조회와 UPDATE 사이에 다른 발송 작업이 가져간 메일은 UPDATE 가 0건이므로 뺀다
+            List<Long> claimed = due.stream()
+                    .filter(id -> mailOutboxRepository.claim(id, DUE_STATUSES, now, now.plus(lease)) == 1)
+                    .toList();
+
+            // findAllById 는 순서를 보장하지 않으므로 조회 순서(nextAttemptAt, id)대로 다시 맞춘다
+            Map<Long, MailOutboxEntity> mails = new HashMap<>();
+            mailOutboxRepository.findAllById(claimed).forEach(mail -> mails.put(mail.getId(), mail));
+            return claimed.stream().map(mails::get).toList();
+        });
+    }
+
+    private List<Outcome> send(List<MailOutboxEntity> claimed) {
+        List<Outcome> outcomes = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<Outcome>>> futures = new ArrayList<>();
+
+            for (int from = 0; from < claimed.size(); from += batchSize) {
+                List<MailOutboxEntity> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+                futures.add(executor.submit(() -> sendBatch(batch)));
+            }
+
+            for (Future<List<Outcome>> future : futures) {
+                outcomes.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // sendBatch 는 예외를 결과로 바꾸므로 여기까지 오지 않는다
+            log.warn("메일 발송 작업 실패", e.getCause());
+        }
+
+        return outcomes;
+    }
+
+    // 한 묶음을 SMTP 연결 하나로 발송 (일부만 실패하면 실패한 메일만 재시도 대상)
+    private List<Outcome> sendBatch(List<MailOutboxEntity> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+
+        for (int i = 0; i < batch.size(); i++) {
+            MailOutboxEntity mail = batch.get(i);
+
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(mail.getRecipient());
+            message.setFrom("ImPrint");
+            message.setSubject(mail.getSubject());
+            message.setText(mail.getBody());
+
+            messages[i] = message;
+        }
+
+        // 내용이 같은 메일이 있을 수 있으므로 (SimpleMailMessage.equals) 객체 동일성으로 구분한다
+        Map<Object, Exception> failed = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            failed.putAll(e.getFailedMessages());
+            if (failed.isEmpty()) {
+                // 연결 자체가 실패하면 어떤 메일이 실패했는지 알 수 없으므로 전부 실패로 본다
+                for (SimpleMailMessage message : messages) {
+                    failed.put(message, e);
+                }
+            }
+        } catch (MailException e) {
+            for (SimpleMailMessage message : messages) {
+                failed.put(message, e);
+            }
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(messages.length);
+        for (int i = 0; i < messages.length; i++) {
+            Exception error = failed.get(messages[i]);
+            outcomes.add(new Outcome(batch.get(i).getId(), error == null ? null : String.valueOf(error.getMessage())));
+        }
+
+        return outcomes;
+    }
+
+    private void record(List<Outcome> outcomes) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, MailOutboxEntity> mails = new HashMap<>();
+            mailOutboxRepository.findAllById(outcomes.stream().map(Outcome::id).toList())
+                    .forEach(mail -> mails.put(mail.getId(), mail));
+
+            for (Outcome outcome : outcomes) {
+                MailOutboxEntity mail = mails.get(outcome.id());
+                if (mail == null) {
+                    continue;
+                }
+
+                if (outcome.error() == null) {
+                    mail.markSent(now);
+                } else if (mail.getAttempts() >= maxAttempts) {
+                    log.warn("메일 발송 포기 (id: {}, 시도: {}회): {}", mail.getId(), mail.getAttempts(), outcome.error());
+                    mail.markFailed(outcome.error(), null);
+                } else {
+                    mail.markFailed(outcome.error(), now.plus(backoff(mail.getAttempts())));
+                }
+            }
+        });
+    }
+
+    // baseBackoff * 2^(attempts - 1), 최대 maxBackoff
+    Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
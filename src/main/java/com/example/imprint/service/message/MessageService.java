@@ -1,17 +1,30 @@
 package com.example.imprint.service.message;
 
+import com.example.imprint.domain.message.MessageBulkRequestDto;
+import com.example.imprint.domain.message.MessageCursorResponseDto;
 import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.message.MessageEvent;
 import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.page.CursorDto;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.broadcast.BroadcastMessageRepository;
 import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.service.counter.EntityCounter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +33,10 @@ public class MessageService {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityCounter entityCounter;
+    private final BroadcastMessageRepository broadcastMessageRepository;
+    private final SupportTicketSync supportTicketSync;
 
     // 쪽지 보내기
     @Transactional
@@ -39,6 +56,8 @@ public class MessageService {
                 .build();
 
         messageRepository.save(message);
+
+        eventPublisher.publishEvent(MessageEvent.Sent.from(message));
     }
 
     // 쪽지 읽음 처리 (상태 변환)
@@ -53,42 +72,132 @@ public class MessageService {
         }
 
         // 받은 사람이 읽었을 때만 '읽음' 표시와 '시간' 기록
-        if (message.getReceiver().getEmail().equals(userEmail)) {
+        if (message.getReceiver().getEmail().equals(userEmail) && !message.isRead()) {
             message.read();
+            eventPublisher.publishEvent(new MessageEvent.Read(message.getId(), userEmail));
         }
 
         // 엔티티를 DTO로 변환해서 컨트롤러에게 전달
         return MessageResponseDto.from(message);
     }
 
-    // 받은 쪽지함 전체 조회
-    // 받은 쪽지함 탭 클릭: GET /message/list 호출
-    public List<MessageResponseDto> getReceivedMessages(String email) {
-        // 현재 로그인한 유저 엔티티 조회
-        UserEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    // 받은 쪽지함 커서 조회 (최신순, size 개씩, 전체 공지를 함께 합쳐서 보여줌)
+    // 받은 쪽지함 탭 클릭: GET /message/list 호출, 다음 페이지는 nextCursor 로 이어서 조회
+    public MessageCursorResponseDto getReceivedMessages(String email, String cursor, int size) {
+        KeysetSource personal = new KeysetSource(
+                limit -> toResponses(messageRepository.findLatestReceived(email, limit)),
+                (createdAt, id, limit) -> toResponses(messageRepository.findOlderReceived(email, createdAt, id, limit)),
+                (createdAt, id, limit) -> toResponses(messageRepository.findNewerReceived(email, createdAt, id, limit)));
 
-        // 받은 쪽지 리스트 가져오기 (삭제 안 된 것만)
-        List<MessageEntity> messages = messageRepository.findAllByReceiverAndDeletedByReceiverFalseOrderByCreatedAtDesc(user);
+        KeysetSource broadcasts = new KeysetSource(
+                limit -> broadcastMessageRepository.findLatestForReceiver(email, limit),
+                (createdAt, id, limit) -> broadcastMessageRepository.findOlderForReceiver(email, createdAt, id, limit),
+                (createdAt, id, limit) -> broadcastMessageRepository.findNewerForReceiver(email, createdAt, id, limit));
 
-        // Entity 리스트를 DTO 리스트로 변환해서 반환
-        return messages.stream()
-                .map(MessageResponseDto::from)
-                .collect(Collectors.toList());
+        return getMessagePage(cursor, size, personal, broadcasts);
     }
 
-
-    // 보낸 쪽지함 전체 조회
+    // 보낸 쪽지함 커서 조회 (최신순, size 개씩)
     // 보낸 쪽지함 탭 클릭: GET /message/sent 호출
-    public List<MessageResponseDto> getSentMessages(String email) {
-        UserEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    public MessageCursorResponseDto getSentMessages(String email, String cursor, int size) {
+        KeysetSource personal = new KeysetSource(
+                limit -> toResponses(messageRepository.findLatestSent(email, limit)),
+                (createdAt, id, limit) -> toResponses(messageRepository.findOlderSent(email, createdAt, id, limit)),
+                (createdAt, id, limit) -> toResponses(messageRepository.findNewerSent(email, createdAt, id, limit)));
+
+        return getMessagePage(cursor, size, personal, null);
+    }
+
+    // (createdAt, id) 기준 키셋 조회
+    private interface KeysetQuery {
+        List<MessageResponseDto> find(LocalDateTime createdAt, Long id, Pageable limit);
+    }
+
+    // 목록 하나의 최신/다음/이전 페이지 조회
+    private record KeysetSource(
+            Function<Pageable, List<MessageResponseDto>> latest,
+            KeysetQuery older,
+            KeysetQuery newer) {
 
-        // 이번에는 Sender가 "나" 인 쪽지를 조회
-        return messageRepository.findAllBySenderAndDeletedBySenderFalseOrderByCreatedAtDesc(user)
-                .stream()
+        List<MessageResponseDto> find(CursorDto position, Long id, Pageable limit) {
+            if (position == null) {
+                return latest.apply(limit);
+            }
+            return position.direction() == CursorDto.Direction.NEXT
+                    ? older.find(position.createdAt(), id, limit)
+                    : newer.find(position.createdAt(), id, limit);
+        }
+    }
+
+    // 쪽지함 정렬: 최신순, 같은 시각이면 개인 쪽지 다음 공지, 그다음 id 역순
+    private static final Comparator<MessageResponseDto> NEWEST_FIRST =
+            Comparator.comparing(MessageResponseDto::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(MessageResponseDto::isBroadcast)
+                    .thenComparing(MessageResponseDto::getId, Comparator.reverseOrder());
+
+    private static final String SOURCE_MESSAGE = "message";
+    private static final String SOURCE_BROADCAST = "broadcast";
+
+    private MessageCursorResponseDto getMessagePage(String cursor, int size,
+                                                    KeysetSource personal,
+                                                    KeysetSource broadcasts) {
+        // 다음/이전 페이지 존재 여부를 알기 위해 한 건 더 조회 (count 쿼리 대신)
+        Pageable limit = PageRequest.of(0, size + 1);
+        CursorDto position = (cursor == null || cursor.isBlank()) ? null : CursorDto.decode(cursor);
+        boolean backward = position != null && position.direction() == CursorDto.Direction.PREV;
+
+        // 두 목록에서 각각 size + 1 개씩 읽어 합친 뒤 정렬 순서대로 자른다
+        // 커서가 공지에서 끝났으면 같은 시각의 개인 쪽지는 이미 지나간 것이고, 반대도 마찬가지라 id 경계를 바꿔 준다
+        boolean fromBroadcast = position != null && SOURCE_BROADCAST.equals(position.source());
+        Long personalId = position == null ? null : (fromBroadcast ? 0L : position.id());
+        Long broadcastId = position == null ? null : (fromBroadcast ? position.id() : Long.MAX_VALUE);
+
+        List<MessageResponseDto> messages = new ArrayList<>(personal.find(position, personalId, limit));
+        if (broadcasts != null) {
+            messages.addAll(broadcasts.find(position, broadcastId, limit));
+        }
+
+        messages.sort(backward ? NEWEST_FIRST.reversed() : NEWEST_FIRST);
+
+        boolean hasMore = messages.size() > size;
+        if (hasMore) {
+            messages.subList(size, messages.size()).clear();
+        }
+
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : position != null;
+
+        // 이전 페이지는 오래된 순으로 조회되므로 최신순으로 되돌린다
+        if (backward) {
+            Collections.reverse(messages);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+
+        if (!messages.isEmpty()) {
+            MessageResponseDto first = messages.get(0);
+            MessageResponseDto last = messages.get(messages.size() - 1);
+
+            if (hasNext) {
+                nextCursor = CursorDto.next(last.getCreatedAt(), last.getId(), source(last)).encode();
+            }
+            if (hasPrev) {
+                prevCursor = CursorDto.prev(first.getCreatedAt(), first.getId(), source(first)).encode();
+            }
+        }
+
+        return new MessageCursorResponseDto(messages, nextCursor, prevCursor);
+    }
+
+    private static String source(MessageResponseDto message) {
+        return message.isBroadcast() ? SOURCE_BROADCAST : SOURCE_MESSAGE;
+    }
+
+    private static List<MessageResponseDto> toResponses(List<MessageEntity> messages) {
+        return messages.stream()
                 .map(MessageResponseDto::from)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     // 쪽지 삭제 (보낸 사람 기준)
@@ -103,6 +212,7 @@ public class MessageService {
 
         // Entity의 deletedBySender = true
         message.deleteBySender();
+        supportTicketSync.deletedBySender(messageId);
     }
 
     // 쪽지 삭제 (받는 사람 기준)
@@ -116,18 +226,97 @@ public class MessageService {
         }
 
         // Entity의 deletedByReceiver = true
-        message.deleteByReceiver();
-    }
-
-    // 관리자 대시보드용 (운영진에게 온 모든 문의 메시지 조회)
-    public List<MessageResponseDto> getAdminSupports() {
-        return messageRepository.findAdminSupports().stream()
-                .map(entity -> MessageResponseDto.builder()
-                        .id(entity.getId())
-                        .content(entity.getContent())
-                        .senderNickname(entity.getSender().getNickname())
-                        .createdAt(entity.getCreatedAt())
-                        .build())
-                .toList();
+        if (!message.isDeletedByReceiver()) {
+            message.deleteByReceiver();
+            eventPublisher.publishEvent(new MessageEvent.DeletedByReceiver(message.getId(), email, !message.isRead()));
+        }
+        supportTicketSync.deletedByReceiver(messageId);
+    }
+
+    // 받은 쪽지 일괄 읽음
+    @Transactional
+    public int markReadBulk(String email, MessageBulkRequestDto requestDto) {
+        BulkTarget target = BulkTarget.of(requestDto);
+        int updated = messageRepository.markReadByReceiver(email, target.allIds(), target.ids(), target.olderThan(),
+                LocalDateTime.now());
+
+        publishReceivedBulkChanged(email, updated);
+        return updated;
+    }
+
+    // 받은 쪽지 일괄 삭제
+    @Transactional
+    public int deleteByReceiverBulk(String email, MessageBulkRequestDto requestDto) {
+        BulkTarget target = BulkTarget.of(requestDto);
+        supportTicketSync.deletedByReceiverBulk(email, target.allIds(), target.ids(), target.olderThan(),
+                requestDto.isReadOnly());
+        int updated = messageRepository.deleteByReceiverBulk(email, target.allIds(), target.ids(), target.olderThan(),
+                requestDto.isReadOnly());
+
+        publishReceivedBulkChanged(email, updated);
+        return updated;
+    }
+
+    // 보낸 쪽지 일괄 삭제
+    @Transactional
+    public int deleteBySenderBulk(String email, MessageBulkRequestDto requestDto) {
+        BulkTarget target = BulkTarget.of(requestDto);
+        supportTicketSync.deletedBySenderBulk(email, target.allIds(), target.ids(), target.olderThan(),
+                requestDto.isReadOnly());
+        return messageRepository.deleteBySenderBulk(email, target.allIds(), target.ids(), target.olderThan(),
+                requestDto.isReadOnly());
+    }
+
+    // 받은 쪽지 일괄 보관 (stored 가 false 면 보관 해제)
+    @Transactional
+    public int storeByReceiverBulk(String email, MessageBulkRequestDto requestDto) {
+        BulkTarget target = BulkTarget.of(requestDto);
+        return messageRepository.storeByReceiverBulk(email, target.allIds(), target.ids(), target.olderThan(),
+                requestDto.isReadOnly(), !Boolean.FALSE.equals(requestDto.getStored()));
+    }
+
+    // 보낸 쪽지 일괄 보관 (stored 가 false 면 보관 해제)
+    @Transactional
+    public int storeBySenderBulk(String email, MessageBulkRequestDto requestDto) {
+        BulkTarget target = BulkTarget.of(requestDto);
+        return messageRepository.storeBySenderBulk(email, target.allIds(), target.ids(), target.olderThan(),
+                requestDto.isReadOnly(), !Boolean.FALSE.equals(requestDto.getStored()));
+    }
+
+    private void publishReceivedBulkChanged(String email, int updated) {
+        if (updated > 0) {
+            eventPublisher.publishEvent(new MessageEvent.ReceivedBulkChanged(email));
+        }
+    }
+
+    // 일괄 처리 대상: id 목록 또는 olderThan 이전 전체
+    private record BulkTarget(boolean allIds, List<Long> ids, LocalDateTime olderThan) {
+
+        private static final int MAX_IDS = 1000;
+        // id 목록으로 고를 때는 시간 조건이 걸리지 않도록 충분히 먼 시각을 쓴다
+        private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(9999, 12, 31, 0, 0);
+        // 빈 IN 절은 DB 마다 다르게 처리되므로 전체 대상일 때도 자리만 채운다
+        private static final List<Long> NO_IDS = List.of(0L);
+
+        static BulkTarget of(MessageBulkRequestDto requestDto) {
+            List<Long> ids = requestDto.getIds();
+
+            if (ids != null && !ids.isEmpty()) {
+                if (ids.size() > MAX_IDS) {
+                    throw new IllegalArgumentException("한 번에 처리할 수 있는 쪽지는 " + MAX_IDS + "개까지입니다.");
+                }
+                return new BulkTarget(false, ids, FAR_FUTURE);
+            }
+
+            if (requestDto.getOlderThan() == null) {
+                throw new IllegalArgumentException("ids 또는 olderThan 중 하나는 지정해야 합니다.");
+            }
+            return new BulkTarget(true, NO_IDS, requestDto.getOlderThan());
+        }
+    }
+
+    // 안 읽은 쪽지 수 (알림 배지용, 캐시된 값이라 SQL 없음)
+    public long getUnreadCount(String email) {
+        return entityCounter.countUnreadMessages(email);
     }
 }
\ No newline at end of file
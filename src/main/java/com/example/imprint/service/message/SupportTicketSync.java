@@ -0,0 +1,47 @@
+package com.example.imprint.service.message;
+
+import com.example.imprint.domain.message.support.SupportTicketEntity;
+import com.example.imprint.repository.message.support.SupportTicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// 문의 쪽지를 지우면 문의(support_tickets)의 삭제 표시도 같이 바꾼다
+// - 쪽지함(MessageService)과 문의 화면(SupportsService) 어느 쪽에서 지워도 문의 목록이 같은 결과가 되도록 한 곳에 모은다.
+// - 쪽지를 지운 트랜잭션 안에서 바꾸므로 삭제가 롤백되면 문의 표시도 같이 되돌아간다.
+@Component
+@RequiredArgsConstructor
+public class SupportTicketSync {
+
+    private final SupportTicketRepository supportTicketRepository;
+
+    // 보낸 사람(문의한 사용자)이 쪽지를 지움 -> 내 문의 목록에서 숨김
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deletedBySender(Long messageId) {
+        supportTicketRepository.findByMessageId(messageId).ifPresent(SupportTicketEntity::deleteByRequester);
+    }
+
+    // 받은 사람(관리자)이 쪽지를 지움 -> 관리자 문의함에서 숨김
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deletedByReceiver(Long messageId) {
+        supportTicketRepository.findByMessageId(messageId).ifPresent(SupportTicketEntity::deleteByAdmin);
+    }
+
+    // 보낸 쪽지 일괄 삭제 - 쪽지의 삭제 표시를 바꾸기 전에 호출해야 같은 쪽지만 고른다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deletedBySenderBulk(String email, boolean allIds, Collection<Long> ids, LocalDateTime olderThan,
+                                    boolean readOnly) {
+        supportTicketRepository.deleteByRequesterBulk(email, allIds, ids, olderThan, readOnly);
+    }
+
+    // 받은 쪽지 일괄 삭제 - 쪽지의 삭제 표시를 바꾸기 전에 호출해야 같은 쪽지만 고른다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deletedByReceiverBulk(String email, boolean allIds, Collection<Long> ids, LocalDateTime olderThan,
+                                      boolean readOnly) {
+        supportTicketRepository.deleteByAdminBulk(email, allIds, ids, olderThan, readOnly);
+    }
+}
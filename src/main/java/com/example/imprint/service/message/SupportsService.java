@@ -1,21 +1,34 @@
 package com.example.imprint.service.message;
 
 import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.message.MessageEvent;
 import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketCursorResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketEntity;
+import com.example.imprint.domain.message.support.SupportTicketEvent;
+import com.example.imprint.domain.message.support.SupportTicketResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketStatus;
 import com.example.imprint.domain.message.support.SupportsRequestDto;
+import com.example.imprint.domain.page.CursorDto;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.support.SupportTicketRepository;
 import com.example.imprint.repository.user.UserRepository;
 import com.example.imprint.service.user.UserService;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -23,9 +36,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SupportsService {
 
+    // 첫 페이지 조회 위치 (모든 문의보다 최근)
+    private static final LocalDateTime FAR_FUTURE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final MessageRepository messageRepository;
+    private final SupportTicketRepository supportTicketRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SupportTicketSync supportTicketSync;
 
     // 사용자가 관리자에게 문의 메시지를 전송합니다.
     @Transactional
@@ -63,19 +82,28 @@ public class SupportsService {
 
         // 4. 메시지 저장
         MessageEntity savedMessage = messageRepository.save(message);
+        eventPublisher.publishEvent(MessageEvent.Sent.from(savedMessage));
+
+        // 5. 문의 등록 (관리자 문의함/내 문의 목록은 문의 테이블에서 조회)
+        SupportTicketEntity ticket = supportTicketRepository.save(SupportTicketEntity.builder()
+                .requester(sender)
+                .message(savedMessage)
+                .build());
+        eventPublisher.publishEvent(new SupportTicketEvent.Opened(ticket.getId()));
 
-        log.info("문의 메시지 저장 완료 - 메시지 ID: {}", savedMessage.getId());
+        log.info("문의 메시지 저장 완료 - 메시지 ID: {}, 문의 ID: {}", savedMessage.getId(), ticket.getId());
 
-        // 5. DTO 변환 및 반환
+        // 6. DTO 변환 및 반환
         return MessageResponseDto.from(savedMessage);
     }
 
     // 관리자가 사용자에게 답변 메시지를 전송합니다.
-
+    // ticketId 가 없으면 해당 사용자의 가장 최근 답변 대기 문의에 대한 답변으로 처리합니다.
     @Transactional
     public MessageResponseDto sendAdminReply(
             @NotNull Long adminUserId,
             @NotNull Long receiverUserId,
+            Long ticketId,
             @NotNull String content) {
 
         log.info("관리자 답변 전송 시작 - 관리자 ID: {}, 수신자 ID: {}",
@@ -120,78 +148,129 @@ public class SupportsService {
 
         // 5. 답변 메시지 저장
         MessageEntity savedReply = messageRepository.save(replyMessage);
+        eventPublisher.publishEvent(MessageEvent.Sent.from(savedReply));
+
+        // 6. 문의 상태를 답변 완료로 변경
+        findTicketToAnswer(receiverUserId, ticketId).ifPresent(ticket -> {
+            if (ticket.getStatus() == SupportTicketStatus.OPEN) {
+                eventPublisher.publishEvent(new SupportTicketEvent.Resolved(ticket.getId()));
+            }
+            ticket.answer(admin);
+        });
 
         log.info("관리자 답변 저장 완료 - 메시지 ID: {}", savedReply.getId());
 
-        // 6. DTO 변환 및 반환
+        // 7. DTO 변환 및 반환
         return MessageResponseDto.from(savedReply);
     }
 
-    // 사용자가 본인이 보낸 문의 목록을 조회합니다.
-    public List<MessageResponseDto> getMySupportMessages(@NotNull Long userId) {
-        log.info("내 문의 목록 조회 시작 - 사용자 ID: {}", userId);
+    // 사용자가 본인이 보낸 문의 목록을 조회합니다. (최근 활동순 커서 조회)
+    public SupportTicketCursorResponseDto getMySupportMessages(@NotNull Long userId, String cursor, int size) {
+        CursorDto position = decodeCursor(cursor);
 
-        // 1. 사용자 조회
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                   log.error("사용자를 찾을 수 없습니다 - ID: {}", userId);
-                   return new IllegalArgumentException("사용자를 찾을 수 없습니다.");
-                });
+        List<SupportTicketEntity> tickets = supportTicketRepository.findByRequester(
+                userId, position.createdAt(), position.id(), PageRequest.of(0, size + 1));
 
-        log.debug("사용자 조회 성공 - 사용자명: {}", user.getNickname());
+        log.debug("내 문의 목록 조회 - 사용자 ID: {}, 조회 수: {}", userId, tickets.size());
 
-        // 2. 사용자가 보낸 메시지 조회(삭제하지 않은 것만)
-        List<MessageEntity> messages = messageRepository
-                .findAllBySenderAndDeletedBySenderFalseOrderByCreatedAtDesc(user);
+        return toPage(tickets, size);
+    }
 
-        log.debug("조회된 메시지 수: {}", messages.size());
+    // 관리자가 전체 문의 목록을 조회합니다. (status 가 없으면 모든 상태, 최근 활동순 커서 조회)
+    public SupportTicketCursorResponseDto getAllSupportMessages(SupportTicketStatus status, String cursor, int size) {
+        UserEntity admin = getCurrentAdmin("관리자만 문의 목록을 조회할 수 있습니다.");
+        CursorDto position = decodeCursor(cursor);
 
-        // 3. 관리자에게 보낸 메시지만 필터링 및 DTO 변환
-        List<MessageResponseDto> result = messages.stream()
-                .filter(msg -> "ADMIN".equals(msg.getReceiver().getRole()))
-                .map(MessageResponseDto::from)
-                .collect(Collectors.toList());
+        List<SupportTicketEntity> tickets = status == null
+                ? supportTicketRepository.findAdminInbox(position.createdAt(), position.id(), PageRequest.of(0, size + 1))
+                : supportTicketRepository.findAdminInboxByStatus(status, position.createdAt(), position.id(), PageRequest.of(0, size + 1));
 
-        log.info("내 문의 목록 조회 완료 - 결과 수: {}", result.size());
+        log.debug("전체 문의 목록 조회 - 관리자명: {}, 상태: {}, 조회 수: {}", admin.getNickname(), status, tickets.size());
 
-        return result;
+        return toPage(tickets, size);
     }
 
-    // 관리자가 전체 문의 목록을 조회합니다.
-    public List<MessageResponseDto> getAllSupportMessages() {
+    // 관리자가 문의를 처리 완료로 변경합니다.
+    @Transactional
+    public void closeTicket(@NotNull Long ticketId) {
+        getCurrentAdmin("관리자만 문의를 처리할 수 있습니다.");
+
+        SupportTicketEntity ticket = supportTicketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("문의를 찾을 수 없습니다."));
+
+        if (ticket.getStatus() == SupportTicketStatus.OPEN) {
+            eventPublisher.publishEvent(new SupportTicketEvent.Resolved(ticket.getId()));
+        }
+        ticket.close();
+        log.info("문의 처리 완료 - 문의 ID: {}", ticketId);
+    }
+
+    // 문의 테이블이 생기기 전에 관리자에게 보낸 쪽지를 문의로 옮긴다 (처음 한 번만)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTickets() {
+        if (supportTicketRepository.count() > 0) {
+            return;
+        }
+
+        int backfilled = supportTicketRepository.backfillFromMessages(UserRole.ADMIN.getValue());
+        if (backfilled > 0) {
+            log.info("기존 문의 쪽지 {}건을 문의로 옮겼습니다.", backfilled);
+        }
+    }
+
+    private UserEntity getCurrentAdmin(String deniedMessage) {
         Long adminUserId = userService.getCurrentUser().getId();
-        log.info("전체 문의 목록 조회 시작 - 관리자 ID: {}", adminUserId);
 
-        // 1. 관리자 조회
         UserEntity admin = userRepository.findById(adminUserId)
                 .orElseThrow(() -> {
                     log.error("관리자를 찾을 수 없습니다 - ID: {}", adminUserId);
                     return new IllegalArgumentException("관리자를 찾을 수 없습니다.");
                 });
 
-        // 2. 관리자 권한 검증
         if(!UserRole.ADMIN.equals(admin.getRole())) {
             log.error("관리자 권한 없음 - 사용자 ID: {}, Role: {}",
                     adminUserId, admin.getRole());
-            throw new IllegalArgumentException("관리자만 문의 목록을 조회할 수 있습니다.");
+            throw new IllegalArgumentException(deniedMessage);
         }
 
-        log.debug("관리자 권한 검증 완료 - 관리자명: {}", admin.getNickname());
+        return admin;
+    }
+
+    private Optional<SupportTicketEntity> findTicketToAnswer(Long requesterId, Long ticketId) {
+        if (ticketId == null) {
+            return supportTicketRepository.findFirstByRequesterIdAndStatusOrderByLastActivityAtDescIdDesc(
+                    requesterId, SupportTicketStatus.OPEN);
+        }
+
+        SupportTicketEntity ticket = supportTicketRepository.findById(ticketId)
+                .orElseThrow(() -> new IllegalArgumentException("문의를 찾을 수 없습니다."));
 
-        // 3. 관리자가 받은 메시지 조회 (삭제하지 않은 것만)
-        List<MessageEntity> messages = messageRepository
-                .findAllByReceiverAndDeletedByReceiverFalseOrderByCreatedAtDesc(admin);
+        if (!ticket.getRequester().getId().equals(requesterId)) {
+            throw new IllegalArgumentException("답변 받을 사용자가 문의한 사용자와 다릅니다.");
+        }
+        return Optional.of(ticket);
+    }
 
-        log.debug("조회된 전체 문의 수: {}", messages.size());
+    private static CursorDto decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return CursorDto.next(FAR_FUTURE, Long.MAX_VALUE);
+        }
+        return CursorDto.decode(cursor);
+    }
 
-        // 4. DTO 리스트로 변환
-        List<MessageResponseDto> result = messages.stream()
-                .map(MessageResponseDto::from)
-                .collect(Collectors.toList());
+    // size 개보다 많이 조회됐으면 다음 페이지가 있다
+    private static SupportTicketCursorResponseDto toPage(List<SupportTicketEntity> tickets, int size) {
+        boolean hasNext = tickets.size() > size;
+        List<SupportTicketEntity> page = hasNext ? tickets.subList(0, size) : tickets;
 
-        log.info("전체 문의 목록 조회 완료 - 결과 수: {}", result.size());
+        String nextCursor = null;
+        if (hasNext) {
+            SupportTicketEntity last = page.getLast();
+            nextCursor = CursorDto.next(last.getLastActivityAt(), last.getId()).encode();
+        }
 
-        return result;
+        return new SupportTicketCursorResponseDto(page.stream().map(SupportTicketResponseDto::from).toList(), nextCursor);
     }
 
     // 메시지를 읽음 상태로 변경합니다.
@@ -214,7 +293,10 @@ public class SupportsService {
         }
 
         // 3. 읽음 상태로 변경
-        message.read();
+        if (!message.isRead()) {
+            message.read();
+            eventPublisher.publishEvent(new MessageEvent.Read(message.getId(), message.getReceiver().getEmail()));
+        }
 
         log.info("메시지 읽음 처리 완료 - 메시지 ID: {}", messageId);
     }
@@ -237,11 +319,17 @@ public class SupportsService {
         if(message.getSender().getId().equals(userId)) {
             //발신자가 삭제
             message.deleteBySender();
+            supportTicketSync.deletedBySender(messageId);
             log.info("발신자가 메시지 삭제 - 메시지 ID: {}, 발신자 ID: {}",
                     messageId, userId);
         } else if(message.getReceiver().getId().equals(userId)) {
             // 수신자가 삭제
-            message.deleteByReceiver();
+            if (!message.isDeletedByReceiver()) {
+                message.deleteByReceiver();
+                eventPublisher.publishEvent(new MessageEvent.DeletedByReceiver(
+                        message.getId(), message.getReceiver().getEmail(), !message.isRead()));
+            }
+            supportTicketSync.deletedByReceiver(messageId);
             log.info("수신자가 메시지 삭제 - 메시지 ID: {}, 수신자 ID: {}",
                     messageId, userId);
         } else {
@@ -0,0 +1,128 @@
+package com.example.imprint.service.message.broadcast;
+
+import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.broadcast.BroadcastEvent;
+import com.example.imprint.domain.message.broadcast.BroadcastMessageEntity;
+import com.example.imprint.domain.message.broadcast.BroadcastReceiptEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.repository.message.broadcast.BroadcastMessageRepository;
+import com.example.imprint.repository.message.broadcast.BroadcastReceiptRepository;
+import com.example.imprint.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 전체 공지 쪽지
+// - 보낼 때는 공지 한 건만 저장한다. (회원 수와 상관없이 INSERT 한 번)
+// - 읽음/삭제 상태는 읽거나 지운 사용자에게만 receipt 를 만든다.
+// - 공지는 가입한 뒤에 보낸 것만 받은 것으로 본다. (가입 전 공지는 쪽지함/안 읽은 수에 없고 읽거나 지울 수도 없음)
+// - receipt 는 조회 후 없으면 만드므로, 같은 사용자의 읽기/삭제는 사용자 행을 잠가서 한 번에 하나씩 처리한다.
+//   (동시에 둘 다 없다고 보고 INSERT 하면 유니크 제약 위반으로 요청이 실패함)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BroadcastService {
+
+    private final BroadcastMessageRepository broadcastMessageRepository;
+    private final BroadcastReceiptRepository broadcastReceiptRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 전체 공지 보내기 (관리자)
+    @Transactional
+    public Long send(String adminEmail, String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("공지 내용을 입력해주세요.");
+        }
+
+        UserEntity admin = userRepository.findByEmail(adminEmail)
+                .orElseThrow(() -> new IllegalArgumentException("보낸 사람 정보를 찾을 수 없습니다."));
+
+        if (admin.getRole() != UserRole.ADMIN) {
+            throw new AccessDeniedException("관리자만 전체 공지를 보낼 수 있습니다.");
+        }
+
+        BroadcastMessageEntity broadcast = broadcastMessageRepository.save(BroadcastMessageEntity.builder()
+                .content(content)
+                .sender(admin)
+                .build());
+
+        eventPublisher.publishEvent(new BroadcastEvent.Sent(broadcast.getId(), admin.getNickname()));
+
+        log.info("전체 공지를 보냈습니다. (id: {})", broadcast.getId());
+        return broadcast.getId();
+    }
+
+    // 전체 공지 읽기 (처음 읽으면 읽음 상태를 남긴다)
+    @Transactional
+    public MessageResponseDto read(Long broadcastId, String email) {
+        BroadcastMessageEntity broadcast = findBroadcast(broadcastId);
+        UserEntity user = lockUser(email);
+        checkReceived(broadcast, user);
+
+        BroadcastReceiptEntity receipt = broadcastReceiptRepository.findByBroadcastIdAndUserId(broadcastId, user.getId())
+                .orElse(null);
+
+        if (receipt != null && receipt.isDeleted()) {
+            throw new IllegalArgumentException("쪽지를 찾을 수 없습니다.");
+        }
+
+        if (receipt == null) {
+            receipt = broadcastReceiptRepository.save(new BroadcastReceiptEntity(broadcast, user));
+        }
+
+        if (!receipt.isRead()) {
+            receipt.read();
+            eventPublisher.publishEvent(new BroadcastEvent.Read(broadcastId, email));
+        }
+
+        return MessageResponseDto.builder()
+                .id(broadcast.getId())
+                .content(broadcast.getContent())
+                .senderNickname(broadcast.getSender().getNickname())
+                .receiverNickname(user.getNickname())
+                .isRead(true)
+                .createdAt(broadcast.getCreatedAt())
+                .readAt(receipt.getReadAt())
+                .broadcast(true)
+                .build();
+    }
+
+    // 전체 공지 삭제 (내 받은 쪽지함에서만 사라짐)
+    @Transactional
+    public void delete(Long broadcastId, String email) {
+        BroadcastMessageEntity broadcast = findBroadcast(broadcastId);
+        UserEntity user = lockUser(email);
+        checkReceived(broadcast, user);
+
+        BroadcastReceiptEntity receipt = broadcastReceiptRepository.findByBroadcastIdAndUserId(broadcastId, user.getId())
+                .orElseGet(() -> broadcastReceiptRepository.save(new BroadcastReceiptEntity(broadcast, user)));
+
+        if (!receipt.isDeleted()) {
+            receipt.delete();
+            eventPublisher.publishEvent(new BroadcastEvent.Deleted(broadcastId, email, !receipt.isRead()));
+        }
+    }
+
+    private BroadcastMessageEntity findBroadcast(Long broadcastId) {
+        return broadcastMessageRepository.findById(broadcastId)
+                .orElseThrow(() -> new IllegalArgumentException("쪽지를 찾을 수 없습니다."));
+    }
+
+    private static void checkReceived(BroadcastMessageEntity broadcast, UserEntity user) {
+        if (broadcast.getCreatedAt().isBefore(user.getCreatedAt())) {
+            throw new IllegalArgumentException("쪽지를 찾을 수 없습니다.");
+        }
+    }
+
+    // receipt 조회/생성 전에 사용자 행을 잠근다 (같은 사용자의 다른 요청은 커밋될 때까지 기다렸다가 만들어진 receipt 를 본다)
+    private UserEntity lockUser(String email) {
+        return userRepository.findByEmailForUpdate(email)
+                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
+    }
+}
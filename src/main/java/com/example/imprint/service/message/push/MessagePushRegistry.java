@@ -0,0 +1,222 @@
+package com.example.imprint.service.message.push;
+
+import com.example.imprint.domain.message.MessageEvent;
+import com.example.imprint.domain.message.MessageNotificationDto;
+import com.example.imprint.domain.message.broadcast.BroadcastEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 새 쪽지/전체 공지 알림을 SSE 로 보내는 구독자 목록 (사용자 이메일별)
+// - 구독 요청은 SseEmitter 를 돌려주고 바로 끝나므로, 연결을 유지하는 동안 요청 스레드를 잡지 않는다.
+// - 보낼 알림이 생겼을 때만 가상 스레드가 구독자의 대기열을 비운다. (대기 중인 구독자는 스레드를 쓰지 않음)
+// - 대기열이 queueCapacity 를 넘는 느린 구독자는 연결을 끊는다. (EventSource 가 다시 연결하면서 목록을 새로 조회)
+// - heartbeatInterval 마다 주석 이벤트를 보내서 프록시가 연결을 끊지 않게 하고, 끊어진 연결을 정리한다.
+@Slf4j
+@Component
+public class MessagePushRegistry {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final Map<String, List<Subscriber>> subscribersByEmail = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Duration timeout;
+    private final int queueCapacity;
+    private final int maxPerUser;
+    private final int maxSubscribers;
+    private final Duration retry;
+
+    public MessagePushRegistry(@Value("${imprint.message.push.timeout:PT30M}") Duration timeout,
+                               @Value("${imprint.message.push.queue-capacity:64}") int queueCapacity,
+                               @Value("${imprint.message.push.max-per-user:5}") int maxPerUser,
+                               @Value("${imprint.message.push.max-subscribers:50000}") int maxSubscribers,
+                               @Value("${imprint.message.push.retry:PT30S}") Duration retry) {
+        this.timeout = timeout;
+        this.queueCapacity = queueCapacity;
+        this.maxPerUser = maxPerUser;
+        this.maxSubscribers = maxSubscribers;
+        this.retry = retry;
+    }
+
+    public SseEmitter subscribe(String email) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        // 전체 구독자 수를 넘으면 재연결 간격만 알려주고 바로 닫는다
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            try {
+                emitter.send(SseEmitter.event().reconnectTime(retry.toMillis()).comment("busy"));
+            } catch (IOException e) {
+                // 연결 종료
+            }
+            emitter.complete();
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(email, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 마지막 구독자가 빠지면서 목록이 지워지는 것과 겹치지 않도록 compute 안에서 추가한다
+        List<Subscriber> subscribers = subscribersByEmail.compute(email, (key, current) -> {
+            List<Subscriber> list = (current == null) ? new CopyOnWriteArrayList<>() : current;
+            list.add(subscriber);
+            return list;
+        });
+
+        // 한 사용자가 탭을 많이 열면 오래된 연결부터 닫는다
+        while (subscribers.size() > maxPerUser) {
+            subscribers.getFirst().close();
+        }
+
+        // 연결 직후 한 번 보내서 응답 헤더를 내려보낸다
+        subscriber.offer(SseEmitter.event().reconnectTime(retry.toMillis()).comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageSent(MessageEvent.Sent event) {
+        List<Subscriber> subscribers = subscribersByEmail.get(event.receiverEmail());
+        if (subscribers == null) {
+            return;
+        }
+
+        MessageNotificationDto notification = MessageNotificationDto.from(event);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event()
+                    .id(String.valueOf(event.messageId()))
+                    .name("message")
+                    .data(notification));
+        }
+    }
+
+    // 전체 공지는 연결된 모든 구독자에게 보낸다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBroadcastSent(BroadcastEvent.Sent event) {
+        MessageNotificationDto notification = new MessageNotificationDto(event.broadcastId(), event.senderNickname());
+        subscribersByEmail.values().forEach(subscribers -> subscribers.forEach(subscriber ->
+                subscriber.offer(SseEmitter.event()
+                        .name("broadcast")
+                        .data(notification))));
+    }
+
+    @Scheduled(fixedDelayString = "${imprint.message.push.heartbeat-interval:PT25S}",
+            initialDelayString = "${imprint.message.push.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        subscribersByEmail.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment(HEARTBEAT))));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByEmail.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        sender.shutdownNow();
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.markRemoved()) {
+            return;
+        }
+
+        subscriberCount.decrementAndGet();
+        subscribersByEmail.computeIfPresent(subscriber.email, (email, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    // 연결 하나: 보낼 이벤트 대기열과 대기열을 비우는 중인지 여부
+    private final class Subscriber {
+
+        private final String email;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean removed;
+
+        private Subscriber(String email, SseEmitter emitter) {
+            this.email = email;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            synchronized (this) {
+                if (removed) {
+                    return;
+                }
+
+                if (queue.size() >= queueCapacity) {
+                    log.debug("SSE 구독자가 알림을 따라오지 못해 연결을 끊습니다. (email: {})", email);
+                    close();
+                    return;
+                }
+
+                queue.add(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            sender.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                SseEmitter.SseEventBuilder event;
+                synchronized (this) {
+                    event = queue.poll();
+                    if (event == null || removed) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 연결을 끊음
+                    close();
+                }
+            }
+        }
+
+        void close() {
+            remove(this);
+            emitter.complete();
+        }
+
+        synchronized boolean markRemoved() {
+            if (removed) {
+                return false;
+            }
+
+            removed = true;
+            queue.clear();
+            return true;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.imprint.service.message.report;
 
 import com.example.imprint.domain.message.report.ReportEntity;
+import com.example.imprint.domain.message.report.ReportEvent;
 import com.example.imprint.domain.message.report.ReportRequestDto;
 import com.example.imprint.domain.message.report.ReportResponseDto;
 import com.example.imprint.domain.user.UserEntity;
@@ -8,6 +9,7 @@ import com.example.imprint.repository.message.report.ReportRepository;
 import com.example.imprint.repository.user.UserRepository;
 import com.example.imprint.service.user.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 신고 접수
     @Transactional
@@ -41,6 +44,7 @@ public class ReportService {
                 .build();
 
         reportRepository.save(report);
+        eventPublisher.publishEvent(new ReportEvent.Submitted(report.getId()));
     }
 
     // 관리자용 전체 목록 조회
@@ -58,7 +62,10 @@ public class ReportService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 신고 내역을 찾을 수 없습니다."));
 
         // 문의함(supports)과 똑같이 관리자가 확인하면 상태 변경!
-        report.markAsRead();
+        if (!report.isRead()) {
+            report.markAsRead();
+            eventPublisher.publishEvent(new ReportEvent.Read(report.getId()));
+        }
 
         return new ReportResponseDto(report);
     }
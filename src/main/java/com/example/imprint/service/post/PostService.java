@@ -18,4 +18,5 @@ public interface PostService {
     PostDto.pagedResponse searchPosts(String keyword, int page, int size);
     List<PostDto.Response> getPostList(Long boardId);
     Page<PostDto.Response> getPostList(Long boardId, Pageable pageable);
+    PostDto.cursorResponse getPostList(Long boardId, String cursor, int size);
 }
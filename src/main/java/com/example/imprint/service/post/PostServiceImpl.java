@@ -1,29 +1,42 @@
 package com.example.imprint.service.post;
 
 import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.page.CursorDto;
 import com.example.imprint.domain.page.PaginationDto;
 import com.example.imprint.domain.post.PostDto;
 import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.post.PostEvent;
 import com.example.imprint.domain.post.PostMapper;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.repository.board.BoardRepository;
 import com.example.imprint.repository.post.PostRepository;
-import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.security.user.CurrentUserResolver;
 import com.example.imprint.service.board.BoardService;
-import com.example.imprint.service.user.UserService;
+import com.example.imprint.service.counter.EntityCounter;
+import com.example.imprint.service.post.cache.PostDetailCache;
+import com.example.imprint.service.post.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,22 +45,19 @@ import java.util.List;
 public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final BoardRepository boardRepository;
-    private final UserRepository userRepository;
-    private final UserService userService;
+    private final CurrentUserResolver currentUserResolver;
     private final BoardService boardService;
+    private final PostSearchIndex postSearchIndex;
+    private final EntityCounter entityCounter;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public Long write(Long boardId, PostDto.Write dto) {
         log.info("게시물 생성을 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new IllegalArgumentException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
-        if (!userService.isActive(user.getId())) {
-            throw new AccessDeniedException("계정이 비활성 상태입니다.");
-        }
+        UserEntity user = currentUserResolver.getActiveUser();
 
         BoardEntity board = boardRepository.findById(boardId).orElseThrow(
                 () -> new IllegalArgumentException("게시판을 찾을 수 없습니다. (id = " + boardId + ")")
@@ -65,6 +75,9 @@ public class PostServiceImpl implements PostService {
         log.info("게시판에 게시글 생성을 시도합니다.\n{}", post);
 
         board.addPost(post);
+        postRepository.save(post);
+
+        eventPublisher.publishEvent(PostEvent.Created.from(post));
 
         log.info("게시판에 게시글을 생성했습니다.");
 
@@ -76,16 +89,9 @@ public class PostServiceImpl implements PostService {
     public Long update(Long postId, PostDto.Update dto) {
         log.info("게시물 수정을 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new IllegalArgumentException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getActiveUser();
         Long userId = user.getId();
 
-        if (!userService.isActive(userId)) {
-            throw new AccessDeniedException("계정이 비활성 상태입니다.");
-        }
-
         PostEntity post = postRepository.findById(postId).orElseThrow(
                 () -> new IllegalArgumentException("게시물을 찾을 수 없습니다. (id = " + postId + ")")
         );
@@ -98,6 +104,8 @@ public class PostServiceImpl implements PostService {
 
         post.update(dto.title(), dto.content());
 
+        eventPublisher.publishEvent(PostEvent.Updated.from(post));
+
         log.info("게시물을 수정했습니다.");
 
         return post.getId();
@@ -108,16 +116,9 @@ public class PostServiceImpl implements PostService {
     public Long update(Long boardId, Long postId, PostDto.Update dto) {
         log.info("게시물 수정을 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new IllegalArgumentException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getActiveUser();
         Long userId = user.getId();
 
-        if (!userService.isActive(userId)) {
-            throw new AccessDeniedException("계정이 비활성 상태입니다.");
-        }
-
         PostEntity post = postRepository.findById(postId).orElseThrow(
                 () -> new RuntimeException("게시물을 찾을 수 없습니다. (id = " + postId + ")")
         );
@@ -134,6 +135,8 @@ public class PostServiceImpl implements PostService {
 
         post.update(dto.title(), dto.content());
 
+        eventPublisher.publishEvent(PostEvent.Updated.from(post));
+
         log.info("게시물을 수정했습니다.");
 
         return post.getId();
@@ -144,10 +147,7 @@ public class PostServiceImpl implements PostService {
     public void delete(Long id) {
         log.info("게시물 삭제를 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new IllegalArgumentException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getUser();
         Long userId = user.getId();
 
         PostEntity post = postRepository.findById(id).orElseThrow(
@@ -162,6 +162,8 @@ public class PostServiceImpl implements PostService {
 
         postRepository.delete(post);
 
+        eventPublisher.publishEvent(new PostEvent.Deleted(post.getId(), post.getBoard().getId()));
+
         log.info("게시물을 삭제했습니다.");
     }
 
@@ -170,10 +172,7 @@ public class PostServiceImpl implements PostService {
     public void delete(Long boardId, Long postId) {
         log.info("게시물 삭제를 시도합니다.");
 
-        UserEntity user = userRepository.findById(userService.getCurrentUser().getId()).orElseThrow(
-                () -> new IllegalArgumentException("이스터에그를 찾으셨습니다! (있을 수 없는 오류 404)")
-        );
-
+        UserEntity user = currentUserResolver.getUser();
         Long userId = user.getId();
 
         PostEntity post = postRepository.findById(postId).orElseThrow(
@@ -192,37 +191,38 @@ public class PostServiceImpl implements PostService {
 
         postRepository.delete(post);
 
+        eventPublisher.publishEvent(new PostEvent.Deleted(post.getId(), post.getBoard().getId()));
+
         log.info("게시물을 삭제했습니다.");
     }
 
+    // 캐시에 있으면 트랜잭션/커넥션 없이 바로 반환
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PostDto.Response get(Long id) {
         log.info("게시물 조회를 시도합니다.");
 
-        PostEntity post = postRepository.findById(id).orElseThrow(
-                () -> new IllegalArgumentException("게시물을 찾을 수 없습니다. (id = " + id + ")")
-        );
+        PostDto.Response post = getDetail(id);
 
         log.info("게시물을 조회했습니다.\n{}", post);
 
-        return PostMapper.fromEntityToDto(post);
+        return post;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PostDto.Response get(Long boardId, Long postId) {
         log.info("게시물 조회를 시도합니다.");
 
-        PostEntity post = postRepository.findById(postId).orElseThrow(
-                () -> new IllegalArgumentException("게시물을 찾을 수 없습니다. (id = " + postId + ")")
-        );
+        PostDto.Response post = getDetail(postId);
 
-        if (!post.getBoard().getId().equals(boardId)) {
+        if (!boardId.equals(post.boardId())) {
             throw new IllegalArgumentException("게시판에서 게시물을 찾을 수 없습니다. (boardId = " + boardId + ", postId = " + postId + ")");
         }
 
         log.info("게시물을 조회했습니다.\n{}", post);
 
-        return PostMapper.fromEntityToDto(post);
+        return post;
     }
 
     @Override
@@ -243,11 +243,69 @@ public class PostServiceImpl implements PostService {
     public Page<PostDto.Response> getPostList(Long boardId, Pageable pageable) {
         log.info("게시물 목록 조회를 시도합니다.");
 
-        Page<PostEntity> postEntityPage = postRepository.findByBoardId(boardId, pageable);
+        // 페이지 내용만 조회하고 전체 개수는 캐시된 값 사용 (count 쿼리 생략)
+        Slice<PostDto.Response> postDtoSlice = postRepository.findResponseSliceByBoardId(boardId, pageable);
+        long totalElements = entityCounter.countPosts(boardId);
 
         log.info("게시물 목록을 조회했습니다. (page = {})", pageable.getPageNumber());
 
-        return postEntityPage.map(PostMapper::fromEntityToDto);
+        return new PageImpl<>(postDtoSlice.getContent(), pageable, totalElements);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostDto.cursorResponse getPostList(Long boardId, String cursor, int size) {
+        log.info("게시물 목록 커서 조회를 시도합니다.");
+
+        // 다음/이전 페이지 존재 여부를 알기 위해 한 건 더 조회 (count 쿼리 대신)
+        Pageable limit = PageRequest.of(0, size + 1);
+        CursorDto position = (cursor == null || cursor.isBlank()) ? null : CursorDto.decode(cursor);
+
+        List<PostDto.Response> posts;
+        boolean hasNext;
+        boolean hasPrev;
+
+        if (position == null) {
+            posts = new ArrayList<>(postRepository.findLatestByBoardId(boardId, limit));
+            hasNext = posts.size() > size;
+            hasPrev = false;
+        } else if (position.direction() == CursorDto.Direction.NEXT) {
+            posts = new ArrayList<>(postRepository.findOlderByBoardId(boardId, position.createdAt(), position.id(), limit));
+            hasNext = posts.size() > size;
+            hasPrev = true;
+        } else {
+            posts = new ArrayList<>(postRepository.findNewerByBoardId(boardId, position.createdAt(), position.id(), limit));
+            hasPrev = posts.size() > size;
+            hasNext = true;
+        }
+
+        if (posts.size() > size) {
+            posts.remove(posts.size() - 1);
+        }
+
+        // 이전 페이지는 오래된 순으로 조회되므로 최신순으로 되돌린다
+        if (position != null && position.direction() == CursorDto.Direction.PREV) {
+            Collections.reverse(posts);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+
+        if (!posts.isEmpty()) {
+            PostDto.Response first = posts.get(0);
+            PostDto.Response last = posts.get(posts.size() - 1);
+
+            if (hasNext) {
+                nextCursor = CursorDto.next(last.createdAt(), last.id()).encode();
+            }
+            if (hasPrev) {
+                prevCursor = CursorDto.prev(first.createdAt(), first.id()).encode();
+            }
+        }
+
+        log.info("게시물 목록을 커서로 조회했습니다. (size = {})", posts.size());
+
+        return new PostDto.cursorResponse(posts, nextCursor, prevCursor);
     }
 
     @Override
@@ -256,21 +314,41 @@ public class PostServiceImpl implements PostService {
         // 페이징 설정 (Spring Data JPA는 0페이지부터 시작하므로 page - 1)
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        // 검색 쿼리 실행
-        Page<PostEntity> postPage = postRepository.searchAllByKeyword(keyword, pageable);
+        // 검색 색인에서 해당 페이지의 게시물 id 만 순위대로 가져옴 (DB 전체 스캔 없음)
+        PostSearchIndex.SearchResult result = postSearchIndex.search(keyword, (int) pageable.getOffset(), size);
 
-        // Entity -> Dto 변환
-        List<PostDto.Response> postList = postPage.getContent().stream()
-                .map(PostMapper::fromEntityToDto)
+        // 해당 페이지의 게시물만 기본키로 조회 후 검색 순위대로 정렬
+        Map<Long, PostDto.Response> postMap = result.postIds().isEmpty()
+                ? Map.of()
+                : postRepository.findResponsesByIdIn(result.postIds()).stream()
+                        .collect(Collectors.toMap(PostDto.Response::id, Function.identity()));
+
+        List<PostDto.Response> postList = result.postIds().stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
                 .toList();
 
         // 페이지네이션 정보 생성
-        PaginationDto pagination = PaginationDto.of(
-                postPage.getPageable(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+        PaginationDto pagination = PaginationDto.of(pageable, result.totalHits());
 
         return new PostDto.pagedResponse(postList, pagination);
     }
-}
\ No newline at end of file
+
+    // 상세 캐시를 먼저 보고, 없으면 DB 에서 응답 DTO 로 바로 조회해 캐시에 넣는다
+    private PostDto.Response getDetail(Long postId) {
+        Optional<PostDto.Response> cached = postDetailCache.get(postId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long loadSequence = postDetailCache.beginLoad();
+
+        PostDto.Response post = postRepository.findResponseById(postId).orElseThrow(
+                () -> new IllegalArgumentException("게시물을 찾을 수 없습니다. (id = " + postId + ")")
+        );
+
+        postDetailCache.put(postId, post, loadSequence);
+
+        return post;
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.imprint.service.post.cache;
+
+import com.example.imprint.domain.post.PostDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 게시물 상세 조회 캐시 (postId -> PostDto.Response)
+// - 최대 개수를 넘으면 가장 오래 조회되지 않은 게시물부터 내보내고(LRU), TTL 이 지난 항목은 조회 시 버린다.
+// - 수정/삭제 이벤트로 무효화되며, 무효화와 겹친 DB 조회 결과는 캐시에 넣지 않는다.
+@Component
+public class PostDetailCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // accessOrder = true: 조회할 때마다 맨 뒤로 이동하므로 맨 앞이 가장 오래 안 쓰인 항목
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 무효화가 일어날 때마다 증가 (조회 시작 시점 값과 다르면 조회 결과를 버림)
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public record Stats(
+            int size,
+            int maxSize,
+            long ttlSeconds,
+            long hits,
+            long misses,
+            double hitRate,
+            long evictions,
+            long expirations,
+            long invalidations) {}
+
+    private record Entry(
+            PostDto.Response value,
+            long expiresAt) {}
+
+    @Autowired
+    public PostDetailCache(@Value("${imprint.cache.post-detail.max-size:1000}") int maxSize,
+                           @Value("${imprint.cache.post-detail.ttl:PT5M}") Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    PostDetailCache(int maxSize, Duration ttl, Clock clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 최대 개수는 1 이상이어야 합니다.");
+        }
+
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public Optional<PostDto.Response> get(Long postId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(postId);
+
+            if (entry == null) {
+                misses.increment();
+                return Optional.empty();
+            }
+
+            if (entry.expiresAt() <= clock.millis()) {
+                entries.remove(postId);
+                expirations.increment();
+                misses.increment();
+                return Optional.empty();
+            }
+
+            hits.increment();
+            return Optional.of(entry.value());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // DB 조회 전에 호출해 두고, 조회 결과를 넣을 때 그대로 넘긴다
+    public long beginLoad() {
+        return invalidationSequence.get();
+    }
+
+    public void put(Long postId, PostDto.Response value, long loadSequence) {
+        lock.lock();
+        try {
+            // 조회하는 동안 무효화가 있었다면 이미 오래된 값일 수 있으므로 넣지 않는다
+            if (invalidationSequence.get() != loadSequence) {
+                return;
+            }
+
+            entries.put(postId, new Entry(value, clock.millis() + ttlMillis));
+
+            Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(Long postId) {
+        lock.lock();
+        try {
+            invalidationSequence.incrementAndGet();
+            if (entries.remove(postId) != null) {
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll(Collection<Long> postIds) {
+        lock.lock();
+        try {
+            invalidationSequence.incrementAndGet();
+            for (Long postId : postIds) {
+                if (entries.remove(postId) != null) {
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        return new Stats(
+                size,
+                maxSize,
+                ttlMillis / 1000,
+                hitCount,
+                missCount,
+                requests == 0 ? 0.0 : (double) hitCount / requests,
+                evictions.sum(),
+                expirations.sum(),
+                invalidations.sum()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.imprint.service.post.cache;
+
+import com.example.imprint.domain.board.BoardEvent;
+import com.example.imprint.domain.post.PostEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시물이 수정/삭제되거나 게시판이 삭제되면 커밋 이후 상세 캐시에서 제거
+@Component
+@RequiredArgsConstructor
+public class PostDetailCacheInvalidator {
+
+    private final PostDetailCache postDetailCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostEvent.Updated event) {
+        postDetailCache.invalidate(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostEvent.Deleted event) {
+        postDetailCache.invalidate(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardEvent.Deleted event) {
+        postDetailCache.invalidateAll(event.postIds());
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.imprint.service.post.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+
+// 게시물 통합 검색용 인메모리 역색인 (제목 + 내용 + 작성자 닉네임)
+// - 용어(term)별 posting list(게시물 id -> 출현 빈도)를 유지하고 BM25 로 순위를 매긴다.
+// - 검색어의 모든 토큰을 포함한 게시물만 결과로 반환한다 (LIKE %keyword% 와 같은 AND 의미).
+@Component
+public class PostSearchIndex {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 제목에 등장한 용어는 본문보다 가중치를 높게 준다
+    private static final int TITLE_BOOST = 2;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // term -> (postId -> term frequency)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    private final Map<Long, Set<Long>> postIdsByWriter = new HashMap<>();
+    private long totalLength = 0;
+
+    public record SearchResult(
+            List<Long> postIds,
+            long totalHits) {}
+
+    private record IndexedPost(
+            Long postId,
+            Long writerId,
+            LocalDateTime createdAt,
+            Map<String, Integer> bodyTerms,
+            Map<String, Integer> nicknameTerms,
+            int length) {}
+
+    private record ScoredPost(
+            Long postId,
+            double score,
+            LocalDateTime createdAt) {}
+
+    // 게시물 색인 (이미 색인된 게시물이면 교체)
+    public void index(Long postId, Long writerId, String writerNickname,
+                      String title, String content, LocalDateTime createdAt) {
+        Map<String, Integer> bodyTerms = new HashMap<>();
+        PostSearchTokenizer.tokenizeForIndex(title).forEach(term -> bodyTerms.merge(term, TITLE_BOOST, Integer::sum));
+        PostSearchTokenizer.tokenizeForIndex(content).forEach(term -> bodyTerms.merge(term, 1, Integer::sum));
+
+        Map<String, Integer> nicknameTerms = countTerms(writerNickname);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            addInternal(new IndexedPost(postId, writerId, createdAt, bodyTerms, nicknameTerms,
+                    sum(bodyTerms) + sum(nicknameTerms)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        lock.writeLock().lock();
+        try {
+            postIds.forEach(this::removeInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 작성자 닉네임이 바뀌면 해당 작성자의 게시물들의 닉네임 용어만 교체한다
+    public void updateWriterNickname(Long writerId, String nickname) {
+        Map<String, Integer> nicknameTerms = countTerms(nickname);
+
+        lock.writeLock().lock();
+        try {
+            Set<Long> postIds = postIdsByWriter.getOrDefault(writerId, Collections.emptySet());
+
+            for (Long postId : new ArrayList<>(postIds)) {
+                IndexedPost post = documents.get(postId);
+                removeInternal(postId);
+                addInternal(new IndexedPost(post.postId(), post.writerId(), post.createdAt(), post.bodyTerms(),
+                        nicknameTerms, sum(post.bodyTerms()) + sum(nicknameTerms)));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            postIdsByWriter.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // BM25 점수 내림차순(동점이면 최신순)으로 offset 부터 limit 개의 게시물 id 를 반환한다
+    public SearchResult search(String keyword, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(PostSearchTokenizer.tokenizeForQuery(keyword));
+
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> postingLists = new ArrayList<>();
+
+            for (String term : queryTerms) {
+                Map<Long, Integer> postingList = postings.get(term);
+                if (postingList == null) {
+                    return new SearchResult(Collections.emptyList(), 0);
+                }
+                postingLists.add(postingList);
+            }
+
+            // 가장 짧은 posting list 를 기준으로 교집합을 구한다
+            postingLists.sort(Comparator.comparingInt(Map::size));
+
+            double avgLength = documents.isEmpty() ? 1.0 : (double) totalLength / documents.size();
+            Comparator<ScoredPost> ranking = Comparator.comparingDouble(ScoredPost::score)
+                    .thenComparing(ScoredPost::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+                    .thenComparing(ScoredPost::postId);
+
+            // 상위 (offset + limit)개만 유지하는 최소 힙
+            int topK = offset + limit;
+            PriorityQueue<ScoredPost> heap = new PriorityQueue<>(ranking);
+            long totalHits = 0;
+
+            candidates:
+            for (Long postId : postingLists.get(0).keySet()) {
+                for (int i = 1; i < postingLists.size(); i++) {
+                    if (!postingLists.get(i).containsKey(postId)) {
+                        continue candidates;
+                    }
+                }
+
+                totalHits++;
+
+                IndexedPost post = documents.get(postId);
+                double score = 0;
+
+                for (Map<Long, Integer> postingList : postingLists) {
+                    int tf = postingList.get(postId);
+                    double idf = Math.log(1 + (documents.size() - postingList.size() + 0.5) / (postingList.size() + 0.5));
+                    score += idf * (tf * (K1 + 1)) / (tf + K1 * (1 - B + B * post.length() / avgLength));
+                }
+
+                heap.offer(new ScoredPost(postId, score, post.createdAt()));
+                if (heap.size() > topK) {
+                    heap.poll();
+                }
+            }
+
+            List<ScoredPost> ranked = new ArrayList<>(heap);
+            ranked.sort(ranking.reversed());
+
+            List<Long> postIds = ranked.stream()
+                    .skip(offset)
+                    .map(ScoredPost::postId)
+                    .toList();
+
+            return new SearchResult(postIds, totalHits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(IndexedPost post) {
+        documents.put(post.postId(), post);
+        postIdsByWriter.computeIfAbsent(post.writerId(), key -> new HashSet<>()).add(post.postId());
+        totalLength += post.length();
+
+        forEachTerm(post, (term, tf) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).merge(post.postId(), tf, Integer::sum));
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedPost post = documents.remove(postId);
+
+        if (post == null) {
+            return;
+        }
+
+        totalLength -= post.length();
+
+        Set<Long> writerPosts = postIdsByWriter.get(post.writerId());
+        if (writerPosts != null) {
+            writerPosts.remove(postId);
+            if (writerPosts.isEmpty()) {
+                postIdsByWriter.remove(post.writerId());
+            }
+        }
+
+        forEachTerm(post, (term, tf) -> {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(postId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+    }
+
+    private void forEachTerm(IndexedPost post, BiConsumer<String, Integer> consumer) {
+        Map<String, Integer> terms = new HashMap<>(post.bodyTerms());
+        post.nicknameTerms().forEach((term, tf) -> terms.merge(term, tf, Integer::sum));
+        terms.forEach(consumer);
+    }
+
+    private static Map<String, Integer> countTerms(String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        PostSearchTokenizer.tokenizeForIndex(text).forEach(term -> terms.merge(term, 1, Integer::sum));
+        return terms;
+    }
+
+    private static int sum(Map<String, Integer> terms) {
+        return terms.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.imprint.service.post.search;
+
+import com.example.imprint.domain.board.BoardEvent;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.domain.user.UserEvent;
+import com.example.imprint.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 검색 색인을 DB 와 동기화
+// - 애플리케이션 시작 시 전체 게시물을 id 순으로 나눠 읽어 색인을 구성한다.
+// - 이후에는 게시물/게시판/사용자 변경 이벤트를 커밋 이후에 반영한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexSynchronizer {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("게시물 검색 색인 구성을 시작합니다.");
+
+        long startedAt = System.currentTimeMillis();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        postSearchIndex.clear();
+
+        long lastId = 0L;
+        while (true) {
+            long cursor = lastId;
+            List<PostEntity> batch = readOnly.execute(status -> {
+                List<PostEntity> posts = postRepository.findIndexBatch(cursor, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                posts.forEach(post -> postSearchIndex.index(post.getId(), post.getWriter().getId(),
+                        post.getWriter().getNickname(), post.getTitle(), post.getContent(), post.getCreatedAt()));
+                return posts;
+            });
+
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        log.info("게시물 검색 색인 구성을 완료했습니다. (documents = {}, {}ms)",
+                postSearchIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostEvent.Created event) {
+        postSearchIndex.index(event.postId(), event.writerId(), event.writerNickname(),
+                event.title(), event.content(), event.createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostsIngested(PostEvent.Ingested event) {
+        event.posts().forEach(this::onPostCreated);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostEvent.Updated event) {
+        postSearchIndex.index(event.postId(), event.writerId(), event.writerNickname(),
+                event.title(), event.content(), event.createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostEvent.Deleted event) {
+        postSearchIndex.remove(event.postId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardDeleted(BoardEvent.Deleted event) {
+        postSearchIndex.removeAll(event.postIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNicknameChanged(UserEvent.NicknameChanged event) {
+        postSearchIndex.updateWriterNickname(event.userId(), event.nickname());
+    }
+}
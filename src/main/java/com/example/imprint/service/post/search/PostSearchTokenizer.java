@@ -0,0 +1,95 @@
+package com.example.imprint.service.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 색인용 토크나이저
+// - 한글(및 한자/가나)은 띄어쓰기와 조사에 상관없이 찾을 수 있도록 음절 단위 n-gram 으로 자른다.
+// - 영문/숫자는 소문자 단어 단위로 자르고, 색인할 때는 앞부분(2글자 이상)도 함께 넣어 앞부분만으로 찾을 수 있게 한다.
+//   (예전 LIKE 검색처럼 "spr" 로 "spring" 을 찾을 수 있음, 단어 중간 "ring" 으로는 찾지 않음)
+public final class PostSearchTokenizer {
+
+    // 영문/숫자 단어의 앞부분 토큰 길이 (한 글자 앞부분은 너무 흔해서 넣지 않음)
+    private static final int MIN_PREFIX = 2;
+    private static final int MAX_PREFIX = 20;
+
+    private PostSearchTokenizer() {
+    }
+
+    // 색인용: 한글 구간은 unigram + bigram 을 모두 만든다 (한 글자 검색어도 찾을 수 있도록)
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+
+    // 검색어용: 한글 구간은 bigram 만 사용하고, 한 글자 구간만 unigram 으로 검색한다
+    public static List<String> tokenizeForQuery(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (isCjk(c)) {
+                int start = i;
+                while (i < length && isCjk(text.charAt(i))) {
+                    i++;
+                }
+                addNgrams(text.substring(start, i), forIndex, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isCjk(text.charAt(i))) {
+                    i++;
+                }
+                addWord(text.substring(start, i).toLowerCase(Locale.ROOT), forIndex, tokens);
+            } else {
+                i++;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addWord(String word, boolean forIndex, List<String> tokens) {
+        if (forIndex) {
+            for (int length = MIN_PREFIX; length < Math.min(word.length(), MAX_PREFIX + 1); length++) {
+                tokens.add(word.substring(0, length));
+            }
+        }
+        tokens.add(word);
+    }
+
+    private static void addNgrams(String run, boolean forIndex, List<String> tokens) {
+        if (run.length() == 1) {
+            tokens.add(run);
+            return;
+        }
+
+        for (int i = 0; i < run.length(); i++) {
+            if (forIndex) {
+                tokens.add(run.substring(i, i + 1));
+            }
+            if (i + 1 < run.length()) {
+                tokens.add(run.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.imprint.service.retention;
+
+import com.example.imprint.repository.message.MessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보낸 사람과 받는 사람이 모두 삭제해서 더 이상 아무에게도 보이지 않는 쪽지
+// 마지막으로 삭제된 뒤 retention 이 지나야 지운다 (신고/문의 확인용 유예 기간)
+@Component
+public class DeletedMessageRetentionPolicy implements RetentionPolicy {
+
+    private final MessageRepository messageRepository;
+    private final Duration retention;
+
+    public DeletedMessageRetentionPolicy(MessageRepository messageRepository,
+                                         @Value("${imprint.retention.deleted-message:P30D}") Duration retention) {
+        this.messageRepository = messageRepository;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "deleted-message";
+    }
+
+    @Override
+    public List<Long> findBatch(Long afterId, LocalDateTime now, int batchSize) {
+        return messageRepository.findDeletedByBothIds(now.minus(retention), afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int purge(List<Long> ids, LocalDateTime now) {
+        return messageRepository.deleteDeletedByBothByIdIn(ids, now.minus(retention));
+    }
+}
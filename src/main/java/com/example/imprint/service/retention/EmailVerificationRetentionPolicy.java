@@ -0,0 +1,39 @@
+package com.example.imprint.service.retention;
+
+import com.example.imprint.repository.user.EmailVerificationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 만료되고 retention 이 지난 인증번호 (jpa 인증 저장소를 쓸 때 쌓이는 행)
+@Component
+public class EmailVerificationRetentionPolicy implements RetentionPolicy {
+
+    private final EmailVerificationRepository verificationRepository;
+    private final Duration retention;
+
+    public EmailVerificationRetentionPolicy(EmailVerificationRepository verificationRepository,
+                                            @Value("${imprint.retention.email-verification:P1D}") Duration retention) {
+        this.verificationRepository = verificationRepository;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "email-verification";
+    }
+
+    @Override
+    public List<Long> findBatch(Long afterId, LocalDateTime now, int batchSize) {
+        return verificationRepository.findExpiredIds(now.minus(retention), afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int purge(List<Long> ids, LocalDateTime now) {
+        return verificationRepository.deleteByIdIn(ids);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.imprint.service.retention;
+
+import com.example.imprint.domain.mail.MailOutboxStatus;
+import com.example.imprint.repository.mail.MailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 발송을 마쳤거나 포기하고 retention 이 지난 메일 대기열 행
+@Component
+public class MailOutboxRetentionPolicy implements RetentionPolicy {
+
+    private static final List<MailOutboxStatus> FINISHED = List.of(MailOutboxStatus.SENT, MailOutboxStatus.FAILED);
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final Duration retention;
+
+    public MailOutboxRetentionPolicy(MailOutboxRepository mailOutboxRepository,
+                                     @Value("${imprint.retention.mail-outbox:P7D}") Duration retention) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "mail-outbox";
+    }
+
+    @Override
+    public List<Long> findBatch(Long afterId, LocalDateTime now, int batchSize) {
+        return mailOutboxRepository.findFinishedIds(FINISHED, now.minus(retention), afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int purge(List<Long> ids, LocalDateTime now) {
+        return mailOutboxRepository.deleteByIdIn(ids);
+    }
+}
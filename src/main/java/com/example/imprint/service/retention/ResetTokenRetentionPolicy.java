@@ -0,0 +1,32 @@
+package com.example.imprint.service.retention;
+
+import com.example.imprint.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 만료된 비밀번호 재설정 토큰 (회원은 그대로 두고 토큰 컬럼만 비움)
+@Component
+@RequiredArgsConstructor
+public class ResetTokenRetentionPolicy implements RetentionPolicy {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public String name() {
+        return "reset-token";
+    }
+
+    @Override
+    public List<Long> findBatch(Long afterId, LocalDateTime now, int batchSize) {
+        return userRepository.findExpiredResetTokenIds(now, afterId, PageRequest.of(0, batchSize));
+    }
+
+    @Override
+    public int purge(List<Long> ids, LocalDateTime now) {
+        return userRepository.clearResetTokens(ids, now);
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.imprint.service.retention;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 보관 기한이 지난 행을 정책(RetentionPolicy)별로 정리
+// - batchSize 개씩 id 순으로 찾아서 정리하고, 묶음마다 트랜잭션을 새로 연다. (긴 잠금 없음)
+// - 묶음 사이에 batchPause 만큼 쉬고, 정책 하나에 maxDuration 을 넘기면 다음 실행으로 넘긴다.
+// - 마지막 실행 결과(정리한 행 수, 걸린 시간)는 관리자 모니터링 API 로 볼 수 있다.
+// - 관리자가 요청한 실행은 백그라운드에서 돌고, 한 번에 하나만 실행된다.
+@Slf4j
+@Component
+public class RetentionEngine {
+
+    private final List<RetentionPolicy> policies;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Duration maxDuration;
+
+    // 실행 중 표시 (백그라운드 실행은 시작한 스레드와 끝내는 스레드가 달라서 잠금 대신 사용)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile List<Report> lastReports = List.of();
+
+    public record Report(
+            String policy,
+            LocalDateTime startedAt,
+            long purged,
+            int batches,
+            long elapsedMillis,
+            boolean completed) {}
+
+    public RetentionEngine(List<RetentionPolicy> policies,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${imprint.retention.batch-size:500}") int batchSize,
+                           @Value("${imprint.retention.batch-pause:PT0.05S}") Duration batchPause,
+                           @Value("${imprint.retention.max-duration:PT1M}") Duration maxDuration) {
+        this.policies = policies;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxDuration = maxDuration;
+    }
+
+    @Scheduled(cron = "${imprint.retention.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        try {
+            run();
+        } catch (IllegalStateException e) {
+            log.info("보관 기한 정리가 이미 실행 중이라 건너뜁니다.");
+        }
+    }
+
+    public List<Report> run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("보관 기한 정리가 이미 실행 중입니다.");
+        }
+
+        try {
+            return runPolicies();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 백그라운드에서 실행하고 바로 돌아간다 (이미 실행 중이면 false, 결과는 lastReports 로 확인)
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Thread.ofVirtual().name("retention").start(() -> {
+            try {
+                runPolicies();
+            } catch (RuntimeException e) {
+                log.warn("보관 기한 정리 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public List<Report> lastReports() {
+        return lastReports;
+    }
+
+    private List<Report> runPolicies() {
+        List<Report> reports = new ArrayList<>();
+        for (RetentionPolicy policy : policies) {
+            reports.add(run(policy));
+        }
+
+        lastReports = List.copyOf(reports);
+        return lastReports;
+    }
+
+    private Report run(RetentionPolicy policy) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startedNanos = System.nanoTime();
+        long deadline = startedNanos + maxDuration.toNanos();
+
+        long purged = 0;
+        int batches = 0;
+        boolean completed = false;
+        Long afterId = 0L;
+
+        try {
+            while (System.nanoTime() < deadline) {
+                Long cursor = afterId;
+                Batch batch = transactionTemplate.execute(status -> {
+                    List<Long> ids = policy.findBatch(cursor, startedAt, batchSize);
+                    if (ids.isEmpty()) {
+                        return new Batch(null, 0, 0);
+                    }
+
+                    return new Batch(ids.getLast(), policy.purge(ids, startedAt), ids.size());
+                });
+
+                if (batch.found() > 0) {
+                    batches++;
+                    purged += batch.purged();
+                    afterId = batch.lastId();
+                }
+
+                if (batch.found() < batchSize) {
+                    completed = true;
+                    break;
+                }
+
+                Thread.sleep(batchPause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("보관 기한 정리 실패 (정책: {}, 마지막 id: {})", policy.name(), afterId, e);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedNanos) / 1_000_000;
+        log.info("보관 기한 정리: {} {}건 ({}개 묶음, {}ms{})",
+                policy.name(), purged, batches, elapsedMillis, completed ? "" : ", 끝까지 정리하지 못함");
+
+        return new Report(policy.name(), startedAt, purged, batches, elapsedMillis, completed);
+    }
+
+    private record Batch(Long lastId, int purged, int found) {}
+}
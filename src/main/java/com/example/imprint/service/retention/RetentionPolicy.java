@@ -0,0 +1,17 @@
+package com.example.imprint.service.retention;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보관 기한 정리 정책 (테이블 하나의 정리 대상과 정리 방법)
+// - RetentionEngine 이 afterId 를 넘겨 가며 id 순으로 조금씩 훑는다. (키셋 순회, 큰 범위 잠금 없음)
+public interface RetentionPolicy {
+
+    String name();
+
+    // afterId 보다 큰 정리 대상 id 를 오름차순으로 최대 batchSize 개
+    List<Long> findBatch(Long afterId, LocalDateTime now, int batchSize);
+
+    // 찾은 id 들을 정리하고 실제로 정리된 행 수 반환 (조회 이후 상태가 바뀐 행은 건너뜀)
+    int purge(List<Long> ids, LocalDateTime now);
+}
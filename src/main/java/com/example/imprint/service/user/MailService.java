@@ -1,10 +1,11 @@
 package com.example.imprint.service.user;
 
-import com.example.imprint.domain.user.EmailVerification;
-import com.example.imprint.repository.user.EmailVerificationRepository;
+import com.example.imprint.domain.mail.MailEvent;
+import com.example.imprint.domain.mail.MailOutboxEntity;
+import com.example.imprint.repository.mail.MailOutboxRepository;
+import com.example.imprint.service.user.verification.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,56 +16,27 @@ import java.util.Random;
 @RequiredArgsConstructor
 public class MailService {
 
-    private final JavaMailSender mailSender;
-    private final EmailVerificationRepository verificationRepository;
+    private final VerificationCodeStore verificationCodeStore;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 인증 정보와 발송할 메일을 한 트랜잭션으로 저장하고 바로 반환한다
+    // (실제 발송은 커밋 이후 MailOutboxWorker 가 처리하므로 SMTP 를 기다리지 않음)
     @Transactional
     public void sendCodeToEmail(String email) {
         String cleanEmail = email.trim().replace("\"", "");
 
-        // 중복 요청 제한 확인 (최근 1분 이내 기록 확인)
-        verificationRepository.findTopByEmailOrderByCreatedAtDesc(cleanEmail)
-                .ifPresent(existing -> {
-                    if (existing.getCreatedAt().isAfter(LocalDateTime.now().minusMinutes(1))) {
-                        throw new IllegalArgumentException("1분 이내에 이미 인증번호를 요청했습니다. 잠시 후 다시 시도해주세요.");
-                    }
-                });
-
         String authCode = createCode();
 
-        // 이메일 발송 (발송 실패 시 DB 저장이 되지 않도록 먼저 수행 권장)
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(cleanEmail);
-        message.setFrom("ImPrint");
-        message.setSubject("[Imprint] 회원가입 인증번호입니다.");
-        message.setText("인증번호: " + authCode + "\n5분 이내에 입력해주세요.");
-
-        mailSender.send(message);
-
-        // 인증 정보 저장 (기존 데이터가 있다면 삭제 후 저장하거나 업데이트)
-        // 여기서는 깔끔하게 새로 저장하되, 나중에 UserService 가입 완료 시점에 일괄 삭제를 권장합니다.
-        EmailVerification verification = EmailVerification.builder()
-                .email(cleanEmail)
-                .authCode(authCode)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .build();
+        enqueue(cleanEmail, "[Imprint] 회원가입 인증번호입니다.", "인증번호: " + authCode + "\n5분 이내에 입력해주세요.");
 
-        verificationRepository.save(verification);
+        // 인증 정보 저장 (같은 이메일로 1분 이내에 다시 요청하면 거부되고 위의 메일도 롤백됨)
+        // 커밋에 실패하면 메일과 함께 요청 기록도 롤백된다 (메모리 저장소는 롤백 시 직접 되돌림)
+        verificationCodeStore.issue(cleanEmail, authCode, LocalDateTime.now().plusMinutes(5));
     }
 
-    @Transactional
     public boolean verifyCode(String email, String code) {
-        EmailVerification verification = verificationRepository.findTopByEmailOrderByCreatedAtDesc(email)
-                .orElseThrow(() -> new IllegalArgumentException("인증 요청 기록이 없습니다."));
-
-        if (verification.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("인증 시간이 만료되었습니다.");
-        }
-        if (!verification.getAuthCode().equals(code)) {
-            throw new IllegalArgumentException("인증번호가 일치하지 않습니다.");
-        }
-
-        verification.verify();
+        verificationCodeStore.verify(email, code);
         return true;
     }
 
@@ -72,13 +44,19 @@ public class MailService {
         return String.valueOf(new Random().nextInt(899999) + 100000);
     }
 
+    // 호출한 쪽 트랜잭션과 함께 커밋되고, 커밋 이후 발송된다
+    @Transactional
     public void sendEmail(String to, String subject, String text) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to.trim().replace("\"", "")); // 이메일 따옴표 및 공백 제거
-        message.setFrom("ImPrint");
-        message.setSubject(subject);
-        message.setText(text);
+        enqueue(to.trim().replace("\"", ""), subject, text); // 이메일 따옴표 및 공백 제거
+    }
+
+    private void enqueue(String to, String subject, String text) {
+        MailOutboxEntity mail = mailOutboxRepository.save(MailOutboxEntity.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(text)
+                .build());
 
-        mailSender.send(message);
+        eventPublisher.publishEvent(new MailEvent.Enqueued(mail.getId()));
     }
-}
\ No newline at end of file
+}
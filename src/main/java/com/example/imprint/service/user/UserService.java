@@ -1,13 +1,12 @@
 package com.example.imprint.service.user;
 
 import com.example.imprint.domain.user.*;
-import com.example.imprint.repository.user.EmailVerificationRepository;
 import com.example.imprint.repository.user.UserRepository;
-import com.example.imprint.security.user.CustomUserDetails;
+import com.example.imprint.security.user.CurrentUserResolver;
+import com.example.imprint.service.admin.AdminBootstrap;
+import com.example.imprint.service.user.verification.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,9 +18,12 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final EmailVerificationRepository verificationRepository;
+    private final VerificationCodeStore verificationCodeStore;
     private final BCryptPasswordEncoder passwordEncoder;
     private final MailService mailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CurrentUserResolver currentUserResolver;
+    private final AdminBootstrap adminBootstrap;
 
     @Transactional
     public void registerUser(UserSignupRequestDto request) {
@@ -33,18 +35,15 @@ public class UserService {
             throw new IllegalArgumentException("이미 사용중인 닉네임입니다.");
         }
 
-        boolean isVerified = verificationRepository.existsByEmailAndIsVerifiedTrue(request.getEmail());
+        boolean isVerified = verificationCodeStore.isVerified(request.getEmail());
         if (!isVerified) {
             throw new IllegalArgumentException("이메일 인증이 완료되지 않았습니다.");
         }
 
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
-        // 현재 DB에 저장된 전체 유저 수를 카운트
-        long userCount = userRepository.count();
-
-        // 유저가 0명이면 ADMIN, 1명이라도 있으면 USER 직급 부여
-        UserRole assignedRole = (userCount == 0) ? UserRole.ADMIN : UserRole.USER;
+        // 첫 가입자면 ADMIN, 아니면 USER 직급 부여 (전체 유저 수를 세지 않고 system_settings 의 값으로 판단)
+        UserRole assignedRole = adminBootstrap.claim() ? UserRole.ADMIN : UserRole.USER;
 
         UserEntity user = UserEntity.builder()
                 .email(request.getEmail())
@@ -56,20 +55,12 @@ public class UserService {
 
         user.activate();
         userRepository.save(user);
+
+        eventPublisher.publishEvent(new UserEvent.Registered(user.getId()));
     }
 
     public UserResponseDto getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
-            throw new AccessDeniedException("로그인이 필요합니다.");
-        }
-
-        UserEntity user = userRepository.findById(((CustomUserDetails) authentication.getPrincipal()).getUser().getId()).orElseThrow(
-                () -> new IllegalArgumentException("흐음")
-        );
-
-        return UserResponseDto.fromEntity(user);
+        return UserResponseDto.fromEntity(currentUserResolver.getUser());
     }
 
     @Transactional
@@ -149,7 +140,10 @@ public class UserService {
         }
 
         // 상태를 DELETED로 변경 (Soft Delete)
+        UserStatus previousStatus = user.getStatus();
         user.delete();
+
+        eventPublisher.publishEvent(new UserEvent.StatusChanged(user.getId(), previousStatus, UserStatus.DELETED));
     }
 
     // 정보 수정(이름, 별명)
@@ -165,7 +159,14 @@ public class UserService {
             }
         }
 
+        boolean nicknameChanged = !user.getNickname().equals(request.getNickname());
+
         // 엔티티 값 변경 (Dirty Checking으로 자동 UPDATE 됨)
         user.updateProfile(request.getNickname(), request.getName());
+
+        // 닉네임이 바뀌면 검색 색인의 작성자 닉네임도 갱신
+        if (nicknameChanged) {
+            eventPublisher.publishEvent(new UserEvent.NicknameChanged(user.getId(), user.getNickname()));
+        }
     }
 }
\ No newline at end of file
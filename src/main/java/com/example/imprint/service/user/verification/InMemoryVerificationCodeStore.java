@@ -0,0 +1,135 @@
+package com.example.imprint.service.user.verification;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 메모리 인증번호 저장소 (이메일당 최근 요청 1건만 보관)
+// - 인증 전: 만료 후 5분 동안 더 보관 (그 사이에 인증하면 '만료' 안내), 재요청 제한(1분)보다 일찍 지우지 않음
+// - 인증 후: verified-ttl 동안 보관 (그 안에 회원가입을 마쳐야 함)
+// - 보관 기한이 지난 항목은 타이밍 휠로 찾아서 지운다. (조회 시에도 기한을 확인하므로 지우기 전에도 보이지 않음)
+@Component
+@ConditionalOnProperty(name = "imprint.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    // 1초 칸 4096개 (약 68분 한 바퀴)
+    private static final long TICK_MILLIS = 1_000;
+    private static final int SLOT_COUNT = 4_096;
+
+    private static final Duration EXPIRED_RETENTION = Duration.ofMinutes(5);
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TimingWheel<String> expiryWheel;
+    private final Duration verifiedTtl;
+    private final Clock clock;
+
+    private record Entry(
+            String authCode,
+            long issuedAt,
+            long expiresAt,
+            boolean verified,
+            long retainUntil) {}
+
+    @Autowired
+    public InMemoryVerificationCodeStore(@Value("${imprint.verification.verified-ttl:PT30M}") Duration verifiedTtl) {
+        this(verifiedTtl, Clock.systemDefaultZone());
+    }
+
+    InMemoryVerificationCodeStore(Duration verifiedTtl, Clock clock) {
+        this.verifiedTtl = verifiedTtl;
+        this.clock = clock;
+        this.expiryWheel = new TimingWheel<>(TICK_MILLIS, SLOT_COUNT, clock.millis());
+    }
+
+    @Override
+    public void issue(String email, String authCode, LocalDateTime expiresAt) {
+        long now = clock.millis();
+        long expiresAtMillis = expiresAt.atZone(clock.getZone()).toInstant().toEpochMilli();
+
+        Entry[] previous = new Entry[1];
+        Entry issued = entries.compute(email, (key, existing) -> {
+            if (existing != null && existing.retainUntil() > now
+                    && existing.issuedAt() + VerificationPolicy.THROTTLE.toMillis() > now) {
+                throw new IllegalArgumentException(VerificationPolicy.THROTTLED);
+            }
+
+            previous[0] = existing;
+            return new Entry(authCode, now, expiresAtMillis, false,
+                    Math.max(expiresAtMillis + EXPIRED_RETENTION.toMillis(), now + VerificationPolicy.THROTTLE.toMillis()));
+        });
+
+        expiryWheel.schedule(email, issued.retainUntil());
+
+        // 요청 트랜잭션(인증 메일 저장)이 롤백되면 이번 요청 기록도 되돌린다
+        // (메일이 나가지 않았는데 1분 재요청 제한에 걸리지 않도록)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        rollback(email, issued, previous[0]);
+                    }
+                }
+            });
+        }
+    }
+
+    // 그 사이에 다른 요청이 기록을 바꿨으면 그대로 둔다
+    private void rollback(String email, Entry issued, Entry previous) {
+        Entry restored = entries.computeIfPresent(email, (key, current) -> current == issued ? previous : current);
+
+        if (restored != null) {
+            expiryWheel.schedule(email, restored.retainUntil());
+        }
+    }
+
+    @Override
+    public void verify(String email, String authCode) {
+        long now = clock.millis();
+
+        Entry verified = entries.compute(email, (key, existing) -> {
+            if (existing == null || existing.retainUntil() <= now) {
+                throw new IllegalArgumentException(VerificationPolicy.NOT_REQUESTED);
+            }
+            if (existing.expiresAt() < now) {
+                throw new IllegalArgumentException(VerificationPolicy.EXPIRED);
+            }
+            if (!existing.authCode().equals(authCode)) {
+                throw new IllegalArgumentException(VerificationPolicy.MISMATCH);
+            }
+
+            return new Entry(existing.authCode(), existing.issuedAt(), existing.expiresAt(), true,
+                    now + verifiedTtl.toMillis());
+        });
+
+        expiryWheel.schedule(email, verified.retainUntil());
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        Entry entry = entries.get(email);
+        return entry != null && entry.verified() && entry.retainUntil() > clock.millis();
+    }
+
+    @Scheduled(fixedDelayString = "${imprint.verification.sweep-interval:PT1S}")
+    public void sweep() {
+        long now = clock.millis();
+
+        // 휠에 남은 예전 등록일 수 있으므로 실제 보관 기한을 다시 확인하고 지운다
+        expiryWheel.advance(now, email ->
+                entries.computeIfPresent(email, (key, entry) -> entry.retainUntil() <= now ? null : entry));
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
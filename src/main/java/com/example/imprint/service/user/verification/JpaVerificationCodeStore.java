@@ -0,0 +1,59 @@
+package com.example.imprint.service.user.verification;
+
+import com.example.imprint.domain.user.EmailVerification;
+import com.example.imprint.repository.user.EmailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// EmailVerification 테이블을 쓰는 저장소 (여러 서버가 인증 상태를 공유해야 할 때)
+@Component
+@ConditionalOnProperty(name = "imprint.verification.store", havingValue = "jpa")
+@RequiredArgsConstructor
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository verificationRepository;
+
+    @Override
+    @Transactional
+    public void issue(String email, String authCode, LocalDateTime expiresAt) {
+        // 중복 요청 제한 확인 (최근 1분 이내 기록 확인)
+        verificationRepository.findTopByEmailOrderByCreatedAtDesc(email)
+                .ifPresent(existing -> {
+                    if (existing.getCreatedAt().isAfter(LocalDateTime.now().minus(VerificationPolicy.THROTTLE))) {
+                        throw new IllegalArgumentException(VerificationPolicy.THROTTLED);
+                    }
+                });
+
+        verificationRepository.save(EmailVerification.builder()
+                .email(email)
+                .authCode(authCode)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public void verify(String email, String authCode) {
+        EmailVerification verification = verificationRepository.findTopByEmailOrderByCreatedAtDesc(email)
+                .orElseThrow(() -> new IllegalArgumentException(VerificationPolicy.NOT_REQUESTED));
+
+        if (verification.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException(VerificationPolicy.EXPIRED);
+        }
+        if (!verification.getAuthCode().equals(authCode)) {
+            throw new IllegalArgumentException(VerificationPolicy.MISMATCH);
+        }
+
+        verification.verify();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String email) {
+        return verificationRepository.existsByEmailAndIsVerifiedTrue(email);
+    }
+}
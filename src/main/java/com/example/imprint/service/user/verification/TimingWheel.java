@@ -0,0 +1,74 @@
+package com.example.imprint.service.user.verification;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 만료 시각별로 키를 모아 두는 타이밍 휠
+// - 만료 시각을 tick 단위로 잘라 (tick % 칸 수) 칸에 넣고, advance 할 때 지나간 칸만 훑는다.
+// - 휠 한 바퀴보다 먼 만료 시각은 같은 칸에 남아 있다가 해당 바퀴가 되었을 때 처리된다.
+// - 같은 키를 다시 등록해도 이전 등록을 지우지 않으므로, 만료 콜백에서 실제로 만료되었는지 다시 확인해야 한다.
+final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final List<Map<K, Long>> slots;
+
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis < 1 || slotCount < 1) {
+            throw new IllegalArgumentException("tick 과 칸 수는 1 이상이어야 합니다.");
+        }
+
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new HashMap<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    synchronized void schedule(K key, long deadlineMillis) {
+        // 올림: 만료 시각보다 일찍 꺼내지 않는다
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+
+        slot(deadlineTick).merge(key, deadlineTick, Math::max);
+    }
+
+    // nowMillis 까지 지나간 칸에서 만료된 키를 꺼내 콜백에 넘긴다 (콜백은 잠금 밖에서 호출)
+    void advance(long nowMillis, Consumer<K> onExpired) {
+        List<K> expired = new ArrayList<>();
+
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            long steps = Math.min(targetTick - currentTick, slots.size());
+
+            for (long step = 1; step <= steps; step++) {
+                Iterator<Map.Entry<K, Long>> iterator = slot(currentTick + step).entrySet().iterator();
+
+                while (iterator.hasNext()) {
+                    Map.Entry<K, Long> entry = iterator.next();
+                    if (entry.getValue() <= targetTick) {
+                        expired.add(entry.getKey());
+                        iterator.remove();
+                    }
+                }
+            }
+
+            currentTick = Math.max(currentTick, targetTick);
+        }
+
+        expired.forEach(onExpired);
+    }
+
+    synchronized int size() {
+        return slots.stream().mapToInt(Map::size).sum();
+    }
+
+    private Map<K, Long> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+}
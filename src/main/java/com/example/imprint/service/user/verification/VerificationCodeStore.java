@@ -0,0 +1,17 @@
+package com.example.imprint.service.user.verification;
+
+import java.time.LocalDateTime;
+
+// 이메일 인증번호 저장소
+// - imprint.verification.store=memory (기본): 만료 시 자동으로 지워지는 메모리 저장소 (재시작하면 진행 중인 인증은 사라짐)
+// - imprint.verification.store=jpa: EmailVerification 테이블에 저장
+public interface VerificationCodeStore {
+
+    // 같은 이메일로 1분 안에 다시 요청하면 IllegalArgumentException
+    void issue(String email, String authCode, LocalDateTime expiresAt);
+
+    // 요청 기록이 없거나, 만료되었거나, 번호가 다르면 IllegalArgumentException
+    void verify(String email, String authCode);
+
+    boolean isVerified(String email);
+}
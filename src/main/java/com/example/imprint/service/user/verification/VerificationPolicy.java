@@ -0,0 +1,18 @@
+package com.example.imprint.service.user.verification;
+
+import java.time.Duration;
+
+// 저장소 구현들이 같이 쓰는 제한 시간과 오류 메시지
+final class VerificationPolicy {
+
+    // 같은 이메일로 다시 요청할 수 있기까지의 시간
+    static final Duration THROTTLE = Duration.ofMinutes(1);
+
+    static final String THROTTLED = "1분 이내에 이미 인증번호를 요청했습니다. 잠시 후 다시 시도해주세요.";
+    static final String NOT_REQUESTED = "인증 요청 기록이 없습니다.";
+    static final String EXPIRED = "인증 시간이 만료되었습니다.";
+    static final String MISMATCH = "인증번호가 일치하지 않습니다.";
+
+    private VerificationPolicy() {
+    }
+}
@@ -0,0 +1,37 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+// 게시물/댓글 id 를 IDENTITY 에서 시퀀스로 바꾼다 (JDBC 배치 INSERT 용)
+// - 시퀀스는 지금 최대 id 다음부터 시작하고, Hibernate 가 한 번에 50개씩 받아 간다. (pooled-lo, allocationSize 와 같아야 함)
+// - id 없이 넣는 SQL (벤치마크 적재 등) 도 같은 시퀀스를 쓰도록 컬럼 기본값으로 건다.
+//   pooled-lo 는 받은 값부터 50개를 쓰므로 SQL 이 따로 받아 간 값과 겹치지 않는다.
+// - 시작 값이 기존 데이터에 따라 달라서 SQL 대신 Java 마이그레이션으로 작성했다.
+public class V3__post_comment_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : List.of("posts", "comments")) {
+                long start;
+                try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+                    result.next();
+                    start = result.getLong(1);
+                }
+
+                String sequence = table + "_seq";
+                statement.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence
+                        + " START WITH " + start + " INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT NEXT VALUE FOR " + sequence);
+            }
+        }
+    }
+}
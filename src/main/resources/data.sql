@@ -2,6 +2,6 @@
 INSERT INTO users (email, password, nickname, name, role, status)
 VALUES ('admin@imprint.com', 'admin123', 'MasterAdmin', '관리자', 2, 'ACTIVE');
 
--- 시스템 설정값
-INSERT INTO system_settings (id, total_storage_limit)
-VALUES (1, 10737418240);
\ No newline at end of file
+-- 시스템 설정값 (행은 V4 마이그레이션이 만든다, 관리자를 직접 넣었으므로 첫 가입자 관리자 부여는 끝난 것으로 기록)
+MERGE INTO system_settings (id, total_storage_limit, admin_bootstrapped) KEY (id)
+VALUES (1, 10737418240, TRUE);
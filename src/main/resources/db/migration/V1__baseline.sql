@@ -0,0 +1,173 @@
+-- 기준 스키마 (ddl-auto: update 로 만들어지던 테이블/인덱스)
+-- 이미 운영 중인 DB 에서도 그대로 실행되도록 IF NOT EXISTS 로 만든다.
+
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email        VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    nickname     VARCHAR(15)  NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    role         INTEGER      NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    reset_token  VARCHAR(100),
+    token_expiry TIMESTAMP(6),
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE IF NOT EXISTS email_verification (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email       VARCHAR(255) NOT NULL,
+    auth_code   VARCHAR(6)   NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    is_verified BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS boards (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_boards_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS board_managers (
+    board_id BIGINT NOT NULL,
+    user_id  BIGINT NOT NULL,
+    CONSTRAINT fk_board_managers_board FOREIGN KEY (board_id) REFERENCES boards (id),
+    CONSTRAINT fk_board_managers_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS posts (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    board_id   BIGINT,
+    writer_id  BIGINT      NOT NULL,
+    title      VARCHAR(80) NOT NULL,
+    content    TEXT        NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT fk_posts_board FOREIGN KEY (board_id) REFERENCES boards (id),
+    CONSTRAINT fk_posts_writer FOREIGN KEY (writer_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    post_id    BIGINT,
+    writer_id  BIGINT NOT NULL,
+    content    TEXT   NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_writer FOREIGN KEY (writer_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS messages (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content               TEXT    NOT NULL,
+    sender_id             BIGINT,
+    receiver_id           BIGINT,
+    is_read               BOOLEAN NOT NULL,
+    read_at               TIMESTAMP(6),
+    deleted_by_sender     BOOLEAN NOT NULL,
+    deleted_by_receiver   BOOLEAN NOT NULL,
+    is_stored_by_sender   BOOLEAN NOT NULL,
+    is_stored_by_receiver BOOLEAN NOT NULL,
+    created_at            TIMESTAMP(6),
+    updated_at            TIMESTAMP(6),
+    CONSTRAINT fk_messages_sender FOREIGN KEY (sender_id) REFERENCES users (id),
+    CONSTRAINT fk_messages_receiver FOREIGN KEY (receiver_id) REFERENCES users (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_messages_receiver_deleted_created_at ON messages (receiver_id, deleted_by_receiver, created_at);
+CREATE INDEX IF NOT EXISTS idx_messages_sender_deleted_created_at ON messages (sender_id, deleted_by_sender, created_at);
+
+CREATE TABLE IF NOT EXISTS broadcast_messages (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    TEXT   NOT NULL,
+    sender_id  BIGINT NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT fk_broadcast_messages_sender FOREIGN KEY (sender_id) REFERENCES users (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_broadcast_messages_created_at ON broadcast_messages (created_at);
+
+CREATE TABLE IF NOT EXISTS broadcast_receipts (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    broadcast_id BIGINT  NOT NULL,
+    user_id      BIGINT  NOT NULL,
+    read_at      TIMESTAMP(6),
+    deleted      BOOLEAN NOT NULL,
+    created_at   TIMESTAMP(6),
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT uk_broadcast_receipts_user_broadcast UNIQUE (user_id, broadcast_id),
+    CONSTRAINT fk_broadcast_receipts_broadcast FOREIGN KEY (broadcast_id) REFERENCES broadcast_messages (id),
+    CONSTRAINT fk_broadcast_receipts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS reports (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    target_id       BIGINT        NOT NULL,
+    report_category VARCHAR(255)  NOT NULL,
+    content         VARCHAR(1000),
+    reporter_id     BIGINT        NOT NULL,
+    is_read         BOOLEAN       NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT fk_reports_reporter FOREIGN KEY (reporter_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS support_tickets (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    requester_id         BIGINT       NOT NULL,
+    message_id           BIGINT       NOT NULL,
+    assignee_id          BIGINT,
+    status               VARCHAR(20)  NOT NULL,
+    last_activity_at     TIMESTAMP(6) NOT NULL,
+    deleted_by_requester BOOLEAN      NOT NULL,
+    deleted_by_admin     BOOLEAN      NOT NULL,
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6),
+    CONSTRAINT uk_support_tickets_message UNIQUE (message_id),
+    CONSTRAINT fk_support_tickets_requester FOREIGN KEY (requester_id) REFERENCES users (id),
+    CONSTRAINT fk_support_tickets_message FOREIGN KEY (message_id) REFERENCES messages (id),
+    CONSTRAINT fk_support_tickets_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_support_tickets_admin_last_activity ON support_tickets (deleted_by_admin, last_activity_at, id);
+CREATE INDEX IF NOT EXISTS idx_support_tickets_status_last_activity ON support_tickets (status, deleted_by_admin, last_activity_at, id);
+CREATE INDEX IF NOT EXISTS idx_support_tickets_requester_last_activity ON support_tickets (requester_id, deleted_by_requester, last_activity_at, id);
+
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    last_error      VARCHAR(500),
+    sent_at         TIMESTAMP(6),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_mail_outbox_status_next_attempt_at ON mail_outbox (status, next_attempt_at);
+
+CREATE TABLE IF NOT EXISTS daily_stats (
+    stat_date             DATE   NOT NULL PRIMARY KEY,
+    signup_count          BIGINT NOT NULL,
+    post_count            BIGINT NOT NULL,
+    comment_count         BIGINT NOT NULL,
+    report_count          BIGINT NOT NULL,
+    support_count         BIGINT NOT NULL,
+    total_user_count      BIGINT NOT NULL,
+    active_user_count     BIGINT NOT NULL,
+    banned_user_count     BIGINT NOT NULL,
+    pending_report_count  BIGINT NOT NULL,
+    pending_support_count BIGINT NOT NULL
+);
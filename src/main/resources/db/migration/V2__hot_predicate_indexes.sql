@@ -0,0 +1,25 @@
+-- 리포지토리 조회 조건(가입일/작성일, 게시판, 게시물, 상태, 읽음 여부)에 쓰는 보조 인덱스
+-- 엔티티의 @Index 선언과 이름/컬럼을 맞춘다.
+
+-- 대시보드 오늘 가입/작성/신고/문의 수 (countByCreatedAtAfter)
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at);
+CREATE INDEX IF NOT EXISTS idx_posts_created_at ON posts (created_at);
+CREATE INDEX IF NOT EXISTS idx_comments_created_at ON comments (created_at);
+CREATE INDEX IF NOT EXISTS idx_reports_created_at ON reports (created_at);
+CREATE INDEX IF NOT EXISTS idx_support_tickets_created_at ON support_tickets (created_at);
+
+-- 게시물별 댓글 목록 (작성순) / 댓글 수
+CREATE INDEX IF NOT EXISTS idx_comments_post_created_at_id ON comments (post_id, created_at, id);
+
+-- 회원 상태/권한별 조회, 비밀번호 재설정 토큰 조회와 만료 토큰 정리
+CREATE INDEX IF NOT EXISTS idx_users_status ON users (status);
+CREATE INDEX IF NOT EXISTS idx_users_role ON users (role);
+CREATE INDEX IF NOT EXISTS idx_users_reset_token ON users (reset_token);
+CREATE INDEX IF NOT EXISTS idx_users_token_expiry ON users (token_expiry);
+
+-- 미확인 신고 수
+CREATE INDEX IF NOT EXISTS idx_reports_is_read ON reports (is_read);
+
+-- 이메일별 최근 인증번호 조회와 만료 인증 정보 정리 (jpa 저장소)
+CREATE INDEX IF NOT EXISTS idx_email_verification_email_created_at ON email_verification (email, created_at);
+CREATE INDEX IF NOT EXISTS idx_email_verification_expires_at ON email_verification (expires_at);
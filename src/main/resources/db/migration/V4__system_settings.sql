@@ -0,0 +1,13 @@
+-- 시스템 전체 설정 (한 행, id = 1)
+-- admin_bootstrapped: 첫 가입자에게 관리자 권한을 이미 줬는지 (가입할 때마다 회원 수를 세지 않도록 한 번만 기록)
+CREATE TABLE IF NOT EXISTS system_settings (
+    id                  INT       PRIMARY KEY,
+    total_storage_limit BIGINT    NOT NULL,
+    admin_bootstrapped  BOOLEAN   DEFAULT FALSE NOT NULL,
+    updated_at          TIMESTAMP(6)
+);
+
+-- 이미 회원이 있는 DB 는 첫 가입자 차례가 지난 것으로 본다 (기존 count() == 0 판단과 같음)
+INSERT INTO system_settings (id, total_storage_limit, admin_bootstrapped, updated_at)
+SELECT 1, 10737418240, EXISTS (SELECT 1 FROM users), CURRENT_TIMESTAMP
+WHERE NOT EXISTS (SELECT 1 FROM system_settings WHERE id = 1);
@@ -0,0 +1,3 @@
+-- 게시판별 최신순 커서/목록 조회 (findLatestByBoardId, findOlderByBoardId, findNewerByBoardId, findResponseSliceByBoardId)
+-- PostEntity 의 @Index 선언과 이름/컬럼을 맞춘다. (V1/V2 에서 빠져 있었음)
+CREATE INDEX IF NOT EXISTS idx_posts_board_created_at_id ON posts (board_id, created_at, id);
@@ -63,19 +63,37 @@ async function updateComment(bId, pId, cId, content)         { return api('PUT',
 async function deleteComment(bId, pId, cId)                  { return api('DELETE', `/boards/${bId}/posts/${pId}/comments/${cId}`); }
 
 /* ── 쪽지 ── */
-async function getSentMessages()                             { return api('GET',    '/message/sent'); }
-async function getReceivedMessages()                         { return api('GET',    '/message/list'); }
+async function getSentMessages(cursor = '', size = 20)       { return api('GET',    `/message/sent?cursor=${encodeURIComponent(cursor)}&size=${size}`); }
+async function getReceivedMessages(cursor = '', size = 20)   { return api('GET',    `/message/list?cursor=${encodeURIComponent(cursor)}&size=${size}`); }
+async function readBroadcast(id)                             { return api('GET',    `/message/broadcast/${id}`); }
+async function deleteBroadcast(id)                           { return api('DELETE', `/message/broadcast/${id}`); }
+async function sendBroadcast(content)                        { return api('POST',   '/api/admin/dashboard/broadcasts', { content }); }
+async function getUnreadMessageCount()                       { return api('GET',    '/message/unread-count'); }
+function subscribeMessages(onMessage) {
+    const source = new EventSource(BASE_URL + '/message/stream', { withCredentials: true });
+    source.addEventListener('message', e => onMessage(JSON.parse(e.data)));
+    return source;
+}
 async function sendMessage(receiverNickname, content)        { return api('POST',   '/message/send', { receiverNickname, content }); }
 async function deleteSentMessage(id)                         { return api('DELETE', `/message/sent/${id}`); }
 async function deleteReceivedMessage(id)                     { return api('DELETE', `/message/received/${id}`); }
+/* 일괄 처리: target = { ids: [...] } 또는 { olderThan: '2026-01-01T00:00:00', readOnly: true } */
+async function markReadMessages(target)                      { return api('POST',   '/message/received/read', target); }
+async function deleteReceivedMessages(target)                { return api('POST',   '/message/received/delete', target); }
+async function deleteSentMessages(target)                    { return api('POST',   '/message/sent/delete', target); }
+async function archiveReceivedMessages(target, stored = true) { return api('POST',  '/message/received/archive', { ...target, stored }); }
+async function archiveSentMessages(target, stored = true)    { return api('POST',   '/message/sent/archive', { ...target, stored }); }
 
 /* ── 문의 & 신고 ── */
 async function submitSupport(content)                        { return api('POST', '/api/support/send', { content }); }
+async function getMySupports(cursor = '', size = 20)         { return api('GET',    `/api/support/my-messages?cursor=${encodeURIComponent(cursor)}&size=${size}`); }
 async function submitReport(targetUserId, reportCategory, content)    { return api('POST', '/api/reports', { targetUserId, reportCategory, content }); }
 
 /* ── 관리자 ── */
 async function getDashboard()                                { return api('GET',   '/api/admin/dashboard/overview'); }
-async function getAdminSupports()                            { return api('GET',   '/api/support/all-messages'); }
+async function getDailyStats(from = '', to = '')             { return api('GET',   `/api/admin/dashboard/stats?from=${from}&to=${to}`); }
+async function getAdminSupports(status = '', cursor = '', size = 20) { return api('GET', `/api/support/all-messages?status=${status}&cursor=${encodeURIComponent(cursor)}&size=${size}`); }
+async function closeSupportTicket(id)                        { return api('PATCH', `/api/support/tickets/${id}/close`); }
 async function getAdminSupport(id)                           { return api('GET',   `/api/support/${id}/read`); }
 async function getAdminReports()                             { return api('GET',   '/api/admin/dashboard/reports'); }
 async function getAdminReport(id)                            { return api('GET',   `/api/admin/dashboard/reports/${id}`); }
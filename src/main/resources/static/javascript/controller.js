@@ -143,8 +143,15 @@
     bind(F(18)[0], t => updateComment(t.boardId.value, t.postId.value, t.commentId.value, t.content.value));
     bind(F(19)[0], t => deleteComment(t.boardId.value, t.postId.value, t.commentId.value));
 
-    bind(F(20)[0], ()=> getSentMessages());
-    bind(F(21)[0], ()=> getReceivedMessages());
+    bind(F(20)[0], t => getSentMessages(t.cursor.value, t.size.value || 20));
+    const f21 = F(21);
+    bind(f21[0], t => getReceivedMessages(t.cursor.value, t.size.value || 20));
+    bind(f21[1], ()=> getUnreadMessageCount());
+    let messageSource = null;
+    bind(f21[2], ()=> {
+        if (messageSource) messageSource.close();
+        messageSource = subscribeMessages(m => console.log('새 쪽지', m));
+    });
     bind(F(22)[0], t => sendMessage(t.receiverNickname.value, t.content.value));
     bind(F(23)[0], t => deleteSentMessage(t.id.value));
     bind(F(24)[0], t => deleteReceivedMessage(t.id.value));
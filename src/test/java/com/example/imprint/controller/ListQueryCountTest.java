@@ -0,0 +1,191 @@
+package com.example.imprint.controller;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.monitoring.SqlMonitoringRegistry;
+import com.example.imprint.service.counter.EntityCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 목록 API 가 연관 엔티티 지연 로딩(N+1) 없이 한 번의 SQL 로 처리되는지 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+class ListQueryCountTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManager em;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private EntityCounter entityCounter;
+    @Autowired private SqlMonitoringRegistry sqlMonitoringRegistry;
+
+    private BoardEntity board;
+    private PostEntity post;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자/보낸 사람을 모두 다르게 만들어 행마다 다른 연관 엔티티를 참조하게 한다
+        List<UserEntity> writers = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            UserEntity writer = UserEntity.builder()
+                    .email("query-count-" + i + "@test.com")
+                    .password("1234")
+                    .nickname("쿼리작성자" + i)
+                    .role(UserRole.USER)
+                    .status(UserStatus.ACTIVE)
+                    .build();
+            em.persist(writer);
+            writers.add(writer);
+        }
+
+        UserEntity receiver = UserEntity.builder()
+                .email("query-count-receiver@test.com")
+                .password("1234")
+                .nickname("쿼리수신자")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        em.persist(receiver);
+
+        board = new BoardEntity("쿼리수확인게시판");
+        em.persist(board);
+
+        for (UserEntity writer : writers) {
+            PostEntity entity = PostEntity.builder()
+                    .board(board)
+                    .writer(writer)
+                    .title("제목 " + writer.getNickname())
+                    .content("본문")
+                    .build();
+            board.addPost(entity);
+            em.persist(entity);
+            post = entity;
+        }
+
+        for (UserEntity writer : writers) {
+            CommentEntity comment = CommentEntity.builder()
+                    .post(post)
+                    .writer(writer)
+                    .content("댓글")
+                    .build();
+            post.addComment(comment);
+            em.persist(comment);
+
+            em.persist(MessageEntity.builder()
+                    .sender(writer)
+                    .receiver(receiver)
+                    .content("쪽지")
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+
+        // 전체 개수는 캐시에서 읽으므로 미리 한 번 적재해 둔다
+        entityCounter.countPosts(board.getId());
+        entityCounter.countComments(post.getId());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        sqlMonitoringRegistry.reset();
+    }
+
+    // 요청별 SQL 계측 결과도 설정된 예산(imprint.monitoring.sql.budgets) 안에 있어야 한다
+    @AfterEach
+    void assertSqlBudget() {
+        sqlMonitoringRegistry.assertWithinBudget();
+    }
+
+    @Test
+    @DisplayName("게시물 목록은 한 번의 SQL 로 조회된다")
+    void postListIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/boards/" + board.getId() + "/posts").param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.postList.length()").value(ROWS));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(sqlMonitoringRegistry.snapshot("GET /boards/{boardId}/posts").maxStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시물 커서 목록은 한 번의 SQL 로 조회된다")
+    void postCursorListIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/boards/" + board.getId() + "/posts/cursor").param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.postList.length()").value(ROWS));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 목록은 한 번의 SQL 로 조회된다")
+    void commentListIsSingleStatement() throws Exception {
+        mockMvc.perform(get("/boards/" + board.getId() + "/posts/" + post.getId() + "/comments")
+                        .param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.commentList.length()").value(ROWS));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("받은 쪽지함은 개인 쪽지와 전체 공지를 각각 한 번의 SQL 로 조회한다")
+    @WithUserDetails(value = "query-count-receiver@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void receivedMessagesIsOneStatementPerSource() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/message/list"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.messageList.length()").value(ROWS))
+                .andExpect(jsonPath("$.data.messageList[0].senderNickname").exists());
+
+        // 개인 쪽지 1번 + 전체 공지 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("안 읽은 쪽지 수는 처음 한 번만 세고 이후에는 SQL 없이 조회된다")
+    @WithUserDetails(value = "query-count-receiver@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void unreadCountIsServedFromCache() throws Exception {
+        mockMvc.perform(get("/message/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(ROWS));
+
+        statistics.clear();
+
+        mockMvc.perform(get("/message/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(ROWS));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
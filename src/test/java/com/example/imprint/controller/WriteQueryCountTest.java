@@ -0,0 +1,109 @@
+package com.example.imprint.controller;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 글/댓글 작성 요청에서 로그인한 사용자를 한 번만 조회하는지 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+class WriteQueryCountTest {
+
+    private static final String WRITER = "write-count@test.com";
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManager em;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private BoardEntity board;
+    private PostEntity post;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity writer = UserEntity.builder()
+                .email(WRITER)
+                .password("1234")
+                .nickname("작성횟수확인")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        em.persist(writer);
+
+        board = new BoardEntity("작성쿼리수확인게시판");
+        em.persist(board);
+
+        post = PostEntity.builder()
+                .board(board)
+                .writer(writer)
+                .title("제목")
+                .content("본문")
+                .build();
+        board.addPost(post);
+        em.persist(post);
+
+        em.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 인증 정보 준비 중에 읽힌 엔티티는 세지 않도록 요청 직전에 영속성 컨텍스트와 통계를 비운다
+    private long userLoadsDuring(ThrowingRunnable request) throws Exception {
+        em.clear();
+        statistics.clear();
+
+        request.run();
+
+        return statistics.getEntityStatistics(UserEntity.class.getName()).getLoadCount();
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @Test
+    @DisplayName("게시물 작성은 사용자를 한 번만 조회한다")
+    @WithUserDetails(value = WRITER, setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void writePostLoadsUserOnce() throws Exception {
+        long loads = userLoadsDuring(() -> mockMvc.perform(post("/boards/" + board.getId() + "/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"새 글\",\"content\":\"본문\"}"))
+                .andExpect(status().isOk()));
+
+        assertThat(loads).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 작성은 사용자를 한 번만 조회한다")
+    @WithUserDetails(value = WRITER, setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void writeCommentLoadsUserOnce() throws Exception {
+        long loads = userLoadsDuring(() -> mockMvc.perform(post("/boards/" + board.getId() + "/posts/" + post.getId() + "/comments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"content\":\"새 댓글\"}"))
+                .andExpect(status().isOk()));
+
+        assertThat(loads).isEqualTo(1);
+    }
+}
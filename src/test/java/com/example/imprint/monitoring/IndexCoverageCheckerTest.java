@@ -0,0 +1,89 @@
+package com.example.imprint.monitoring;
+
+import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexCoverageCheckerTest {
+
+    private static final Map<String, Class<?>> ENTITIES = Map.of(
+            "UserEntity", UserEntity.class,
+            "PostEntity", PostEntity.class,
+            "CommentEntity", CommentEntity.class,
+            "MessageEntity", MessageEntity.class);
+
+    @Test
+    @DisplayName("메서드 이름 조회는 조건 속성을 컬럼으로 바꾼다")
+    void derivedQueryColumnsTest() throws Exception {
+        var countToday = CommentRepository.class.getMethod("countByCreatedAtAfter", LocalDateTime.class);
+        var byBoard = PostRepository.class.getMethod("findByBoardId", Long.class, Pageable.class);
+
+        assertThat(IndexCoverageChecker.predicateColumns(countToday, CommentEntity.class, ENTITIES))
+                .isEqualTo(Map.of("COMMENTS", Set.of("CREATED_AT")));
+        assertThat(IndexCoverageChecker.predicateColumns(byBoard, PostEntity.class, ENTITIES))
+                .isEqualTo(Map.of("POSTS", Set.of("BOARD_ID")));
+    }
+
+    @Test
+    @DisplayName("JPQL 조건은 조인 별칭의 테이블과 조인 컬럼까지 모은다")
+    void jpqlJoinColumnsTest() throws Exception {
+        var unreadByEmail = MessageRepository.class.getMethod("countUnreadGroupByReceiverEmailIn", Collection.class);
+
+        assertThat(IndexCoverageChecker.predicateColumns(unreadByEmail, MessageEntity.class, ENTITIES))
+                .isEqualTo(Map.of(
+                        "MESSAGES", Set.of("RECEIVER_ID", "IS_READ", "DELETED_BY_RECEIVER"),
+                        "USERS", Set.of("EMAIL")));
+    }
+
+    @Test
+    @DisplayName("조건이 없는 조회와 ORDER BY 컬럼은 조건으로 보지 않는다")
+    void noPredicateTest() throws Exception {
+        var slice = UserRepository.class.getMethod("findSliceBy", Pageable.class);
+        var latest = PostRepository.class.getMethod("findLatestByBoardId", Long.class, Pageable.class);
+
+        assertThat(IndexCoverageChecker.predicateColumns(slice, UserEntity.class, ENTITIES)).isEmpty();
+        assertThat(IndexCoverageChecker.predicateColumns(latest, PostEntity.class, ENTITIES))
+                .isEqualTo(Map.of("POSTS", Set.of("BOARD_ID")));
+    }
+
+    @Test
+    @DisplayName("키셋 조회의 ORDER BY 컬럼을 순서대로 모은다")
+    void orderColumnsTest() throws Exception {
+        var latest = PostRepository.class.getMethod("findLatestByBoardId", Long.class, Pageable.class);
+        var byBoard = PostRepository.class.getMethod("findByBoardId", Long.class, Pageable.class);
+
+        assertThat(IndexCoverageChecker.orderColumns(latest, ENTITIES))
+                .isEqualTo(Map.of("POSTS", List.of("CREATED_AT", "ID")));
+        assertThat(IndexCoverageChecker.orderColumns(byBoard, ENTITIES)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조건 컬럼 뒤에 ORDER BY 컬럼이 이어지는 인덱스만 정렬을 처리한다")
+    void servesOrderTest() {
+        Set<String> predicate = Set.of("BOARD_ID");
+        List<String> orderBy = List.of("CREATED_AT", "ID");
+
+        assertThat(IndexCoverageChecker.servesOrder(List.of("BOARD_ID", "CREATED_AT", "ID"), predicate, orderBy)).isTrue();
+        assertThat(IndexCoverageChecker.servesOrder(List.of("CREATED_AT", "ID"), predicate, orderBy)).isTrue();
+        // 게시판 FK 인덱스 (끝에 기본 키): 정렬은 못 한다
+        assertThat(IndexCoverageChecker.servesOrder(List.of("BOARD_ID", "ID"), predicate, orderBy)).isFalse();
+        // 조건이 아닌 컬럼이 앞에 있으면 정렬 순서가 끊긴다
+        assertThat(IndexCoverageChecker.servesOrder(List.of("WRITER_ID", "CREATED_AT", "ID"), predicate, orderBy)).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.imprint.service.admin;
+
+import com.example.imprint.domain.admin.SystemSettingsEntity;
+import com.example.imprint.repository.admin.SystemSettingsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 DB 의 system_settings 행으로 첫 관리자 차례를 확인 (트랜잭션마다 커밋/롤백되어야 하므로 테스트 트랜잭션 없이 실행)
+// 빈의 캐시(done)에 영향받지 않도록 호출마다 AdminBootstrap 을 새로 만들고, 끝나면 원래 값으로 되돌린다
+@SpringBootTest
+class AdminBootstrapTest {
+
+    @Autowired private SystemSettingsRepository systemSettingsRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private EntityManager em;
+
+    private boolean original;
+
+    @BeforeEach
+    void setUp() {
+        original = transactionTemplate.execute(status ->
+                em.find(SystemSettingsEntity.class, SystemSettingsEntity.ID).isAdminBootstrapped());
+        setBootstrapped(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        setBootstrapped(original);
+    }
+
+    @Test
+    @DisplayName("첫 번째로 커밋한 트랜잭션만 관리자 차례를 차지한다")
+    void onlyFirstTransactionClaims() {
+        Boolean first = transactionTemplate.execute(status -> new AdminBootstrap(systemSettingsRepository).claim());
+        Boolean second = transactionTemplate.execute(status -> new AdminBootstrap(systemSettingsRepository).claim());
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(isBootstrapped()).isTrue();
+    }
+
+    @Test
+    @DisplayName("차지한 트랜잭션이 롤백되면 다음 가입자가 다시 차지할 수 있다")
+    void rollbackReleasesClaim() {
+        Boolean rolledBack = transactionTemplate.execute(status -> {
+            boolean claimed = new AdminBootstrap(systemSettingsRepository).claim();
+            status.setRollbackOnly();
+            return claimed;
+        });
+
+        assertThat(rolledBack).isTrue();
+        assertThat(isBootstrapped()).isFalse();
+
+        Boolean next = transactionTemplate.execute(status -> new AdminBootstrap(systemSettingsRepository).claim());
+        assertThat(next).isTrue();
+    }
+
+    private boolean isBootstrapped() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                em.find(SystemSettingsEntity.class, SystemSettingsEntity.ID).isAdminBootstrapped()));
+    }
+
+    private void setBootstrapped(boolean bootstrapped) {
+        transactionTemplate.executeWithoutResult(status -> em
+                .createQuery("UPDATE SystemSettingsEntity s SET s.adminBootstrapped = :bootstrapped WHERE s.id = :id")
+                .setParameter("bootstrapped", bootstrapped)
+                .setParameter("id", SystemSettingsEntity.ID)
+                .executeUpdate());
+    }
+}
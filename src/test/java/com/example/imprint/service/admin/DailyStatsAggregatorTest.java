@@ -0,0 +1,131 @@
+package com.example.imprint.service.admin;
+
+import com.example.imprint.domain.admin.DailyStatsEntity;
+import com.example.imprint.domain.admin.DailyStatsResponseDto;
+import com.example.imprint.domain.comment.CommentEvent;
+import com.example.imprint.domain.message.report.ReportEvent;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.domain.user.UserEvent;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.repository.admin.DailyStatsRepository;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.message.report.ReportRepository;
+import com.example.imprint.repository.message.support.SupportTicketRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyStatsAggregatorTest {
+
+    @Mock
+    private DailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ReportRepository reportRepository;
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DailyStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new DailyStatsAggregator(dailyStatsRepository, userRepository, postRepository, commentRepository,
+                reportRepository, supportTicketRepository, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("이벤트로 모은 증감분을 오늘 행에 UPDATE 한 번으로 더한다")
+    void flushAddsPendingCounts() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(dailyStatsRepository.existsById(today)).thenReturn(true);
+
+        aggregator.onUserRegistered(new UserEvent.Registered(1L));
+        aggregator.onUserStatusChanged(new UserEvent.StatusChanged(2L, UserStatus.ACTIVE, UserStatus.BANNED));
+        aggregator.onPostCreated(new PostEvent.Created(1L, 1L, 1L, "작성자", "제목", "내용", null));
+        aggregator.onPostCreated(new PostEvent.Created(2L, 1L, 1L, "작성자", "제목", "내용", null));
+        aggregator.onCommentCreated(new CommentEvent.Created(1L, 1L));
+        aggregator.onReportSubmitted(new ReportEvent.Submitted(1L));
+        aggregator.onReportRead(new ReportEvent.Read(1L));
+
+        // when
+        aggregator.flush();
+        aggregator.flush();
+
+        // then: 두 번째 반영에는 남은 증감분이 없다
+        verify(dailyStatsRepository, times(1)).addCounts(today, 1, 2, 1, 1, 0, 1, 0, 1, 0, 0);
+        verifyNoInteractions(userRepository, postRepository, commentRepository);
+    }
+
+    @Test
+    @DisplayName("오늘 행이 없으면 DB 를 한 번 세어서 만들고, 이미 반영된 증감분은 버린다")
+    void flushOpensDayFromDatabase() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(dailyStatsRepository.existsById(today)).thenReturn(false);
+        when(userRepository.count()).thenReturn(100L);
+        when(userRepository.countByCreatedAtAfter(any())).thenReturn(1L);
+
+        aggregator.onUserRegistered(new UserEvent.Registered(1L));
+
+        // when
+        aggregator.flush();
+
+        // then
+        verify(dailyStatsRepository).save(argThat(stats ->
+                stats.getStatDate().equals(today) && stats.getTotalUserCount() == 100L && stats.getSignupCount() == 1L));
+        verify(dailyStatsRepository, never()).addCounts(any(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("오버뷰는 오늘 행에 아직 반영하지 않은 증감분을 더해서 SQL 한 번으로 만든다")
+    void todayIncludesPendingCounts() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(dailyStatsRepository.findById(today)).thenReturn(Optional.of(DailyStatsEntity.builder()
+                .statDate(today)
+                .postCount(10)
+                .totalUserCount(50)
+                .build()));
+
+        aggregator.onPostCreated(new PostEvent.Created(1L, 1L, 1L, "작성자", "제목", "내용", null));
+
+        // when
+        DailyStatsResponseDto stats = aggregator.today();
+
+        // then
+        assertThat(stats.postCount()).isEqualTo(11L);
+        assertThat(stats.totalUserCount()).isEqualTo(50L);
+        verify(dailyStatsRepository, times(1)).findById(today);
+        verifyNoMoreInteractions(dailyStatsRepository);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.imprint.service.counter;
+
+import com.example.imprint.domain.board.BoardEvent;
+import com.example.imprint.domain.comment.CommentEvent;
+import com.example.imprint.domain.message.MessageEvent;
+import com.example.imprint.domain.message.broadcast.BroadcastEvent;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.broadcast.BroadcastMessageRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCounterTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private BroadcastMessageRepository broadcastMessageRepository;
+
+    private EntityCounter entityCounter;
+    private EntityCounterSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        entityCounter = new EntityCounter(postRepository, commentRepository, userRepository, messageRepository,
+                broadcastMessageRepository);
+        synchronizer = new EntityCounterSynchronizer(entityCounter);
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 DB 에서 세고 이후에는 캐시된 개수를 사용한다")
+    void countPostsLoadsOnce() {
+        when(postRepository.countByBoardId(1L)).thenReturn(42L);
+
+        assertThat(entityCounter.countPosts(1L)).isEqualTo(42);
+        assertThat(entityCounter.countPosts(1L)).isEqualTo(42);
+
+        verify(postRepository, times(1)).countByBoardId(1L);
+    }
+
+    @Test
+    @DisplayName("커밋된 게시물 생성/삭제 이벤트로 개수가 증감한다")
+    void postEventsAdjustCount() {
+        when(postRepository.countByBoardId(1L)).thenReturn(10L);
+        entityCounter.countPosts(1L);
+
+        synchronizer.onPostCreated(new PostEvent.Created(100L, 1L, 1L, "작성자", "제목", "내용", null));
+        synchronizer.onPostCreated(new PostEvent.Created(101L, 1L, 1L, "작성자", "제목", "내용", null));
+        synchronizer.onPostDeleted(new PostEvent.Deleted(100L, 1L));
+
+        assertThat(entityCounter.countPosts(1L)).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("아직 세지 않은 게시판의 이벤트는 무시하고 조회 시 DB 값을 읽는다")
+    void eventsBeforeLoadAreIgnored() {
+        synchronizer.onPostCreated(new PostEvent.Created(100L, 2L, 1L, "작성자", "제목", "내용", null));
+        when(postRepository.countByBoardId(2L)).thenReturn(5L);
+
+        assertThat(entityCounter.countPosts(2L)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("게시판이 삭제되면 게시판과 게시물들의 개수를 비운다")
+    void boardDeletedEvictsCounts() {
+        when(postRepository.countByBoardId(1L)).thenReturn(3L, 0L);
+        when(commentRepository.countByPostId(100L)).thenReturn(7L, 0L);
+        entityCounter.countPosts(1L);
+        entityCounter.countComments(100L);
+
+        synchronizer.onBoardDeleted(new BoardEvent.Deleted(1L, List.of(100L)));
+
+        assertThat(entityCounter.countPosts(1L)).isZero();
+        assertThat(entityCounter.countComments(100L)).isZero();
+    }
+
+    @Test
+    @DisplayName("주기적 보정으로 어긋난 개수를 DB 값으로 맞춘다")
+    void reconcileOverwritesDrift() {
+        when(commentRepository.countByPostId(100L)).thenReturn(2L);
+        entityCounter.countComments(100L);
+        synchronizer.onCommentCreated(new CommentEvent.Created(1L, 100L));
+        synchronizer.onCommentCreated(new CommentEvent.Created(2L, 100L));
+
+        when(commentRepository.countGroupByPostIdIn(List.of(100L)))
+                .thenReturn(Collections.singletonList(new Object[]{100L, 3L}));
+
+        synchronizer.reconcile();
+
+        assertThat(entityCounter.countComments(100L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("안 읽은 쪽지 수는 한 번만 DB 에서 세고 커밋된 발송/읽음/삭제 이벤트로 증감한다")
+    void unreadMessageEventsAdjustCount() {
+        when(messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse("user@test.com")).thenReturn(3L);
+        assertThat(entityCounter.countUnreadMessages("user@test.com")).isEqualTo(3);
+
+        synchronizer.onMessageSent(new MessageEvent.Sent(10L, "user@test.com", "보낸이"));
+        synchronizer.onMessageSent(new MessageEvent.Sent(11L, "user@test.com", "보낸이"));
+        synchronizer.onMessageRead(new MessageEvent.Read(10L, "user@test.com"));
+        synchronizer.onMessageDeletedByReceiver(new MessageEvent.DeletedByReceiver(11L, "user@test.com", true));
+        // 이미 읽은 쪽지를 삭제하면 안 읽은 수는 그대로
+        synchronizer.onMessageDeletedByReceiver(new MessageEvent.DeletedByReceiver(10L, "user@test.com", false));
+
+        assertThat(entityCounter.countUnreadMessages("user@test.com")).isEqualTo(3);
+        verify(messageRepository, times(1)).countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse("user@test.com");
+    }
+
+    @Test
+    @DisplayName("주기적 보정으로 안 읽은 쪽지 수를 DB 값으로 맞춘다 (DB 에 없으면 0)")
+    void reconcileUnreadMessages() {
+        when(messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(anyString())).thenReturn(1L);
+        entityCounter.countUnreadMessages("a@test.com");
+        entityCounter.countUnreadMessages("b@test.com");
+
+        when(messageRepository.countUnreadGroupByReceiverEmailIn(anyList()))
+                .thenReturn(Collections.singletonList(new Object[]{"a@test.com", 5L}));
+
+        synchronizer.reconcile();
+
+        assertThat(entityCounter.countUnreadMessages("a@test.com")).isEqualTo(5);
+        assertThat(entityCounter.countUnreadMessages("b@test.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("안 읽은 수에 전체 공지가 더해지고, 새 공지는 집계된 모든 사용자에게 반영된다")
+    void unreadBroadcastsAreAddedToCount() {
+        when(messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(anyString())).thenReturn(1L);
+        when(broadcastMessageRepository.countUnreadByEmail(anyString())).thenReturn(2L);
+        assertThat(entityCounter.countUnreadMessages("a@test.com")).isEqualTo(3);
+        assertThat(entityCounter.countUnreadMessages("b@test.com")).isEqualTo(3);
+
+        synchronizer.onBroadcastSent(new BroadcastEvent.Sent(10L, "관리자"));
+        synchronizer.onBroadcastRead(new BroadcastEvent.Read(10L, "a@test.com"));
+        synchronizer.onBroadcastDeleted(new BroadcastEvent.Deleted(9L, "b@test.com", true));
+
+        assertThat(entityCounter.countUnreadMessages("a@test.com")).isEqualTo(3);
+        assertThat(entityCounter.countUnreadMessages("b@test.com")).isEqualTo(3);
+        verify(broadcastMessageRepository, times(2)).countUnreadByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("주기적 보정으로 안 읽은 공지 수를 DB 값으로 맞춘다 (DB 에 없으면 0)")
+    void reconcileUnreadBroadcasts() {
+        when(messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(anyString())).thenReturn(0L);
+        when(broadcastMessageRepository.countUnreadByEmail(anyString())).thenReturn(3L);
+        entityCounter.countUnreadMessages("a@test.com");
+        entityCounter.countUnreadMessages("b@test.com");
+
+        when(broadcastMessageRepository.countUnreadGroupByEmailIn(anyList()))
+                .thenReturn(Collections.singletonList(new Object[]{"a@test.com", 1L}));
+
+        synchronizer.reconcile();
+
+        assertThat(entityCounter.countUnreadMessages("a@test.com")).isEqualTo(1);
+        assertThat(entityCounter.countUnreadMessages("b@test.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("한동안 조회하지 않은 사용자의 안 읽은 수는 지워지고, 다시 조회하면 DB 에서 센다")
+    void idleUnreadCountsAreEvicted() {
+        when(messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(anyString())).thenReturn(1L);
+        when(broadcastMessageRepository.countUnreadByEmail(anyString())).thenReturn(0L);
+        entityCounter.countUnreadMessages("a@test.com");
+        entityCounter.countUnreadMessages("b@test.com");
+
+        long now = System.currentTimeMillis();
+        entityCounter.evictIdleUnread(now + EntityCounter.UNREAD_IDLE_MILLIS - 60_000);
+        assertThat(entityCounter.unreadUserCount()).isEqualTo(2);
+
+        entityCounter.evictIdleUnread(now + EntityCounter.UNREAD_IDLE_MILLIS + 60_000);
+        assertThat(entityCounter.unreadUserCount()).isZero();
+
+        entityCounter.countUnreadMessages("a@test.com");
+        verify(messageRepository, times(2)).countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse("a@test.com");
+    }
+
+    @Test
+    @DisplayName("안 읽은 수를 가진 사용자가 최대 수를 넘으면 오래 조회하지 않은 사용자부터 지운다")
+    void unreadCountsAreBounded() {
+        when(messageRepository.countByReceiverEmailAndIsReadFalseAndDeletedByReceiverFalse(anyString())).thenReturn(0L);
+        when(broadcastMessageRepository.countUnreadByEmail(anyString())).thenReturn(0L);
+        for (int i = 0; i < EntityCounter.MAX_UNREAD_USERS + 10; i++) {
+            entityCounter.countUnreadMessages("user-" + i + "@test.com");
+        }
+
+        entityCounter.evictIdleUnread(System.currentTimeMillis());
+
+        assertThat(entityCounter.unreadUserCount()).isEqualTo(EntityCounter.MAX_UNREAD_USERS);
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.imprint.service.dashboard;
 
+import com.example.imprint.domain.admin.DailyStatsResponseDto;
 import com.example.imprint.domain.admin.DashboardResponseDto;
-import com.example.imprint.domain.user.UserStatus;
-import com.example.imprint.repository.message.report.ReportRepository;
-import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.service.admin.DailyStatsAggregator;
 import com.example.imprint.service.admin.DashboardService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,10 +11,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,20 +24,14 @@ class DashboardServiceTest {
     private DashboardService dashboardService;
 
     @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private ReportRepository reportRepository;
+    private DailyStatsAggregator dailyStatsAggregator;
 
     @Test
     @DisplayName("대시보드 오버뷰 통계 데이터가 정확하게 조회되어야 한다")
     void getOverviewTest() {
-        // given
-        when(userRepository.count()).thenReturn(100L);
-        when(userRepository.countByStatus(UserStatus.ACTIVE)).thenReturn(90L);
-        when(userRepository.countByStatus(UserStatus.BANNED)).thenReturn(10L);
-        when(userRepository.countByCreatedAtAfter(any(LocalDateTime.class))).thenReturn(5L);
-        when(reportRepository.count()).thenReturn(3L);
+        // given: 오늘 통계 한 행
+        when(dailyStatsAggregator.today()).thenReturn(new DailyStatsResponseDto(
+                LocalDate.now(), 5, 12, 30, 2, 4, 100, 90, 10, 3, 1));
 
         // when
         DashboardResponseDto result = dashboardService.getOverview();
@@ -48,6 +41,20 @@ class DashboardServiceTest {
         assertThat(result.getActiveUserCount()).isEqualTo(90L);
         assertThat(result.getBannedUserCount()).isEqualTo(10L);
         assertThat(result.getTodaySignupCount()).isEqualTo(5L);
+        assertThat(result.getTodayPostCount()).isEqualTo(12L);
+        assertThat(result.getTodayCommentCount()).isEqualTo(30L);
         assertThat(result.getPendingReportCount()).isEqualTo(3L);
+        assertThat(result.getPendingSupportCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기간별 통계는 최대 1년치까지 조회할 수 있다")
+    void getHistoryRangeTest() {
+        LocalDate today = LocalDate.now();
+
+        assertThatThrownBy(() -> dashboardService.getHistory(today, today.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dashboardService.getHistory(today.minusYears(2), today))
+                .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.example.imprint.service.export;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.comment.CommentEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.repository.board.BoardRepository;
+import com.example.imprint.repository.comment.CommentRepository;
+import com.example.imprint.repository.post.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardExportServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private BoardExportService boardExportService;
+
+    @BeforeEach
+    void setUp() {
+        boardExportService = new BoardExportService(boardRepository, postRepository, commentRepository,
+                entityManager, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("게시판, 게시물, 댓글 순으로 한 줄씩 쓰고 쓴 엔티티는 바로 떼어낸다")
+    void exportNdjsonTest() throws Exception {
+        // given
+        PostEntity post = givenBoardWithOnePostAndComment();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        BoardExportService.Report report = boardExportService.export(1L, output, false);
+
+        // then
+        assertThat(report.posts()).isEqualTo(1);
+        assertThat(report.comments()).isEqualTo(1);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).contains("\"type\":\"board\"", "\"name\":\"자유게시판\"");
+        assertThat(lines[1]).contains("\"type\":\"post\"", "\"title\":\"첫 게시물\"", "\"writerId\":2");
+        assertThat(lines[2]).contains("\"type\":\"comment\"", "\"postId\":10");
+
+        verify(entityManager).detach(post);
+    }
+
+    @Test
+    @DisplayName("gzip 으로 내보내면 압축을 풀었을 때 같은 NDJSON 이 나온다")
+    void exportGzipTest() throws Exception {
+        // given
+        givenBoardWithOnePostAndComment();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        boardExportService.export(1L, output, true);
+
+        // then
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            String ndjson = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(ndjson.split("\n")).hasSize(3);
+            assertThat(ndjson).contains("\"type\":\"comment\"");
+        }
+    }
+
+    @Test
+    @DisplayName("없는 게시판은 스트리밍을 시작하기 전에 거절한다")
+    void fileNameRejectsUnknownBoardTest() {
+        // given
+        when(boardRepository.existsById(99L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> boardExportService.fileName(99L, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("게시판을 찾을 수 없습니다.");
+
+        verifyNoInteractions(postRepository, commentRepository);
+    }
+
+    private PostEntity givenBoardWithOnePostAndComment() {
+        BoardEntity board = BoardEntity.builder().id(1L).name("자유게시판").build();
+        UserEntity writer = UserEntity.builder().id(2L).email("writer@test.com").nickname("작성자").build();
+
+        PostEntity post = mock(PostEntity.class);
+        when(post.getId()).thenReturn(10L);
+        when(post.getBoard()).thenReturn(board);
+        when(post.getWriter()).thenReturn(writer);
+        when(post.getTitle()).thenReturn("첫 게시물");
+        when(post.getContent()).thenReturn("본문");
+
+        CommentEntity comment = CommentEntity.builder().post(post).writer(writer).content("댓글").build();
+
+        when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+        when(postRepository.streamByBoardId(1L)).thenReturn(Stream.of(post));
+        when(commentRepository.streamByBoardId(1L)).thenReturn(Stream.of(comment));
+        return post;
+    }
+}
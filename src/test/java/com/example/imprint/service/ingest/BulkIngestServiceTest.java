@@ -0,0 +1,228 @@
+package com.example.imprint.service.ingest;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.post.PostEvent;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserEvent;
+import com.example.imprint.repository.board.BoardRepository;
+import com.example.imprint.repository.post.PostRepository;
+import com.example.imprint.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkIngestServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkIngestService bulkIngestService;
+
+    @BeforeEach
+    void setUp() {
+        // 묶음 2건, 배치 2건
+        bulkIngestService = new BulkIngestService(boardRepository, userRepository, postRepository, entityManager, jdbcTemplate,
+                new TransactionTemplate(transactionManager), eventPublisher, new ObjectMapper(), 2, 2);
+    }
+
+    @Test
+    @DisplayName("NDJSON 을 묶음 단위로 나눠 저장하고 묶음마다 Ingested 이벤트를 한 번 발행한다")
+    void ingestPostsInChunksTest() {
+        // given
+        givenBoardAndWriter();
+        InputStream input = ndjson(
+                "{\"boardId\":1,\"writerId\":1,\"title\":\"첫 게시물\",\"content\":\"본문 1\"}",
+                "",
+                "{\"boardId\":1,\"writerId\":1,\"title\":\"둘째 게시물\",\"content\":\"본문 2\"}",
+                "{\"boardId\":1,\"writerId\":1,\"title\":\"셋째 게시물\",\"content\":\"본문 3\"}");
+
+        // when
+        BulkIngestService.Report report = bulkIngestService.ingestPosts(input);
+
+        // then
+        assertThat(report.rows()).isEqualTo(3);
+        assertThat(report.chunks()).isEqualTo(2);
+        verify(entityManager, times(3)).persist(any(PostEntity.class));
+
+        ArgumentCaptor<PostEvent.Ingested> events = ArgumentCaptor.forClass(PostEvent.Ingested.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(event -> event.posts().size()).containsExactly(2, 1);
+        assertThat(events.getAllValues().getFirst().posts().getFirst().title()).isEqualTo("첫 게시물");
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 줄이 나오면 이전 묶음까지 저장하고 줄 번호와 함께 멈춘다")
+    void ingestPostsStopsAtInvalidLineTest() {
+        // given
+        givenBoardAndWriter();
+        InputStream input = ndjson(
+                "{\"boardId\":1,\"writerId\":1,\"title\":\"첫 게시물\",\"content\":\"본문 1\"}",
+                "{\"boardId\":1,\"writerId\":1,\"title\":\"둘째 게시물\",\"content\":\"본문 2\"}",
+                "{\"boardId\":1,\"writerId\":1,\"title\":\"셋\",\"content\":\"\"}");
+
+        // when & then
+        assertThatThrownBy(() -> bulkIngestService.ingestPosts(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("3번째 줄")
+                .hasMessageContaining("2건 저장 후 중단");
+
+        verify(entityManager, times(2)).persist(any(PostEntity.class));
+    }
+
+    @Test
+    @DisplayName("없는 작성자를 가리키는 묶음은 저장하지 않는다")
+    void ingestPostsRejectsUnknownWriterTest() {
+        // given
+        BoardEntity board = mock(BoardEntity.class);
+        when(board.getId()).thenReturn(1L);
+        when(boardRepository.findAllById(anyList())).thenReturn(List.of(board));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of());
+
+        InputStream input = ndjson("{\"boardId\":1,\"writerId\":99,\"title\":\"게시물\",\"content\":\"본문\"}");
+
+        // when & then
+        assertThatThrownBy(() -> bulkIngestService.ingestPosts(input))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1번째 줄부터")
+                .hasMessageContaining("작성자를 찾을 수 없습니다. (id = 99)");
+
+        verify(entityManager, never()).persist(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("CSV 회원 가져오기는 DB 와 입력 안에서 겹치는 이메일/닉네임을 건너뛰고 나머지만 배치로 넣는다")
+    @SuppressWarnings("unchecked")
+    void ingestUsersSkipsDuplicatesTest() {
+        // given
+        when(userRepository.streamEmailAndNickname())
+                .thenReturn(Stream.<Object[]>of(new Object[]{"old@test.com", "기존회원"}));
+
+        String hash = "$2a$10$" + "a".repeat(53);
+        InputStream input = csv(
+                "email,passwordHash,nickname,name",
+                "new1@test.com," + hash + ",새회원1,\"김, 하나\"",
+                "old@test.com," + hash + ",새회원2,이미 있는 이메일",
+                "new3@test.com," + hash + ",기존회원,이미 있는 닉네임",
+                "new1@test.com," + hash + ",새회원4,입력 안 중복",
+                "new5@test.com," + hash + ",새회원5,다섯");
+
+        // when
+        BulkIngestService.Report report = bulkIngestService.ingestUsers(input, BulkIngestService.Format.CSV);
+
+        // then
+        assertThat(report.rows()).isEqualTo(2);
+        assertThat(report.skipped()).isEqualTo(3);
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), inserts.capture());
+        List<Object[]> inserted = inserts.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(inserted).extracting(row -> row[0]).containsExactly("new1@test.com", "new5@test.com");
+        assertThat(inserted.getFirst()[3]).isEqualTo("김, 하나");
+
+        ArgumentCaptor<UserEvent.Ingested> events = ArgumentCaptor.forClass(UserEvent.Ingested.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(UserEvent.Ingested::count).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("엑셀에서 저장한 CSV 의 BOM 과 열 이름 앞뒤 공백은 무시한다")
+    @SuppressWarnings("unchecked")
+    void ingestUsersCsvWithBomTest() {
+        // given
+        when(userRepository.streamEmailAndNickname()).thenReturn(Stream.empty());
+
+        String hash = "$2a$10$" + "a".repeat(53);
+        InputStream input = csv(
+                "\uFEFFemail, passwordHash ,nickname,name\r",
+                "bom@test.com," + hash + ",비오엠,이름\r");
+
+        // when
+        BulkIngestService.Report report = bulkIngestService.ingestUsers(input, BulkIngestService.Format.CSV);
+
+        // then
+        assertThat(report.rows()).isEqualTo(1);
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), inserts.capture());
+        Object[] inserted = inserts.getValue().getFirst();
+        assertThat(inserted[0]).isEqualTo("bom@test.com");
+        assertThat(inserted[1]).isEqualTo(hash);
+    }
+
+    @Test
+    @DisplayName("BCrypt 해시가 아닌 비밀번호는 받지 않는다")
+    void ingestUsersRejectsPlainPasswordTest() {
+        // given
+        when(userRepository.streamEmailAndNickname()).thenReturn(Stream.empty());
+        InputStream input = ndjson("{\"email\":\"a@test.com\",\"passwordHash\":\"password\",\"nickname\":\"회원\",\"name\":\"이름\"}");
+
+        // when & then
+        assertThatThrownBy(() -> bulkIngestService.ingestUsers(input, BulkIngestService.Format.NDJSON))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1번째 줄")
+                .hasMessageContaining("BCrypt");
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private void givenBoardAndWriter() {
+        BoardEntity board = mock(BoardEntity.class);
+        when(board.getId()).thenReturn(1L);
+        UserEntity writer = UserEntity.builder().id(1L).email("writer@test.com").nickname("작성자").build();
+
+        when(boardRepository.findAllById(anyList())).thenReturn(List.of(board));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(writer));
+    }
+
+    private static InputStream csv(String... lines) {
+        return ndjson(lines);
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
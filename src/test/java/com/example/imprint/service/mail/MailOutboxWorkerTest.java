@@ -0,0 +1,133 @@
+package com.example.imprint.service.mail;
+
+import com.example.imprint.domain.mail.MailOutboxEntity;
+import com.example.imprint.domain.mail.MailOutboxStatus;
+import com.example.imprint.repository.mail.MailOutboxRepository;
+import com.example.imprint.service.user.MailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 주기 실행은 사실상 끄고(poll-interval 1시간) drain() 을 직접 호출해서 확인
+@SpringBootTest(properties = {
+        "imprint.mail.outbox.poll-interval=PT1H",
+        "imprint.mail.outbox.batch-size=20",
+        "imprint.mail.outbox.base-backoff=PT0S",
+        "imprint.mail.outbox.max-attempts=2"
+})
+@Transactional
+class MailOutboxWorkerTest {
+
+    @Autowired private MailService mailService;
+    @Autowired private MailOutboxWorker mailOutboxWorker;
+    @Autowired private MailOutboxRepository mailOutboxRepository;
+
+    // 실제 SMTP 대신 사용
+    @MockitoBean private JavaMailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("대기열의 메일은 batch-size 개씩 묶어서 발송된다")
+    void sendsInBatches() {
+        for (int i = 0; i < 45; i++) {
+            mailService.sendEmail("outbox-" + i + "@test.com", "제목", "본문 " + i);
+        }
+
+        mailOutboxWorker.drain();
+
+        verify(mailSender, times(3)).send(any(SimpleMailMessage[].class));
+        assertThat(mailOutboxRepository.findAll())
+                .hasSize(45)
+                .allSatisfy(mail -> {
+                    assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+                    assertThat(mail.getSentAt()).isNotNull();
+                    // 발송한 메일의 본문은 남기지 않는다
+                    assertThat(mail.getBody()).isEmpty();
+                });
+    }
+
+    @Test
+    @DisplayName("다른 발송 작업이 먼저 가져간 메일은 다시 가져가지 않는다")
+    void claimIsConditional() {
+        mailService.sendEmail("claim@test.com", "제목", "본문");
+        Long id = mailOutboxRepository.findAll().getFirst().getId();
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutboxStatus> due = List.of(MailOutboxStatus.PENDING, MailOutboxStatus.SENDING);
+
+        // 같은 메일을 두 발송 작업이 동시에 조회했어도 UPDATE 는 먼저 한 쪽만 성공한다
+        assertThat(mailOutboxRepository.claim(id, due, now, now.plusMinutes(5))).isEqualTo(1);
+        assertThat(mailOutboxRepository.claim(id, due, now, now.plusMinutes(5))).isZero();
+
+        mailOutboxWorker.drain();
+
+        MailOutboxEntity mail = mailOutboxRepository.findById(id).orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.SENDING);
+        assertThat(mail.getAttempts()).isEqualTo(1);
+        verify(mailSender, never()).send(any(SimpleMailMessage[].class));
+    }
+
+    @Test
+    @DisplayName("묶음 중 실패한 메일만 재시도 대기로 돌아간다")
+    void retriesOnlyFailedMessages() {
+        mailService.sendEmail("ok@test.com", "제목", "성공할 메일");
+        mailService.sendEmail("fail@test.com", "제목", "실패할 메일");
+
+        // 첫 발송에서만 두 번째 메일이 실패
+        doAnswer(invocation -> {
+            SimpleMailMessage[] messages = (SimpleMailMessage[]) invocation.getRawArguments()[0];
+            throw new MailSendException(Map.of(messages[1], new RuntimeException("mailbox unavailable")));
+        }).doAnswer(invocation -> null)
+                .when(mailSender).send(any(SimpleMailMessage[].class));
+
+        mailOutboxWorker.drain();
+
+        List<MailOutboxEntity> mails = mailOutboxRepository.findAll();
+        MailOutboxEntity ok = mails.stream().filter(mail -> mail.getRecipient().equals("ok@test.com")).findFirst().orElseThrow();
+        MailOutboxEntity retried = mails.stream().filter(mail -> mail.getRecipient().equals("fail@test.com")).findFirst().orElseThrow();
+
+        // 성공한 메일은 한 번만 보내고, 실패한 메일은 (backoff 0 이므로) 바로 한 번 더 보내서 성공
+        assertThat(ok.getAttempts()).isEqualTo(1);
+        assertThat(ok.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        assertThat(retried.getAttempts()).isEqualTo(2);
+        assertThat(retried.getStatus()).isEqualTo(MailOutboxStatus.SENT);
+        verify(mailSender, times(2)).send(any(SimpleMailMessage[].class));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 더 이상 재시도하지 않는다")
+    void givesUpAfterMaxAttempts() {
+        mailService.sendEmail("down@test.com", "제목", "본문");
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        mailOutboxWorker.drain();
+
+        MailOutboxEntity mail = mailOutboxRepository.findAll().getFirst();
+        assertThat(mail.getStatus()).isEqualTo(MailOutboxStatus.FAILED);
+        assertThat(mail.getAttempts()).isEqualTo(2);
+        assertThat(mail.getLastError()).contains("connection refused");
+        verify(mailSender, times(2)).send(any(SimpleMailMessage[].class));
+    }
+}
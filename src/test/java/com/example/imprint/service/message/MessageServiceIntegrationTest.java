@@ -1,11 +1,20 @@
 package com.example.imprint.service.message;
 
+import com.example.imprint.domain.message.MessageBulkRequestDto;
+import com.example.imprint.domain.message.MessageCursorResponseDto;
 import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketEntity;
+import com.example.imprint.domain.message.support.SupportTicketResponseDto;
 import com.example.imprint.domain.user.UserEntity;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.domain.user.UserStatus;
 import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.broadcast.BroadcastMessageRepository;
+import com.example.imprint.repository.message.support.SupportTicketRepository;
 import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.service.message.broadcast.BroadcastService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +27,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,7 +46,12 @@ class MessageServiceIntegrationTest {
     @Autowired private UserRepository userRepository;
     @Autowired private MessageRepository messageRepository;
     @Autowired private MessageService messageService;
+    @Autowired private BroadcastService broadcastService;
+    @Autowired private SupportsService supportsService;
+    @Autowired private SupportTicketRepository supportTicketRepository;
     @Autowired private ObjectMapper objectMapper;
+    @Autowired private BroadcastMessageRepository broadcastMessageRepository;
+    @Autowired private EntityManager em;
 
     private UserEntity sender;
     private UserEntity receiver;
@@ -71,13 +91,13 @@ class MessageServiceIntegrationTest {
         mockMvc.perform(get("/message/list"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data[0].senderNickname").value("보낸이"))
-                .andExpect(jsonPath("$.data[0].receiverNickname").value("받는이"))
-                .andExpect(jsonPath("$.data[0].content").value("안녕하세요, 첫 쪽지입니다!"))
+                .andExpect(jsonPath("$.data.messageList[0].senderNickname").value("보낸이"))
+                .andExpect(jsonPath("$.data.messageList[0].receiverNickname").value("받는이"))
+                .andExpect(jsonPath("$.data.messageList[0].content").value("안녕하세요, 첫 쪽지입니다!"))
                 // 처음엔 안읽음 상태
-                .andExpect(jsonPath("$.data[0].read").value(false))
+                .andExpect(jsonPath("$.data.messageList[0].read").value(false))
                 // 생성시간 존재
-                .andExpect(jsonPath("$.data[0].createdAt").exists())
+                .andExpect(jsonPath("$.data.messageList[0].createdAt").exists())
                 .andDo(print());
 
         // 쪽지 단건 상세 읽기 및 상태 전환 확인
@@ -92,7 +112,7 @@ class MessageServiceIntegrationTest {
 
         // 다시 목록 조회 시 읽음 상태(true)가 유지되는지 확인
         mockMvc.perform(get("/message/list"))
-                .andExpect(jsonPath("$.data[0].read").value(true));
+                .andExpect(jsonPath("$.data.messageList[0].read").value(true));
 
         // 받은 쪽지 삭제 검증
         mockMvc.perform(delete("/message/received/" + messageId))
@@ -102,7 +122,7 @@ class MessageServiceIntegrationTest {
         // 삭제 후 목록에서 사라졌는지 최종 확인
         mockMvc.perform(get("/message/list"))
                 // 삭제되어 비어있어야 함
-                .andExpect(jsonPath("$.data").isEmpty());
+                .andExpect(jsonPath("$.data.messageList").isEmpty());
     }
 
     @Test
@@ -132,4 +152,195 @@ class MessageServiceIntegrationTest {
                 .andExpect(jsonPath("$.message").value("접근 권한이 없습니다."))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("받은/보낸 쪽지함은 커서로 최신순 페이지를 이어서 조회한다")
+    void messageCursorPagingTest() {
+        // Given: sender가 receiver에게 쪽지 5개를 보냄
+        for (int i = 1; i <= 5; i++) {
+            messageService.sendMessage(sender.getEmail(), receiver.getNickname(), "쪽지 " + i);
+        }
+
+        // When: 2개씩 받은 쪽지함 조회
+        MessageCursorResponseDto first = messageService.getReceivedMessages(receiver.getEmail(), null, 2);
+        MessageCursorResponseDto second = messageService.getReceivedMessages(receiver.getEmail(), first.nextCursor(), 2);
+        MessageCursorResponseDto third = messageService.getReceivedMessages(receiver.getEmail(), second.nextCursor(), 2);
+
+        // Then: 최신순으로 빠짐없이 이어지고, 마지막 페이지에는 다음 커서가 없다
+        assertThat(first.messageList()).extracting(MessageResponseDto::getContent).containsExactly("쪽지 5", "쪽지 4");
+        assertThat(first.prevCursor()).isNull();
+        assertThat(second.messageList()).extracting(MessageResponseDto::getContent).containsExactly("쪽지 3", "쪽지 2");
+        assertThat(third.messageList()).extracting(MessageResponseDto::getContent).containsExactly("쪽지 1");
+        assertThat(third.nextCursor()).isNull();
+
+        // 이전 커서로 돌아가면 같은 페이지를 다시 받는다
+        MessageCursorResponseDto back = messageService.getReceivedMessages(receiver.getEmail(), third.prevCursor(), 2);
+        assertThat(back.messageList()).extracting(MessageResponseDto::getContent).containsExactly("쪽지 3", "쪽지 2");
+
+        // 보낸 쪽지함도 같은 방식으로 조회되고, 보낸 사람이 삭제한 쪽지는 빠진다
+        Long latestId = first.messageList().get(0).getId();
+        messageService.deleteBySender(latestId, sender.getEmail());
+
+        MessageCursorResponseDto sent = messageService.getSentMessages(sender.getEmail(), null, 10);
+        assertThat(sent.messageList()).extracting(MessageResponseDto::getContent)
+                .containsExactly("쪽지 4", "쪽지 3", "쪽지 2", "쪽지 1");
+        assertThat(sent.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 읽음/삭제/보관은 본인 쪽지에만 적용된다")
+    void bulkOperationsAreScopedToOwner() {
+        // Given: sender가 receiver에게 쪽지 3개를 보냄
+        for (int i = 1; i <= 3; i++) {
+            messageService.sendMessage(sender.getEmail(), receiver.getNickname(), "일괄 " + i);
+        }
+        List<Long> ids = messageRepository.findAll().stream().map(MessageEntity::getId).toList();
+
+        // 보낸 사람은 받은 쪽지함 기준 처리를 할 수 없다 (WHERE 절의 소유자 조건)
+        assertThat(messageService.markReadBulk(sender.getEmail(), new MessageBulkRequestDto(ids, null, false, null))).isZero();
+
+        // 받은 사람이 두 개를 읽음 처리
+        assertThat(messageService.markReadBulk(receiver.getEmail(),
+                new MessageBulkRequestDto(ids.subList(0, 2), null, false, null))).isEqualTo(2);
+
+        // 읽은 쪽지만 보관
+        assertThat(messageService.storeByReceiverBulk(receiver.getEmail(),
+                new MessageBulkRequestDto(null, LocalDateTime.now().plusMinutes(1), true, null))).isEqualTo(2);
+
+        // 읽은 쪽지만 삭제하면 안 읽은 하나만 남는다
+        assertThat(messageService.deleteByReceiverBulk(receiver.getEmail(),
+                new MessageBulkRequestDto(null, LocalDateTime.now().plusMinutes(1), true, null))).isEqualTo(2);
+
+        MessageCursorResponseDto inbox = messageService.getReceivedMessages(receiver.getEmail(), null, 10);
+        assertThat(inbox.messageList()).extracting(MessageResponseDto::getContent).containsExactly("일괄 3");
+        assertThat(messageRepository.findById(ids.get(0)).orElseThrow().isStoredByReceiver()).isTrue();
+
+        // 보낸 쪽지함은 그대로이고, 보낸 사람 기준 삭제는 따로 적용된다
+        assertThat(messageService.deleteBySenderBulk(sender.getEmail(), new MessageBulkRequestDto(ids, null, false, null)))
+                .isEqualTo(3);
+        assertThat(messageService.getSentMessages(sender.getEmail(), null, 10).messageList()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 처리 대상(ids 또는 olderThan)이 없으면 거부한다")
+    void bulkOperationRequiresTarget() {
+        assertThatThrownBy(() -> messageService.deleteByReceiverBulk(receiver.getEmail(),
+                new MessageBulkRequestDto(List.of(), null, true, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("쪽지함에서 문의 쪽지를 지우면 문의 목록에서도 빠진다")
+    void singleDeleteHidesSupportTicket() {
+        SupportTicketEntity ticket = openTicket("쪽지함에서 지우는 문의");
+        Long messageId = ticket.getMessage().getId();
+
+        messageService.deleteBySender(messageId, sender.getEmail());
+        assertThat(supportsService.getMySupportMessages(sender.getId(), null, 10).tickets()).isEmpty();
+
+        messageService.deleteByReceiver(messageId, receiver.getEmail());
+        assertThat(supportTicketRepository.findById(ticket.getId()).orElseThrow().isDeletedByAdmin()).isTrue();
+    }
+
+    @Test
+    @DisplayName("일괄 삭제한 문의 쪽지는 같은 조건으로 문의 목록에서도 빠진다")
+    void bulkDeleteHidesSupportTickets() {
+        SupportTicketEntity deleted = openTicket("일괄로 지우는 문의");
+        SupportTicketEntity kept = openTicket("남겨두는 문의");
+
+        // 보낸 사람이 하나만 골라서 삭제하면 그 문의만 내 문의 목록에서 빠진다
+        assertThat(messageService.deleteBySenderBulk(sender.getEmail(),
+                new MessageBulkRequestDto(List.of(deleted.getMessage().getId()), null, false, null))).isEqualTo(1);
+        assertThat(supportsService.getMySupportMessages(sender.getId(), null, 10).tickets())
+                .extracting(SupportTicketResponseDto::id)
+                .containsExactly(kept.getId());
+
+        // 받은 사람(관리자 쪽)은 읽은 쪽지만 삭제 -> 안 읽은 문의는 남는다
+        messageService.markReadBulk(receiver.getEmail(),
+                new MessageBulkRequestDto(List.of(deleted.getMessage().getId()), null, false, null));
+        assertThat(messageService.deleteByReceiverBulk(receiver.getEmail(),
+                new MessageBulkRequestDto(null, LocalDateTime.now().plusMinutes(1), true, null))).isEqualTo(1);
+        assertThat(supportTicketRepository.findById(deleted.getId()).orElseThrow().isDeletedByAdmin()).isTrue();
+        assertThat(supportTicketRepository.findById(kept.getId()).orElseThrow().isDeletedByAdmin()).isFalse();
+    }
+
+    // sender 가 receiver 에게 보낸 쪽지를 문의로 등록
+    private SupportTicketEntity openTicket(String content) {
+        messageService.sendMessage(sender.getEmail(), receiver.getNickname(), content);
+        MessageEntity message = messageRepository.findAll().stream()
+                .filter(m -> m.getContent().equals(content))
+                .findFirst().orElseThrow();
+
+        return supportTicketRepository.save(SupportTicketEntity.builder()
+                .requester(sender)
+                .message(message)
+                .build());
+    }
+
+    @Test
+    @DisplayName("전체 공지는 한 번만 저장되고 받은 쪽지함에 개인 쪽지와 합쳐서 보인다")
+    void broadcastIsMergedIntoInbox() {
+        UserEntity admin = userRepository.save(UserEntity.builder()
+                .email("broadcast-admin@test.com").password("1234").nickname("운영자")
+                .role(UserRole.ADMIN).status(UserStatus.ACTIVE).build());
+
+        // Given: 개인 쪽지, 공지, 개인 쪽지 순서로 도착
+        messageService.sendMessage(sender.getEmail(), receiver.getNickname(), "개인 1");
+        Long broadcastId = broadcastService.send(admin.getEmail(), "전체 공지");
+        messageService.sendMessage(sender.getEmail(), receiver.getNickname(), "개인 2");
+
+        // When: 두 개씩 받은 쪽지함 조회
+        MessageCursorResponseDto first = messageService.getReceivedMessages(receiver.getEmail(), null, 2);
+        MessageCursorResponseDto second = messageService.getReceivedMessages(receiver.getEmail(), first.nextCursor(), 2);
+        List<MessageResponseDto> inbox = new ArrayList<>(first.messageList());
+        inbox.addAll(second.messageList());
+
+        // Then: 세 쪽지가 빠짐없이, 중복 없이 보이고 공지는 안 읽은 상태
+        assertThat(inbox).extracting(MessageResponseDto::getContent)
+                .containsExactlyInAnyOrder("개인 1", "전체 공지", "개인 2");
+        assertThat(second.nextCursor()).isNull();
+        assertThat(inbox).filteredOn(MessageResponseDto::isBroadcast)
+                .singleElement()
+                .satisfies(message -> assertThat(message.isRead()).isFalse());
+
+        // 공지를 읽으면 읽음으로, 지우면 내 쪽지함에서만 사라진다
+        broadcastService.read(broadcastId, receiver.getEmail());
+        assertThat(messageService.getReceivedMessages(receiver.getEmail(), null, 10).messageList())
+                .filteredOn(MessageResponseDto::isBroadcast)
+                .singleElement()
+                .satisfies(message -> assertThat(message.isRead()).isTrue());
+
+        broadcastService.delete(broadcastId, receiver.getEmail());
+        assertThat(messageService.getReceivedMessages(receiver.getEmail(), null, 10).messageList())
+                .extracting(MessageResponseDto::getContent)
+                .containsExactly("개인 2", "개인 1");
+        assertThat(messageService.getReceivedMessages(sender.getEmail(), null, 10).messageList())
+                .extracting(MessageResponseDto::getContent)
+                .containsExactly("전체 공지");
+    }
+
+    @Test
+    @DisplayName("가입하기 전에 보낸 전체 공지는 받은 쪽지함과 안 읽은 수에 들어가지 않는다")
+    void broadcastBeforeSignupIsHidden() {
+        UserEntity admin = userRepository.save(UserEntity.builder()
+                .email("broadcast-admin@test.com").password("1234").nickname("운영자")
+                .role(UserRole.ADMIN).status(UserStatus.ACTIVE).build());
+        Long oldBroadcastId = broadcastService.send(admin.getEmail(), "가입 전 공지");
+        broadcastService.send(admin.getEmail(), "가입 후 공지");
+
+        // 첫 공지를 receiver 가 가입하기 전에 보낸 것으로 만든다
+        em.flush();
+        em.createQuery("UPDATE BroadcastMessageEntity b SET b.createdAt = :createdAt WHERE b.id = :id")
+                .setParameter("createdAt", receiver.getCreatedAt().minusDays(1))
+                .setParameter("id", oldBroadcastId)
+                .executeUpdate();
+        em.clear();
+
+        assertThat(messageService.getReceivedMessages(receiver.getEmail(), null, 10).messageList())
+                .extracting(MessageResponseDto::getContent)
+                .containsExactly("가입 후 공지");
+        assertThat(broadcastMessageRepository.countUnreadByEmail(receiver.getEmail())).isEqualTo(1);
+        assertThatThrownBy(() -> broadcastService.read(oldBroadcastId, receiver.getEmail()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
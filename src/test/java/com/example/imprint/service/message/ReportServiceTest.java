@@ -2,11 +2,13 @@ package com.example.imprint.service.message;
 
 import com.example.imprint.domain.message.report.ReportEntity;
 import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserResponseDto;
 import com.example.imprint.domain.message.report.ReportResponseDto;
 import com.example.imprint.domain.message.report.ReportRequestDto;
 import com.example.imprint.repository.message.report.ReportRepository;
 import com.example.imprint.repository.user.UserRepository;
 import com.example.imprint.service.message.report.ReportService;
+import com.example.imprint.service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -35,6 +38,12 @@ class ReportServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private UserEntity reporter;
     private UserEntity targetUser;
 
@@ -59,6 +68,7 @@ class ReportServiceTest {
         // given
         ReportRequestDto request = new ReportRequestDto(2L, "욕설", "게시판에서 욕을 함");
 
+        when(userService.getCurrentUser()).thenReturn(UserResponseDto.fromEntity(reporter));
         when(userRepository.findById(1L)).thenReturn(Optional.of(reporter));
         when(userRepository.existsById(2L)).thenReturn(true);
 
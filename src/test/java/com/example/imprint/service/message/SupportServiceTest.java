@@ -1,10 +1,16 @@
 package com.example.imprint.service.message;
 
 import com.example.imprint.domain.message.MessageEntity;
-import com.example.imprint.domain.message.MessageResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketCursorResponseDto;
+import com.example.imprint.domain.message.support.SupportTicketEntity;
+import com.example.imprint.domain.message.support.SupportTicketStatus;
 import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserResponseDto;
 import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.repository.message.MessageRepository;
+import com.example.imprint.repository.message.support.SupportTicketRepository;
+import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.service.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 
 import java.util.List;
@@ -19,6 +27,8 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,20 +37,37 @@ public class SupportServiceTest {
     @InjectMocks
     private MessageService messageService;
 
+    @InjectMocks
+    private SupportsService supportsService;
+
     @Mock
     private MessageRepository messageRepository;
 
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private UserEntity admin;
     private UserEntity user;
 
     @BeforeEach
     void setUp() {
         admin = UserEntity.builder()
+                .id(1L)
                 .email("admin@test.com")
                 .role(UserRole.ADMIN)
                 .build();
 
         user = UserEntity.builder()
+                .id(2L)
                 .email("user@test.com")
                 .nickname("문의자")
                 .build();
@@ -51,18 +78,56 @@ public class SupportServiceTest {
     void getAdminSupportsTest() {
         // given
         MessageEntity msg = MessageEntity.builder()
+                .id(10L)
+                .content("관리자 문의 내용")
+                .sender(user)
+                .receiver(admin)
+                .build();
+        SupportTicketEntity ticket = SupportTicketEntity.builder()
+                .requester(user)
+                .message(msg)
+                .build();
+        when(userService.getCurrentUser()).thenReturn(UserResponseDto.fromEntity(admin));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(admin));
+        when(supportTicketRepository.findAdminInboxByStatus(eq(SupportTicketStatus.OPEN), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(ticket));
+
+        // when
+        SupportTicketCursorResponseDto result = supportsService.getAllSupportMessages(SupportTicketStatus.OPEN, null, 20);
+
+        // then
+        assertThat(result.tickets()).hasSize(1);
+        assertThat(result.tickets().get(0).requesterNickname()).isEqualTo("문의자");
+        assertThat(result.tickets().get(0).status()).isEqualTo(SupportTicketStatus.OPEN);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("관리자 답변 시 답변 대기 문의가 답변 완료로 바뀐다")
+    void adminReplyAnswersOpenTicketTest() {
+        // given
+        MessageEntity msg = MessageEntity.builder()
+                .id(10L)
                 .content("관리자 문의 내용")
                 .sender(user)
                 .receiver(admin)
                 .build();
-        when(messageRepository.findAdminSupports()).thenReturn(List.of(msg));
+        SupportTicketEntity ticket = SupportTicketEntity.builder()
+                .requester(user)
+                .message(msg)
+                .build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(admin));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(messageRepository.save(any(MessageEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(supportTicketRepository.findFirstByRequesterIdAndStatusOrderByLastActivityAtDescIdDesc(2L, SupportTicketStatus.OPEN))
+                .thenReturn(Optional.of(ticket));
 
         // when
-        List<MessageResponseDto> result = messageService.getAdminSupports();
+        supportsService.sendAdminReply(1L, 2L, null, "답변 드립니다.");
 
         // then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getSenderNickname()).isEqualTo("문의자");
+        assertThat(ticket.getStatus()).isEqualTo(SupportTicketStatus.ANSWERED);
+        assertThat(ticket.getAssignee()).isEqualTo(admin);
     }
 
     @Test
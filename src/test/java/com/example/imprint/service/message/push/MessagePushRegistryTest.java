@@ -0,0 +1,91 @@
+package com.example.imprint.service.message.push;
+
+import com.example.imprint.domain.message.MessageEvent;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import com.example.imprint.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class MessagePushRegistryTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private MessagePushRegistry messagePushRegistry;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(UserEntity.builder()
+                .email("push-receiver@test.com").password("1234").nickname("알림수신자")
+                .role(UserRole.USER).status(UserStatus.ACTIVE).build());
+    }
+
+    @Test
+    @DisplayName("구독한 사용자에게 새 쪽지 알림이 SSE 이벤트로 전달된다")
+    @WithUserDetails(value = "push-receiver@test.com", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    void pushesNewMessageToSubscriber() throws Exception {
+        MvcResult result = mockMvc.perform(get("/message/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        messagePushRegistry.onMessageSent(new MessageEvent.Sent(7L, "push-receiver@test.com", "보낸이"));
+        // 다른 사용자에게 온 쪽지는 전달되지 않는다
+        messagePushRegistry.onMessageSent(new MessageEvent.Sent(8L, "someone-else@test.com", "보낸이"));
+
+        String body = awaitContent(result.getResponse(), "event:message");
+        assertThat(body).contains("id:7", "\"senderNickname\":\"보낸이\"");
+        assertThat(body).doesNotContain("id:8");
+    }
+
+    @Test
+    @DisplayName("사용자당 최대 연결 수를 넘으면 오래된 연결부터 닫고, 전체 한도를 넘으면 바로 닫는다")
+    void limitsSubscribers() {
+        MessagePushRegistry registry = new MessagePushRegistry(Duration.ofMinutes(1), 8, 2, 3, Duration.ofSeconds(30));
+
+        registry.subscribe("a@test.com");
+        registry.subscribe("a@test.com");
+        registry.subscribe("a@test.com");
+        assertThat(registry.subscriberCount()).isEqualTo(2);
+
+        registry.subscribe("b@test.com");
+        registry.subscribe("c@test.com");
+        assertThat(registry.subscriberCount()).isEqualTo(3);
+
+        registry.shutdown();
+        assertThat(registry.subscriberCount()).isZero();
+    }
+
+    // 알림은 가상 스레드에서 보내므로 응답 본문에 나타날 때까지 잠시 기다린다
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+
+        while (!body.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString(StandardCharsets.UTF_8);
+        }
+
+        return body;
+    }
+}
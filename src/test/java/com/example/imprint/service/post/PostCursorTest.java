@@ -0,0 +1,118 @@
+package com.example.imprint.service.post;
+
+import com.example.imprint.domain.board.BoardEntity;
+import com.example.imprint.domain.post.PostDto;
+import com.example.imprint.domain.post.PostEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 게시물 커서 목록: 다음/이전 페이지 이동, 작성 시각이 같을 때 id 로 순서 결정, 잘못된 커서 거부
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PostCursorTest {
+
+    @Autowired private PostService postService;
+    @Autowired private MockMvc mockMvc;
+    @Autowired private EntityManager em;
+
+    private BoardEntity board;
+
+    // 최신순 (id 내림차순)
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity writer = UserEntity.builder()
+                .email("cursor-writer@test.com")
+                .password("1234")
+                .nickname("커서작성자")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        em.persist(writer);
+
+        board = new BoardEntity("커서확인게시판");
+        em.persist(board);
+
+        ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            PostEntity post = PostEntity.builder()
+                    .board(board)
+                    .writer(writer)
+                    .title("제목 " + i)
+                    .content("본문")
+                    .build();
+            board.addPost(post);
+            em.persist(post);
+            ids.addFirst(post.getId());
+        }
+        em.flush();
+
+        // 모두 같은 시각에 작성된 것으로 맞춰서 순서가 id 로만 정해지게 한다
+        em.createQuery("UPDATE PostEntity p SET p.createdAt = :createdAt WHERE p.board.id = :boardId")
+                .setParameter("createdAt", LocalDateTime.of(2026, 1, 1, 12, 0))
+                .setParameter("boardId", board.getId())
+                .executeUpdate();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("다음 페이지를 끝까지 넘기고 이전 페이지로 돌아온다 (같은 작성 시각은 id 로 구분)")
+    void nextAndPrevAcrossPages() {
+        PostDto.cursorResponse first = postService.getPostList(board.getId(), null, 2);
+        assertThat(postIds(first)).isEqualTo(ids.subList(0, 2));
+        assertThat(first.prevCursor()).isNull();
+
+        PostDto.cursorResponse second = postService.getPostList(board.getId(), first.nextCursor(), 2);
+        assertThat(postIds(second)).isEqualTo(ids.subList(2, 4));
+        assertThat(second.prevCursor()).isNotNull();
+
+        PostDto.cursorResponse third = postService.getPostList(board.getId(), second.nextCursor(), 2);
+        assertThat(postIds(third)).isEqualTo(ids.subList(4, 5));
+        assertThat(third.nextCursor()).isNull();
+
+        PostDto.cursorResponse back = postService.getPostList(board.getId(), third.prevCursor(), 2);
+        assertThat(postIds(back)).isEqualTo(ids.subList(2, 4));
+
+        PostDto.cursorResponse backToFirst = postService.getPostList(board.getId(), back.prevCursor(), 2);
+        assertThat(postIds(backToFirst)).isEqualTo(ids.subList(0, 2));
+        assertThat(backToFirst.prevCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없거나 변조된 커서는 400 으로 거부한다")
+    void rejectsInvalidCursor() throws Exception {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("NEXT|not-a-date|1".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("not base64!", tampered)) {
+            mockMvc.perform(get("/boards/" + board.getId() + "/posts/cursor").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private static List<Long> postIds(PostDto.cursorResponse response) {
+        return response.postList().stream().map(PostDto.Response::id).toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.imprint.service.post;
+
+import com.example.imprint.service.post.search.PostSearchIndex;
+import com.example.imprint.service.post.search.PostSearchTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex();
+
+        LocalDateTime now = LocalDateTime.now();
+        postSearchIndex.index(1L, 10L, "드라이버", "자동차 정비 후기", "엔진오일을 교체했습니다.", now.minusDays(2));
+        postSearchIndex.index(2L, 20L, "정비왕", "타이어 교체", "자동차 타이어를 교체했습니다. Spring 세일!", now.minusDays(1));
+        postSearchIndex.index(3L, 30L, "여행자", "여행 후기", "제주도 자동차 여행", now);
+    }
+
+    @Test
+    @DisplayName("한글은 띄어쓰기와 상관없이 bigram 으로 잘리고 영문은 소문자 단어로 잘린다")
+    void tokenizeTest() {
+        assertThat(PostSearchTokenizer.tokenizeForQuery("자동차 Spring")).containsExactly("자동", "동차", "spring");
+        assertThat(PostSearchTokenizer.tokenizeForIndex("자동차")).contains("자", "자동", "동차", "차");
+    }
+
+    @Test
+    @DisplayName("영문/숫자 단어는 앞부분만으로도 찾을 수 있다")
+    void prefixSearchTest() {
+        assertThat(PostSearchTokenizer.tokenizeForIndex("Spring")).containsExactly("sp", "spr", "spri", "sprin", "spring");
+        assertThat(PostSearchTokenizer.tokenizeForQuery("spr")).containsExactly("spr");
+
+        assertThat(postSearchIndex.search("spr", 0, 10).postIds()).containsExactly(2L);
+        assertThat(postSearchIndex.search("SPRING", 0, 10).postIds()).containsExactly(2L);
+        // 단어 중간 부분으로는 찾지 않는다
+        assertThat(postSearchIndex.search("ring", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 게시물만 조회되고, 제목 일치가 상위에 온다")
+    void searchRankingTest() {
+        // when
+        PostSearchIndex.SearchResult result = postSearchIndex.search("자동차", 0, 10);
+
+        // then
+        assertThat(result.totalHits()).isEqualTo(3);
+        assertThat(result.postIds().get(0)).isEqualTo(1L);
+
+        assertThat(postSearchIndex.search("타이어", 0, 10).postIds()).containsExactly(2L);
+        assertThat(postSearchIndex.search("SPRING", 0, 10).postIds()).containsExactly(2L);
+        assertThat(postSearchIndex.search("없는검색어", 0, 10).totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset/limit 으로 페이지를 나눠서 조회한다")
+    void searchPagingTest() {
+        PostSearchIndex.SearchResult firstPage = postSearchIndex.search("자동차", 0, 2);
+        PostSearchIndex.SearchResult secondPage = postSearchIndex.search("자동차", 2, 2);
+
+        assertThat(firstPage.postIds()).hasSize(2);
+        assertThat(secondPage.postIds()).hasSize(1);
+        assertThat(secondPage.totalHits()).isEqualTo(3);
+        assertThat(firstPage.postIds()).doesNotContainAnyElementsOf(secondPage.postIds());
+    }
+
+    @Test
+    @DisplayName("작성자 닉네임으로 검색되고, 닉네임 변경과 게시물 삭제가 색인에 반영된다")
+    void nicknameAndRemoveTest() {
+        assertThat(postSearchIndex.search("정비왕", 0, 10).postIds()).containsExactly(2L);
+
+        // 닉네임 변경
+        postSearchIndex.updateWriterNickname(20L, "타이어장인");
+        assertThat(postSearchIndex.search("정비왕", 0, 10).totalHits()).isZero();
+        assertThat(postSearchIndex.search("장인", 0, 10).postIds()).containsExactly(2L);
+
+        // 게시물 삭제
+        postSearchIndex.remove(2L);
+        assertThat(postSearchIndex.search("타이어", 0, 10).totalHits()).isZero();
+        assertThat(postSearchIndex.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.imprint.service.post.cache;
+
+import com.example.imprint.domain.board.BoardEvent;
+import com.example.imprint.domain.post.PostDto;
+import com.example.imprint.domain.post.PostEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailCacheTest {
+
+    // 테스트에서 시간을 직접 움직이는 시계
+    private static class TestClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private TestClock clock;
+    private PostDetailCache cache;
+    private PostDetailCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new TestClock();
+        cache = new PostDetailCache(2, Duration.ofMinutes(5), clock);
+        invalidator = new PostDetailCacheInvalidator(cache);
+    }
+
+    private static PostDto.Response post(Long id) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 0, 0);
+        return new PostDto.Response(id, 1L, 1L, "제목 " + id, "내용", now, now);
+    }
+
+    private void load(Long id) {
+        cache.put(id, post(id), cache.beginLoad());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회 시 버린다")
+    void expiresAfterTtl() {
+        load(1L);
+
+        clock.advance(Duration.ofMinutes(5).minusMillis(1));
+        assertThat(cache.get(1L)).contains(post(1L));
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 항목부터 내보낸다")
+    void evictsLeastRecentlyUsed() {
+        load(1L);
+        load(2L);
+
+        // 1번을 조회해서 2번이 가장 오래 안 쓰인 항목이 됨
+        cache.get(1L);
+        load(3L);
+
+        assertThat(cache.get(1L)).isPresent();
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.get(3L)).isPresent();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시물 수정/삭제 이벤트로 해당 게시물만 무효화된다")
+    void invalidatesOnPostUpdateAndDelete() {
+        load(1L);
+        load(2L);
+
+        invalidator.onPostUpdated(new PostEvent.Updated(1L, 1L, 1L, "작성자", "수정", "내용", LocalDateTime.now()));
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(2L)).isPresent();
+
+        invalidator.onPostDeleted(new PostEvent.Deleted(2L, 1L));
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.stats().invalidations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시판 삭제 이벤트로 그 게시판의 게시물이 모두 무효화된다")
+    void invalidatesOnBoardDelete() {
+        load(1L);
+        load(2L);
+
+        invalidator.onBoardDeleted(new BoardEvent.Deleted(1L, List.of(1L, 2L, 3L)));
+
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.get(2L)).isEmpty();
+        assertThat(cache.stats().invalidations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 무효화가 있었다면 조회 결과를 넣지 않는다")
+    void rejectsLoadRacingInvalidation() {
+        // DB 조회 시작 -> (다른 요청이 수정 후 무효화) -> 예전 값으로 put
+        long loadSequence = cache.beginLoad();
+        invalidator.onPostUpdated(new PostEvent.Updated(1L, 1L, 1L, "작성자", "수정", "내용", LocalDateTime.now()));
+        cache.put(1L, post(1L), loadSequence);
+
+        assertThat(cache.get(1L)).isEmpty();
+
+        // 무효화 이후에 시작한 조회는 다시 캐시된다
+        load(1L);
+        assertThat(cache.get(1L)).isPresent();
+    }
+}
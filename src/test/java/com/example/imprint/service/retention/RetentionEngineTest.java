@@ -0,0 +1,186 @@
+package com.example.imprint.service.retention;
+
+import com.example.imprint.domain.message.MessageEntity;
+import com.example.imprint.domain.message.support.SupportTicketEntity;
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
+import com.example.imprint.domain.user.UserStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 묶음 크기를 2로 줄여서 여러 묶음에 걸쳐 키셋 순회하는지 확인
+// 정리는 묶음마다 커밋하므로 테스트도 트랜잭션 없이 실제로 커밋하고, 만든 행은 끝나고 직접 지운다
+@SpringBootTest(properties = {
+        "imprint.retention.batch-size=2",
+        "imprint.retention.batch-pause=PT0S",
+        "imprint.retention.deleted-message=PT1H"
+})
+class RetentionEngineTest {
+
+    @Autowired private RetentionEngine retentionEngine;
+    @Autowired private EntityManager em;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private UserEntity sender;
+    private UserEntity receiver;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            sender = createUser("retention-sender@test.com", "정리발신자");
+            receiver = createUser("retention-receiver@test.com", "정리수신자");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM SupportTicketEntity t WHERE t.requester.id IN :ids")
+                    .setParameter("ids", List.of(sender.getId(), receiver.getId()))
+                    .executeUpdate();
+            em.createQuery("DELETE FROM MessageEntity m WHERE m.sender.id IN :ids OR m.receiver.id IN :ids")
+                    .setParameter("ids", List.of(sender.getId(), receiver.getId()))
+                    .executeUpdate();
+            em.createQuery("DELETE FROM UserEntity u WHERE u.id IN :ids")
+                    .setParameter("ids", List.of(sender.getId(), receiver.getId()))
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("양쪽 모두 삭제하고 유예 기간이 지난 쪽지만 여러 묶음에 걸쳐 삭제된다")
+    void purgesMessagesDeletedByBoth() {
+        List<Long> deletedByBoth = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            deletedByBoth.add(createMessage(true, true));
+        }
+        Long deletedBySenderOnly = createMessage(true, false);
+        Long deletedRecently = createMessage(true, true);
+        backdate(deletedByBoth);
+        backdate(List.of(deletedBySenderOnly));
+
+        RetentionEngine.Report report = deletedMessageReport(retentionEngine.run());
+        assertThat(report.completed()).isTrue();
+        assertThat(report.purged()).isGreaterThanOrEqualTo(5);
+        assertThat(report.batches()).isGreaterThanOrEqualTo(3);
+
+        assertThat(deletedByBoth).allSatisfy(id -> assertThat(exists(id)).isFalse());
+        assertThat(exists(deletedBySenderOnly)).isTrue();
+        // 방금 삭제한 쪽지는 유예 기간 동안 남는다
+        assertThat(exists(deletedRecently)).isTrue();
+    }
+
+    @Test
+    @DisplayName("문의가 가리키는 쪽지는 양쪽이 삭제해도 남기고 나머지 정리를 막지 않는다")
+    void skipsMessagesReferencedBySupportTicket() {
+        Long ticketMessage = createMessage(true, true);
+        transactionTemplate.executeWithoutResult(status -> em.persist(SupportTicketEntity.builder()
+                .requester(em.getReference(UserEntity.class, sender.getId()))
+                .message(em.getReference(MessageEntity.class, ticketMessage))
+                .build()));
+
+        List<Long> deletedByBoth = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            deletedByBoth.add(createMessage(true, true));
+        }
+        backdate(deletedByBoth);
+        backdate(List.of(ticketMessage));
+
+        RetentionEngine.Report report = deletedMessageReport(retentionEngine.run());
+        assertThat(report.completed()).isTrue();
+
+        assertThat(exists(ticketMessage)).isTrue();
+        assertThat(deletedByBoth).allSatisfy(id -> assertThat(exists(id)).isFalse());
+    }
+
+    @Test
+    @DisplayName("만료된 비밀번호 재설정 토큰만 지워진다")
+    void clearsExpiredResetTokens() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.find(UserEntity.class, sender.getId())
+                    .setPasswordResetToken("expired-token", LocalDateTime.now().minusMinutes(1));
+            em.find(UserEntity.class, receiver.getId())
+                    .setPasswordResetToken("valid-token", LocalDateTime.now().plusMinutes(10));
+        });
+
+        retentionEngine.run();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            UserEntity expired = em.find(UserEntity.class, sender.getId());
+            UserEntity valid = em.find(UserEntity.class, receiver.getId());
+            assertThat(expired.getResetToken()).isNull();
+            assertThat(expired.getTokenExpiry()).isNull();
+            assertThat(valid.getResetToken()).isEqualTo("valid-token");
+        });
+    }
+
+    @Test
+    @DisplayName("이미 실행 중이면 다시 시작하지 않는다")
+    void startsOnlyOnce() throws InterruptedException {
+        assertThat(retentionEngine.start()).isTrue();
+        assertThat(retentionEngine.start()).isFalse();
+
+        while (retentionEngine.isRunning()) {
+            Thread.sleep(10);
+        }
+        assertThat(retentionEngine.lastReports()).isNotEmpty();
+    }
+
+    private RetentionEngine.Report deletedMessageReport(List<RetentionEngine.Report> reports) {
+        return reports.stream()
+                .filter(r -> r.policy().equals("deleted-message"))
+                .findFirst().orElseThrow();
+    }
+
+    private UserEntity createUser(String email, String nickname) {
+        UserEntity user = UserEntity.builder()
+                .email(email)
+                .password("1234")
+                .nickname(nickname)
+                .name(nickname)
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build();
+        em.persist(user);
+        return user;
+    }
+
+    private Long createMessage(boolean deletedBySender, boolean deletedByReceiver) {
+        return transactionTemplate.execute(status -> {
+            MessageEntity message = MessageEntity.builder()
+                    .sender(em.getReference(UserEntity.class, sender.getId()))
+                    .receiver(em.getReference(UserEntity.class, receiver.getId()))
+                    .content("정리 대상 쪽지")
+                    .deletedBySender(deletedBySender)
+                    .deletedByReceiver(deletedByReceiver)
+                    .build();
+            em.persist(message);
+            return message.getId();
+        });
+    }
+
+    // 유예 기간(1시간) 전에 마지막으로 바뀐 것처럼 만든다
+    private void backdate(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> em
+                .createQuery("UPDATE MessageEntity m SET m.updatedAt = :updatedAt WHERE m.id IN :ids")
+                .setParameter("updatedAt", LocalDateTime.now().minusHours(2))
+                .setParameter("ids", ids)
+                .executeUpdate());
+    }
+
+    private boolean exists(Long messageId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> em.find(MessageEntity.class, messageId) != null));
+    }
+}
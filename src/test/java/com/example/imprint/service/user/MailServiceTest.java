@@ -1,21 +1,24 @@
 package com.example.imprint.service.user;
 
-import com.example.imprint.domain.user.EmailVerification;
-import com.example.imprint.repository.user.EmailVerificationRepository;
+import com.example.imprint.domain.mail.MailEvent;
+import com.example.imprint.domain.mail.MailOutboxEntity;
+import com.example.imprint.repository.mail.MailOutboxRepository;
+import com.example.imprint.service.user.verification.VerificationCodeStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,25 +28,30 @@ class MailServiceTest {
     private MailService mailService;
 
     @Mock
-    private JavaMailSender mailSender;
+    private VerificationCodeStore verificationCodeStore;
 
     @Mock
-    private EmailVerificationRepository verificationRepository;
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("인증 메일 발송 및 DB 저장 테스트")
     void sendCode_Success() {
 
         String email = "test@gmail.com";
+        when(mailOutboxRepository.save(any(MailOutboxEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 
         mailService.sendCodeToEmail(email);
 
 
-        // 실제로 메일 전송 메서드가 호출되었는지 확인
-        verify(mailSender, times(1)).send(any(SimpleMailMessage.class));
-        // DB에 인증 정보가 저장되었는지 확인
-        verify(verificationRepository, times(1)).save(any(EmailVerification.class));
+        // 메일이 바로 발송되지 않고 발송 대기열에 들어갔는지 확인
+        verify(mailOutboxRepository, times(1)).save(argThat(mail -> mail.getRecipient().equals(email)));
+        verify(eventPublisher, times(1)).publishEvent(any(MailEvent.Enqueued.class));
+        // 인증 정보가 저장되었는지 확인
+        verify(verificationCodeStore, times(1)).issue(eq(email), anyString(), any(LocalDateTime.class));
     }
 
     @Test
@@ -52,22 +60,13 @@ class MailServiceTest {
 
         String email = "test@gmail.com";
         String code = "123456";
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .authCode(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .build();
-
-        when(verificationRepository.findTopByEmailOrderByCreatedAtDesc(email))
-                .thenReturn(Optional.of(verification));
 
 
         boolean result = mailService.verifyCode(email, code);
 
 
         assertTrue(result);
-        // 엔티티의 상태가 true로 변했는지 확인
-        assertTrue(verification.isVerified());
+        verify(verificationCodeStore, times(1)).verify(email, code);
     }
 
     @Test
@@ -76,18 +75,26 @@ class MailServiceTest {
 
         String email = "test@gmail.com";
         String code = "123456";
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .authCode(code)
-                .expiresAt(LocalDateTime.now().minusMinutes(1))
-                .build();
 
-        when(verificationRepository.findTopByEmailOrderByCreatedAtDesc(email))
-                .thenReturn(Optional.of(verification));
+        doThrow(new IllegalArgumentException("인증 시간이 만료되었습니다."))
+                .when(verificationCodeStore).verify(email, code);
 
         // 만료되었을때
         assertThrows(IllegalArgumentException.class, () -> {
             mailService.verifyCode(email, code);
         }, "인증 시간이 만료되었습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("1분 이내 재요청 시 실패 테스트")
+    void sendCode_Fail_Throttled() {
+
+        String email = "test@gmail.com";
+        when(mailOutboxRepository.save(any(MailOutboxEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new IllegalArgumentException("1분 이내에 이미 인증번호를 요청했습니다. 잠시 후 다시 시도해주세요."))
+                .when(verificationCodeStore).issue(eq(email), anyString(), any(LocalDateTime.class));
+
+        // 실제로는 예외로 트랜잭션이 롤백되어 대기열에 넣은 메일도 취소된다
+        assertThrows(IllegalArgumentException.class, () -> mailService.sendCodeToEmail(email));
+    }
+}
@@ -1,17 +1,23 @@
 package com.example.imprint.service.user;
 
+import com.example.imprint.domain.user.UserEntity;
+import com.example.imprint.domain.user.UserRole;
 import com.example.imprint.domain.user.UserSignupRequestDto;
-import com.example.imprint.repository.user.EmailVerificationRepository;
 import com.example.imprint.repository.user.UserRepository;
+import com.example.imprint.service.admin.AdminBootstrap;
+import com.example.imprint.service.user.verification.VerificationCodeStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -26,7 +32,13 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private EmailVerificationRepository verificationRepository;
+    private VerificationCodeStore verificationCodeStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AdminBootstrap adminBootstrap;
 
     @Spy // 실제 암호화 로직을 타야할땐 Spy 사용
     private BCryptPasswordEncoder passwordEncoder;
@@ -40,12 +52,32 @@ class UserServiceTest {
         // Mock 설정: 중복 없고, 이메일 인증 완료됨
         when(userRepository.existsByEmail(any())).thenReturn(false);
         when(userRepository.existsByNickname(any())).thenReturn(false);
-        when(verificationRepository.existsByEmailAndIsVerifiedTrue(any())).thenReturn(true);
+        when(verificationCodeStore.isVerified(any())).thenReturn(true);
 
         userService.registerUser(request);
 
         // save가 한 번 호출되었는지 확인
         verify(userRepository, times(1)).save(any());
+        // 가입할 때 전체 유저 수를 세지 않음
+        verify(userRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("첫 관리자 차례를 차지한 가입자는 ADMIN, 아니면 USER 로 가입된다")
+    void registerUser_AdminBootstrap() {
+
+        when(userRepository.existsByEmail(any())).thenReturn(false);
+        when(userRepository.existsByNickname(any())).thenReturn(false);
+        when(verificationCodeStore.isVerified(any())).thenReturn(true);
+        when(adminBootstrap.claim()).thenReturn(true, false);
+
+        userService.registerUser(createRequestDto());
+        userService.registerUser(new UserSignupRequestDto("second@gmail.com", "password123!", "second", "김철수"));
+
+        ArgumentCaptor<UserEntity> saved = ArgumentCaptor.forClass(UserEntity.class);
+        verify(userRepository, times(2)).save(saved.capture());
+        assertThat(saved.getAllValues()).extracting(UserEntity::getRole)
+                .containsExactly(UserRole.ADMIN, UserRole.USER);
     }
 
     @Test
@@ -53,7 +85,7 @@ class UserServiceTest {
     void registerUser_Fail_NotVerified() {
 
         UserSignupRequestDto request = createRequestDto();
-        when(verificationRepository.existsByEmailAndIsVerifiedTrue(any())).thenReturn(false);
+        when(verificationCodeStore.isVerified(any())).thenReturn(false);
 
 
         assertThrows(IllegalArgumentException.class, () -> {
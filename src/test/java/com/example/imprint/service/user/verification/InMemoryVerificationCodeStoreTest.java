@@ -0,0 +1,172 @@
+package com.example.imprint.service.user.verification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private static final String EMAIL = "verify@test.com";
+
+    private MutableClock clock;
+    private InMemoryVerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        store = new InMemoryVerificationCodeStore(Duration.ofMinutes(30), clock);
+    }
+
+    @Test
+    @DisplayName("올바른 인증번호로 인증하면 인증 완료 상태가 된다")
+    void verifySuccess() {
+        store.issue(EMAIL, "123456", now().plusMinutes(5));
+
+        store.verify(EMAIL, "123456");
+
+        assertThat(store.isVerified(EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("인증번호가 다르거나 만료되었거나 요청 기록이 없으면 실패한다")
+    void verifyFailures() {
+        assertThatThrownBy(() -> store.verify(EMAIL, "123456"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인증 요청 기록이 없습니다.");
+
+        store.issue(EMAIL, "123456", now().plusMinutes(5));
+
+        assertThatThrownBy(() -> store.verify(EMAIL, "000000"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인증번호가 일치하지 않습니다.");
+
+        clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+        assertThatThrownBy(() -> store.verify(EMAIL, "123456"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("인증 시간이 만료되었습니다.");
+        assertThat(store.isVerified(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 1분 이내에 다시 요청하면 거부된다")
+    void throttlesReissue() {
+        store.issue(EMAIL, "123456", now().plusMinutes(5));
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThatThrownBy(() -> store.issue(EMAIL, "654321", now().plusMinutes(5)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1분 이내");
+
+        clock.advance(Duration.ofSeconds(1));
+        store.issue(EMAIL, "654321", now().plusMinutes(5));
+        store.verify(EMAIL, "654321");
+        assertThat(store.isVerified(EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 트랜잭션이 롤백되면 요청 기록도 되돌려서 바로 다시 요청할 수 있다")
+    void rollbackRestoresPreviousEntry() {
+        store.issue(EMAIL, "111111", now().plusMinutes(5));
+        clock.advance(Duration.ofMinutes(1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            store.issue(EMAIL, "222222", now().plusMinutes(5));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 롤백된 요청의 번호는 남지 않고, 재요청 제한에도 걸리지 않는다
+        assertThatThrownBy(() -> store.verify(EMAIL, "222222"))
+                .isInstanceOf(IllegalArgumentException.class);
+        store.issue(EMAIL, "333333", now().plusMinutes(5));
+        store.verify(EMAIL, "333333");
+        assertThat(store.isVerified(EMAIL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("보관 기한이 지난 항목은 sweep 으로 지워진다")
+    void sweepRemovesExpiredEntries() {
+        store.issue("a@test.com", "111111", now().plusMinutes(5));
+        store.issue("b@test.com", "222222", now().plusMinutes(5));
+        store.verify("b@test.com", "222222");
+
+        // a 는 인증번호 만료(5분) 후 5분 더 보관했다가 삭제, b 는 인증 후 30분 동안 유지
+        clock.advance(Duration.ofMinutes(10).plusSeconds(1));
+        store.sweep();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.isVerified("b@test.com")).isTrue();
+
+        clock.advance(Duration.ofMinutes(20));
+        store.sweep();
+        assertThat(store.size()).isZero();
+        assertThat(store.isVerified("b@test.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료 시각도 그 바퀴가 되기 전에는 지워지지 않는다")
+    void timingWheelKeepsEntriesForLaterRounds() {
+        TimingWheel<String> wheel = new TimingWheel<>(1_000, 8, 0);
+        wheel.schedule("near", 3_000);
+        wheel.schedule("far", 11_000); // 8칸 휠에서 near 와 같은 칸
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(3_000, expired::add);
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(10_999, expired::add);
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(11_000, expired::add);
+        assertThat(expired).containsExactly("near", "far");
+        assertThat(wheel.size()).isZero();
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}